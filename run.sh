@@ -8,7 +8,7 @@ mkdir -p bin
 
 # 컴파일
 echo "컴파일 중..."
-javac -d bin src/main/java/com/cas/yutnoriswing/model/*.java src/main/java/com/cas/yutnoriswing/view/*.java src/main/java/com/cas/yutnoriswing/controller/*.java src/main/java/com/cas/yutnoriswing/*.java src/main/java/module-info.java
+javac -d bin src/main/java/com/cas/yutnoriswing/model/*.java src/main/java/com/cas/yutnoriswing/view/*.java src/main/java/com/cas/yutnoriswing/controller/*.java src/main/java/com/cas/yutnoriswing/ai/*.java src/main/java/com/cas/yutnoriswing/log/*.java src/main/java/com/cas/yutnoriswing/*.java src/main/java/module-info.java
 
 if [ $? -eq 0 ]; then
     echo "컴파일 완료!"
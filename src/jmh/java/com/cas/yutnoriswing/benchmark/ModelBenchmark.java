@@ -0,0 +1,165 @@
+package com.cas.yutnoriswing.benchmark;
+
+import com.cas.yutnoriswing.model.Board;
+import com.cas.yutnoriswing.model.BoardNode;
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.GameStateCodec;
+import com.cas.yutnoriswing.model.Player;
+import com.cas.yutnoriswing.model.Token;
+import com.cas.yutnoriswing.model.TokenState;
+import com.cas.yutnoriswing.model.YutGameRules;
+import com.cas.yutnoriswing.model.YutRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//모델 핫 패스 마이크로벤치마크 (보드 각 수 × 플레이어당 말 개수)
+//국면은 시드 고정 난수로 말들을 보드 곳곳에 흩어 놓은 2인 게임이며, 이동 벤치마크는 매 호출마다 국면이 바뀐다.
+//말이 완주하거나 게임이 끝나면 처음 국면(GameStateCodec 스냅샷)으로 되돌린다.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelBenchmark {
+    private static final int SPREAD_MOVES_PER_TOKEN = 3;
+
+    @Param({"4", "8", "16", "32", "64"})
+    public int sides;
+
+    @Param({"2", "3", "4", "5"})
+    public int tokens;
+
+    private GameState gameState;
+    private GameStateCodec codec;
+    private long[] snapshot;
+    private Board board;
+    private List<Token> allTokens;
+    private BoardNode[] nodes;
+    private int[] steps;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameState = new GameState(sides, 2.0f, Arrays.asList("A", "B"), Arrays.asList(tokens, tokens));
+        gameState.startGame();
+        board = gameState.getBoard();
+
+        // 말마다 몇 번씩 앞으로 보내 국면을 만듦 (완주/승리는 피함)
+        YutRandom random = YutRandom.seeded(sides * 31L + tokens, false);
+        for (int round = 0; round < SPREAD_MOVES_PER_TOKEN; round++) {
+            for (Player player : gameState.getPlayers()) {
+                for (Token token : player.getTokens()) {
+                    if (token.getState() != TokenState.FINISHED && token.getTopMostToken() == token) {
+                        gameState.moveToken(token, random.nextYut(), options -> options.get(0));
+                    }
+                }
+            }
+        }
+        codec = new GameStateCodec(gameState);
+        snapshot = codec.encode(gameState);
+
+        allTokens = new ArrayList<>();
+        for (Player player : gameState.getPlayers()) {
+            allTokens.addAll(player.getTokens());
+        }
+        nodes = board.getNodes().toArray(new BoardNode[0]);
+        steps = new int[1024];
+        YutRandom.seeded(sides, false).nextYuts(steps, 0, steps.length);
+    }
+
+    private void restore() {
+        codec.decode(snapshot, gameState);
+    }
+
+    private Token nextMovableToken() {
+        for (int tries = 0; tries < allTokens.size(); tries++) {
+            Token token = allTokens.get(cursor++ % allTokens.size()).getTopMostToken();
+            if (token.getState() != TokenState.FINISHED) {
+                return token;
+            }
+        }
+        restore();
+        return allTokens.get(0).getTopMostToken();
+    }
+
+    // 전진 이동 (GameState.moveToken → YutGameRules.moveToken → calculateTargetNode, 잡기/업기 포함)
+    @Benchmark
+    public YutGameRules.MoveResult moveToken() {
+        Token token = nextMovableToken();
+        YutGameRules.MoveResult result = gameState.moveToken(token, steps[cursor & 1023], null);
+        if (result.isFinished() && gameState.checkVictory(token.getOwner())) {
+            restore();
+        }
+        return result;
+    }
+
+    // 같은 이동을 결과 객체 없이 (GameState.applyMove → 상태 비트, gc 프로파일러 할당률이 0이어야 함)
+    @Benchmark
+    public int applyMove() {
+        Token token = nextMovableToken();
+        int status = gameState.applyMove(token, steps[cursor & 1023]);
+        if (YutGameRules.isFinished(status) && gameState.checkVictory(token.getOwner())) {
+            restore();
+        }
+        return status;
+    }
+
+    // 탐색처럼 움직였다가 바로 되돌림 (GameState.makeMove/unmakeMove, 국면이 바뀌지 않고 할당률이 0이어야 함)
+    @Benchmark
+    public int makeUnmakeMove() {
+        Token token = nextMovableToken();
+        int status = gameState.makeMove(token, steps[cursor & 1023]);
+        gameState.unmakeMove();
+        return status;
+    }
+
+    // 빽도 한 칸 뒤 도 한 칸 (GameState.moveToken → moveTokenBackward, 제자리 근처를 오가므로 국면이 퍼지지 않음)
+    @Benchmark
+    public void moveTokenBackward(Blackhole blackhole) {
+        Token token = nextMovableToken();
+        if (token.getState() == TokenState.ACTIVE) {
+            blackhole.consume(gameState.moveToken(token, -1, null));
+        }
+        blackhole.consume(gameState.moveToken(token, 1, null));
+    }
+
+    @Benchmark
+    public void getTopMostToken(Blackhole blackhole) {
+        for (Token token : allTokens) {
+            blackhole.consume(token.getTopMostToken());
+        }
+    }
+
+    @Benchmark
+    public BoardNode findPreviousNode() {
+        return board.findPreviousNode(nodes[cursor++ % nodes.length]);
+    }
+
+    @Benchmark
+    public List<Token> getMovableTokens() {
+        return gameState.getMovableTokens(steps[cursor++ & 1023]);
+    }
+
+    @Benchmark
+    public Board boardConstruction() {
+        return new Board(sides, 2.0f);
+    }
+}
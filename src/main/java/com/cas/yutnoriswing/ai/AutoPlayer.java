@@ -0,0 +1,71 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.BoardNode;
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.Token;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+//사람 대신 결정을 내리는 자동 플레이어 (말 선택, 분기 선택, 윷 결과 순서)
+//정책 세 개를 조합해서 만들고, 상태가 없으므로 여러 게임/스레드에서 함께 써도 된다.
+public class AutoPlayer implements ComputerPlayer {
+    private final String name;
+    private final TokenPolicy tokenPolicy;
+    private final BranchPolicy branchPolicy;
+    private final ThrowOrderPolicy throwOrderPolicy;
+
+    public AutoPlayer(String name, TokenPolicy tokenPolicy, BranchPolicy branchPolicy, ThrowOrderPolicy throwOrderPolicy) {
+        this.name = name;
+        this.tokenPolicy = tokenPolicy;
+        this.branchPolicy = branchPolicy;
+        this.throwOrderPolicy = throwOrderPolicy;
+    }
+
+    //모든 결정을 무작위로
+    public static AutoPlayer random() {
+        return new AutoPlayer("무작위", TokenPolicy.random(), BranchPolicy.random(), ThrowOrderPolicy.random());
+    }
+
+    //업힌 말 우선, 지름길 우선, 큰 결과부터
+    public static AutoPlayer simple() {
+        return new AutoPlayer("단순", TokenPolicy.largestStack(), BranchPolicy.shortcut(), ThrowOrderPolicy.largestFirst());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Integer> orderThrows(GameState gameState, List<Integer> results, RandomGenerator random) {
+        return throwOrderPolicy.order(gameState, results, random);
+    }
+
+    public Token selectToken(GameState gameState, List<Token> movableTokens, int steps, RandomGenerator random) {
+        return tokenPolicy.selectToken(gameState, movableTokens, steps, random);
+    }
+
+    public BoardNode selectBranch(GameState gameState, Token token, List<BoardNode> options, RandomGenerator random) {
+        return branchPolicy.selectBranch(gameState, token, options, random);
+    }
+
+    //컨트롤러용: 순서 정책으로 정한 첫 번째 (움직일 말이 있는) 결과로 한 수
+    @Override
+    public Move chooseMove(GameState gameState, List<Integer> remainingResults, boolean caughtThisTurn) {
+        RandomGenerator random = ThreadLocalRandom.current();
+        for (int steps : orderThrows(gameState, remainingResults, random)) {
+            List<Token> movable = gameState.getMovableTokens(steps);
+            if (movable.isEmpty()) {
+                continue;
+            }
+            Token token = selectToken(gameState, movable, steps, random).getTopMostToken();
+            BoardNode position = gameState.getTokenPositionManager().getTokenPosition(token);
+            BoardNode branch = null;
+            if (steps > 0 && gameState.getBoard().isBranchNode(position)) {
+                branch = selectBranch(gameState, token, position.getNextNodes(), random);
+            }
+            return new Move(steps, token, branch);
+        }
+        return null;
+    }
+}
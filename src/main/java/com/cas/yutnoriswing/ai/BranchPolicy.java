@@ -0,0 +1,40 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.BoardNode;
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.NodeKind;
+import com.cas.yutnoriswing.model.Token;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+//자동 플레이: 분기점에서 갈 길 선택 (사람의 InGameView.selectPath 대신)
+@FunctionalInterface
+public interface BranchPolicy {
+    BoardNode selectBranch(GameState gameState, Token token, List<BoardNode> options, RandomGenerator random);
+
+    static BranchPolicy random() {
+        return (gameState, token, options, random) -> options.get(random.nextInt(options.size()));
+    }
+
+    //지름길 우선: 모서리에서는 중앙으로, Center에서는 도착점에 가장 가까운 쪽으로 나가는 길
+    //(ToCenter0은 마지막 모서리로, 그 외에는 번호가 클수록 뒤쪽 모서리로 나감)
+    static BranchPolicy shortcut() {
+        return (gameState, token, options, random) -> {
+            BoardNode best = options.get(0);
+            for (BoardNode option : options) {
+                if (option.getKind() != NodeKind.TO_CENTER) continue;
+                if (option.getPathPosition() == 1) {
+                    return option; // 모서리에서 중앙으로 들어가는 길
+                }
+                if (option.getSideIndex() == 0) {
+                    return option;
+                }
+                if (best.getKind() != NodeKind.TO_CENTER || option.getSideIndex() > best.getSideIndex()) {
+                    best = option;
+                }
+            }
+            return best;
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.BoardNode;
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.Token;
+
+import java.util.List;
+
+//컨트롤러에서 사람 대신 수를 두는 컴퓨터 플레이어
+//윷 결과 순서를 미리 정하지 않고, 이동할 때마다 남은 결과 중 하나와 말, 분기를 고른다.
+public interface ComputerPlayer {
+    //남은 윷 결과로 둘 다음 수 (남은 결과로 움직일 수 있는 말이 없으면 null)
+    //caughtThisTurn: 이번 턴에 이미 잡았는지 (턴이 끝난 뒤 한 번 더 던지는지 판단용)
+    Move chooseMove(GameState gameState, List<Integer> remainingResults, boolean caughtThisTurn);
+
+    //컴퓨터 플레이어가 고른 수
+    final class Move {
+        private final int steps;
+        private final Token token;
+        private final BoardNode branch; // 분기점이 아니면 null
+
+        public Move(int steps, Token token, BoardNode branch) {
+            this.steps = steps;
+            this.token = token;
+            this.branch = branch;
+        }
+
+        public int getSteps() { return steps; }
+        public Token getToken() { return token; }
+        public BoardNode getBranch() { return branch; }
+    }
+}
@@ -0,0 +1,456 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.GameStateCodec;
+import com.cas.yutnoriswing.model.ThrowDistribution;
+import com.cas.yutnoriswing.model.YutGameRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+//깊이 제한 기대최대(expectimax) 탐색 컴퓨터 플레이어
+//- 값은 항상 탐색을 시작한 플레이어 입장의 [0, 1] (승리 1, 패배 0), 상대들은 모두 값을 낮추는 쪽으로 둔다고 가정 (paranoid)
+//- 우연 노드(턴 시작 윷 던지기)는 ThrowDistribution(rollYut 분포)의 한 턴 결과 묶음으로 펼쳐 가중 평균
+//- Star1: 값의 범위 [0, 1]을 이용해 우연 노드의 자식마다 탐색 창을 좁히고 기대값이 창을 벗어나면 중단
+//- Star2: 자식들을 먼저 첫 번째 수만 탐색(probe)해서 얻은 한계로 더 일찍 중단
+//- 반복 심화 + 전치표(TranspositionTable)의 최선의 수 / 한 수 뒤 정적 평가로 수 정렬
+//깊이는 말을 한 번 움직이는 것을 1로 센다 (윷 던지기는 깊이를 쓰지 않음)
+public class ExpectimaxPlayer implements ComputerPlayer {
+    private static final double LOSS = 0.0;
+    private static final double WIN = 1.0;
+    private static final int MAX_THROW_CHAIN = 3;      // 한 턴에 펼칠 최대 던지기 수 (넘는 경우는 잘린 묶음으로 그대로 둠)
+    private static final int TIME_CHECK_INTERVAL = 1024;
+
+    // 자식 종류
+    private static final int TERMINAL = 0;
+    private static final int DECISION = 1;
+    private static final int CHANCE = 2;
+
+    private static final double[] OUTCOME_PROBABILITIES;
+    private static final int[][] OUTCOMES; // 한 턴의 결과 묶음 (정렬됨), 확률이 큰 순서
+
+    static {
+        ThrowDistribution distribution = ThrowDistribution.of(false, MAX_THROW_CHAIN);
+        OUTCOMES = new int[distribution.size()][];
+        OUTCOME_PROBABILITIES = new double[distribution.size()];
+        for (int i = 0; i < distribution.size(); i++) {
+            OUTCOMES[i] = distribution.getOutcome(i);
+            OUTCOME_PROBABILITIES[i] = distribution.getProbability(i);
+        }
+    }
+
+    private final int maxDepth;
+    private final long timeLimitMillis; // 0 이하면 제한 없음
+    private final boolean pruning;      // false면 가지치기 없는 순수 기대최대 탐색 (비교용)
+    private final TranspositionTable table;
+
+    // 탐색 중 상태
+    private SearchBoard board;
+    private GameStateCodec codec;
+    private ProgressEvaluator evaluator;
+    private int rootPlayer;
+    private long deadline;
+    private boolean aborted;
+    private int rootBestAction;
+
+    private long lastNodes;
+    private int lastDepth;
+    private double lastValue;
+
+    public ExpectimaxPlayer(int maxDepth, long timeLimitMillis) {
+        this(maxDepth, timeLimitMillis, true, 1 << 18);
+    }
+
+    public ExpectimaxPlayer(int maxDepth, long timeLimitMillis, boolean pruning, int tableCapacity) {
+        if (maxDepth < 1 || maxDepth > TranspositionTable.MAX_DEPTH) {
+            throw new IllegalArgumentException("탐색 깊이가 올바르지 않습니다: " + maxDepth);
+        }
+        this.maxDepth = maxDepth;
+        this.timeLimitMillis = timeLimitMillis;
+        this.pruning = pruning;
+        this.table = new TranspositionTable(tableCapacity);
+    }
+
+    //마지막 탐색에서 방문한 노드 수
+    public long getLastNodes() {
+        return lastNodes;
+    }
+
+    //마지막 탐색에서 끝까지 마친 깊이
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    //마지막 탐색에서 고른 수의 값 (시작한 플레이어 입장의 승리 기대값 추정)
+    public double getLastValue() {
+        return lastValue;
+    }
+
+    @Override
+    public synchronized Move chooseMove(GameState gameState, List<Integer> remainingResults, boolean caughtThisTurn) {
+        codec = new GameStateCodec(gameState);
+        board = new SearchBoard(gameState, codec);
+        evaluator = new ProgressEvaluator(gameState.getBoard().getTopology(), codec);
+        rootPlayer = gameState.getPlayers().indexOf(gameState.getCurrentPlayer());
+
+        long[] state = codec.encode(gameState);
+        int[] remaining = SearchBoard.sorted(remainingResults);
+        int[] actions = board.legalActions(state, remaining);
+        lastNodes = 0;
+        lastDepth = 0;
+        if (actions.length == 0) {
+            return null;
+        }
+        if (actions.length == 1) {
+            return SearchBoard.toMove(gameState, actions[0]);
+        }
+
+        table.newSearch();
+        deadline = timeLimitMillis > 0 ? System.nanoTime() + timeLimitMillis * 1_000_000L : Long.MAX_VALUE;
+        aborted = false;
+        int bestAction = actions[0];
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            double value = decision(state, remaining, caughtThisTurn, depth, LOSS, WIN, 0, false);
+            if (aborted) {
+                break; // 끝내지 못한 깊이의 결과는 버림
+            }
+            bestAction = rootBestAction;
+            lastDepth = depth;
+            lastValue = value;
+        }
+        return SearchBoard.toMove(gameState, bestAction);
+    }
+
+    // ===== 탐색 =====
+
+    // 결정 노드: 차례인 플레이어가 남은 결과 하나로 말을 움직임 (probe면 정렬된 첫 번째 수만 탐색)
+    private double decision(long[] state, int[] remaining, boolean caught, int depth,
+                            double alpha, double beta, int ply, boolean probe) {
+        if (countNode()) {
+            return LOSS;
+        }
+        if (depth <= 0) {
+            return evaluate(state);
+        }
+        boolean maximizing = codec.getCurrentPlayer(state) == rootPlayer;
+
+        long key = key(state, remaining, caught);
+        int ttMove = TranspositionTable.NO_MOVE;
+        long data = table.probe(key);
+        if (data != TranspositionTable.MISS) {
+            ttMove = TranspositionTable.moveOf(data);
+            if (ply > 0 && pruning && TranspositionTable.depthOf(data) >= depth) {
+                double stored = TranspositionTable.valueOf(data);
+                int bound = TranspositionTable.boundOf(data);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && stored >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && stored <= alpha)) {
+                    return clamp(stored, alpha, beta);
+                }
+            }
+        }
+
+        List<Child> children = expand(state, remaining, caught);
+        order(children, ttMove, maximizing);
+
+        double originalAlpha = alpha;
+        double originalBeta = beta;
+        int bestAction = children.get(0).action;
+        if (ply == 0) {
+            rootBestAction = bestAction;
+        }
+        int count = probe ? 1 : children.size();
+        for (int i = 0; i < count; i++) {
+            Child child = children.get(i);
+            double value = pruning
+                    ? childValue(child, depth - 1, alpha, beta, ply + 1)
+                    : childValue(child, depth - 1, LOSS, WIN, ply + 1);
+            if (aborted) {
+                return LOSS;
+            }
+            if (maximizing) {
+                if (value > alpha) {
+                    alpha = value;
+                    bestAction = child.action;
+                    if (ply == 0) {
+                        rootBestAction = bestAction;
+                    }
+                }
+            } else if (value < beta) {
+                beta = value;
+                bestAction = child.action;
+            }
+            if (pruning && alpha >= beta) {
+                break;
+            }
+        }
+
+        double result = maximizing ? Math.min(alpha, originalBeta) : Math.max(beta, originalAlpha);
+        if (!probe) {
+            int bound = result <= originalAlpha ? TranspositionTable.UPPER_BOUND
+                    : result >= originalBeta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+            table.store(key, depth, bound, (float) result, bestAction);
+        }
+        return result;
+    }
+
+    private double childValue(Child child, int depth, double alpha, double beta, int ply) {
+        switch (child.kind) {
+            case TERMINAL:
+                return child.score;
+            case DECISION:
+                return decision(child.state, child.remaining, child.caught, depth, alpha, beta, ply, false);
+            default:
+                return chance(child.state, depth, alpha, beta, ply);
+        }
+    }
+
+    // 우연 노드: 턴을 시작하는 플레이어가 윷을 던짐 (Star1/Star2)
+    private double chance(long[] state, int depth, double alpha, double beta, int ply) {
+        if (countNode()) {
+            return LOSS;
+        }
+        if (depth <= 0) {
+            return evaluate(state);
+        }
+        long key = key(state, null, false);
+        if (pruning) {
+            long data = table.probe(key);
+            if (data != TranspositionTable.MISS && TranspositionTable.depthOf(data) >= depth) {
+                double stored = TranspositionTable.valueOf(data);
+                int bound = TranspositionTable.boundOf(data);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && stored >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && stored <= alpha)) {
+                    return clamp(stored, alpha, beta);
+                }
+            }
+        }
+
+        // 결과 묶음마다 자식 국면 (움직일 수 없는 묶음이면 턴을 넘긴 국면)
+        int outcomeCount = OUTCOMES.length;
+        Child[] children = new Child[outcomeCount];
+        codec.decode(state, board.scratch);
+        long[] passed = null;
+        for (int i = 0; i < outcomeCount; i++) {
+            Child child = new Child();
+            if (board.hasMovable(OUTCOMES[i])) {
+                child.kind = DECISION;
+                child.state = state;
+                child.remaining = OUTCOMES[i];
+            } else {
+                if (passed == null) {
+                    board.scratch.nextPlayer();
+                    passed = codec.encode(board.scratch);
+                    codec.decode(state, board.scratch);
+                }
+                child.kind = CHANCE;
+                child.state = passed;
+            }
+            children[i] = child;
+        }
+
+        if (!pruning) {
+            double expected = 0;
+            for (int i = 0; i < outcomeCount; i++) {
+                expected += OUTCOME_PROBABILITIES[i] * outcomeValue(children[i], depth, LOSS, WIN, ply);
+                if (aborted) {
+                    return LOSS;
+                }
+            }
+            table.store(key, depth, TranspositionTable.EXACT, (float) expected, TranspositionTable.NO_MOVE);
+            return expected;
+        }
+
+        // 자식 값의 하한/상한 (던지는 플레이어가 최대화 쪽이면 probe로 하한, 최소화 쪽이면 상한을 얻음)
+        boolean maximizing = codec.getCurrentPlayer(state) == rootPlayer;
+        double[] lower = new double[outcomeCount];
+        double[] upper = new double[outcomeCount];
+        Arrays.fill(lower, LOSS);
+        Arrays.fill(upper, WIN);
+
+        // Star2: 각 자식의 첫 번째 수만 탐색해서 한계를 구하고, 그것만으로 창을 벗어나면 중단
+        double boundSum = 0;
+        double restProbability = 1.0;
+        for (int i = 0; i < outcomeCount; i++) {
+            Child child = children[i];
+            double p = OUTCOME_PROBABILITIES[i];
+            restProbability -= p;
+            if (child.kind != DECISION) {
+                boundSum += p * (maximizing ? LOSS : WIN);
+                continue;
+            }
+            if (maximizing) {
+                double childBeta = (beta - boundSum - LOSS * restProbability) / p;
+                double probed = decision(child.state, child.remaining, false, depth, LOSS, Math.min(WIN, childBeta), ply + 1, true);
+                if (aborted) {
+                    return LOSS;
+                }
+                if (probed >= childBeta) {
+                    table.store(key, depth, TranspositionTable.LOWER_BOUND, (float) beta, TranspositionTable.NO_MOVE);
+                    return beta;
+                }
+                lower[i] = probed;
+            } else {
+                double childAlpha = (alpha - boundSum - WIN * restProbability) / p;
+                double probed = decision(child.state, child.remaining, false, depth, Math.max(LOSS, childAlpha), WIN, ply + 1, true);
+                if (aborted) {
+                    return LOSS;
+                }
+                if (probed <= childAlpha) {
+                    table.store(key, depth, TranspositionTable.UPPER_BOUND, (float) alpha, TranspositionTable.NO_MOVE);
+                    return alpha;
+                }
+                upper[i] = probed;
+            }
+            boundSum += p * (maximizing ? lower[i] : upper[i]);
+        }
+
+        // Star1: 앞 자식들의 값과 뒤 자식들의 한계로 각 자식의 탐색 창을 계산
+        double lowerRest = 0;
+        double upperRest = 0;
+        for (int i = 0; i < outcomeCount; i++) {
+            lowerRest += OUTCOME_PROBABILITIES[i] * lower[i];
+            upperRest += OUTCOME_PROBABILITIES[i] * upper[i];
+        }
+        double searched = 0;
+        for (int i = 0; i < outcomeCount; i++) {
+            double p = OUTCOME_PROBABILITIES[i];
+            lowerRest -= p * lower[i];
+            upperRest -= p * upper[i];
+            double childAlpha = (alpha - searched - upperRest) / p;
+            double childBeta = (beta - searched - lowerRest) / p;
+            double value = outcomeValue(children[i], depth,
+                    Math.max(lower[i], childAlpha), Math.min(upper[i], childBeta), ply);
+            if (aborted) {
+                return LOSS;
+            }
+            if (value >= childBeta) {
+                table.store(key, depth, TranspositionTable.LOWER_BOUND, (float) beta, TranspositionTable.NO_MOVE);
+                return beta;
+            }
+            if (value <= childAlpha) {
+                table.store(key, depth, TranspositionTable.UPPER_BOUND, (float) alpha, TranspositionTable.NO_MOVE);
+                return alpha;
+            }
+            searched += p * value;
+        }
+        table.store(key, depth, TranspositionTable.EXACT, (float) searched, TranspositionTable.NO_MOVE);
+        return searched;
+    }
+
+    // 결과 묶음 하나의 값 (턴을 넘기는 경우는 수를 하나 둔 것으로 보고 깊이를 줄임)
+    private double outcomeValue(Child child, int depth, double alpha, double beta, int ply) {
+        if (child.kind == DECISION) {
+            return decision(child.state, child.remaining, false, depth, alpha, beta, ply + 1, false);
+        }
+        return chance(child.state, depth - 1, alpha, beta, ply + 1);
+    }
+
+    // 노드 수를 세고 가끔 시간 제한 확인 (넘었으면 true)
+    private boolean countNode() {
+        if (aborted) {
+            return true;
+        }
+        if (++lastNodes % TIME_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+            aborted = true;
+        }
+        return aborted;
+    }
+
+    private static double clamp(double value, double alpha, double beta) {
+        return Math.max(alpha, Math.min(beta, value));
+    }
+
+    // ===== 자식 생성과 수 정렬 =====
+
+    private static final class Child {
+        int action;
+        int kind;
+        long[] state;
+        int[] remaining;
+        boolean caught;
+        double score; // 정적 평가 (종료면 승패 값)
+    }
+
+    private List<Child> expand(long[] state, int[] remaining, boolean caught) {
+        int[] actions = board.legalActions(state, remaining);
+        List<Child> children = new ArrayList<>(actions.length);
+        for (int action : actions) {
+            Child child = new Child();
+            child.action = action;
+            int status = board.play(state, action);
+            int mover = board.currentPlayerIndex();
+            if (board.scratch.checkVictory(board.scratch.getCurrentPlayer())) {
+                child.kind = TERMINAL;
+                child.score = mover == rootPlayer ? WIN : LOSS;
+                children.add(child);
+                continue;
+            }
+            child.remaining = SearchBoard.removeOne(remaining, SearchBoard.stepsOf(action));
+            child.caught = caught || YutGameRules.isCaught(status);
+            if (board.hasMovable(child.remaining)) {
+                child.kind = DECISION;
+            } else {
+                child.kind = CHANCE;
+                child.remaining = null;
+                if (!child.caught) {
+                    board.scratch.nextPlayer();
+                }
+            }
+            child.state = codec.encode(board.scratch);
+            child.score = evaluate(child.state);
+            children.add(child);
+        }
+        return children;
+    }
+
+    // 전치표의 최선의 수 먼저, 나머지는 한 수 뒤 정적 평가가 좋은 순서
+    private static void order(List<Child> children, int ttMove, boolean maximizing) {
+        children.sort((a, b) -> {
+            if (a.action == ttMove) return -1;
+            if (b.action == ttMove) return 1;
+            return maximizing ? Double.compare(b.score, a.score) : Double.compare(a.score, b.score);
+        });
+    }
+
+    // ===== 정적 평가 =====
+
+    // 시작한 플레이어의 진행도와 가장 앞선 상대의 진행도 차이를 (0, 1)로 변환
+    private double evaluate(long[] state) {
+        double mine = 0;
+        double bestOpponent = 0;
+        for (int p = 0; p < codec.getPlayerCount(); p++) {
+            double progress = evaluator.progress(state, p);
+            if (p == rootPlayer) {
+                mine = progress;
+            } else {
+                bestOpponent = Math.max(bestOpponent, progress);
+            }
+        }
+        return 0.5 + 0.45 * (mine - bestOpponent);
+    }
+
+    // 전치표 키: 시작한 플레이어 + 압축 국면 + 남은 결과 + 잡았는지 (우연 노드는 remaining = null)
+    //값이 시작한 플레이어 입장이므로 다른 플레이어로 탐색할 때 남은 값을 쓰지 않도록 키에 포함
+    private long key(long[] state, int[] remaining, boolean caught) {
+        long h = remaining == null ? 0x632BE59BD9B4E019L : (caught ? 0x9E3779B97F4A7C15L : 0x85EBCA77C2B2AE63L);
+        h = mix(h ^ rootPlayer);
+        for (long word : state) {
+            h = mix(h ^ word);
+        }
+        if (remaining != null) {
+            for (int steps : remaining) {
+                h = mix(h ^ (steps + 2));
+            }
+        }
+        return h;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
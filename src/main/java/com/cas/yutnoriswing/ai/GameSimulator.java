@@ -0,0 +1,162 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.BoardNode;
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.Player;
+import com.cas.yutnoriswing.model.Token;
+import com.cas.yutnoriswing.model.YutGameRules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.random.RandomGenerator;
+
+//Swing 없이 게임 한 판을 끝까지 진행하는 클래스
+//턴 진행 순서는 GameController.rollingYut과 같다. (윷/모면 다시 던지기 → 순서 정하기 → 이동 → 잡으면 한 번 더)
+public class GameSimulator {
+    public static final int NO_WINNER = -1;
+
+    private final int sides;
+    private final List<Integer> tokenCounts;
+    private final List<AutoPlayer> seats;
+    private final int maxTurns;
+    private final ToIntFunction<RandomGenerator> yutThrower; // 윷 한 번 던지기 (기본: 게임과 같은 확률)
+
+    public GameSimulator(int sides, List<Integer> tokenCounts, List<AutoPlayer> seats, int maxTurns) {
+        this(sides, tokenCounts, seats, maxTurns, YutGameRules::rollYut);
+    }
+
+    public GameSimulator(int sides, List<Integer> tokenCounts, List<AutoPlayer> seats, int maxTurns,
+                         ToIntFunction<RandomGenerator> yutThrower) {
+        if (seats.size() < 2 || seats.size() != tokenCounts.size()) {
+            throw new IllegalArgumentException("플레이어는 2명 이상이고 플레이어마다 말 개수가 있어야 합니다.");
+        }
+        this.sides = sides;
+        this.tokenCounts = new ArrayList<>(tokenCounts);
+        this.seats = new ArrayList<>(seats);
+        this.maxTurns = maxTurns;
+        this.yutThrower = yutThrower;
+    }
+
+    public int getSeatCount() {
+        return seats.size();
+    }
+
+    public GameState newGame() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < seats.size(); i++) {
+            names.add("P" + (i + 1));
+        }
+        GameState gameState = new GameState(sides, 2.0f, names, tokenCounts);
+        gameState.startGame();
+        return gameState;
+    }
+
+    //한 판을 끝까지 진행 (maxTurns를 넘기면 승자 없이 종료)
+    public Result play(RandomGenerator random) {
+        return playFrom(newGame(), new ArrayList<>(), false, random);
+    }
+
+    //진행 중인 게임을 이어서 끝까지 진행 (탐색의 롤아웃용)
+    //remainingThrows: 현재 플레이어가 아직 쓰지 않은 윷 결과 (비어 있으면 다음 던지기부터), caught: 이번 턴에 이미 잡았는지
+    public Result playFrom(GameState gameState, List<Integer> remainingThrows, boolean caught, RandomGenerator random) {
+        List<Player> players = gameState.getPlayers();
+        Result result = new Result(players.size());
+
+        boolean midTurn = !remainingThrows.isEmpty();
+        while (!gameState.isGameEnded() && result.turns < maxTurns) {
+            Player player = gameState.getCurrentPlayer();
+            int seat = players.indexOf(player);
+            AutoPlayer agent = seats.get(seat);
+
+            List<Integer> throwsThisTurn = midTurn ? new ArrayList<>(remainingThrows) : throwYuts(random);
+            List<Integer> ordered = throwsThisTurn.size() == 1
+                    ? throwsThisTurn : agent.orderThrows(gameState, throwsThisTurn, random);
+            if (gameState.getGameEventListener() != null) {
+                recordThrows(gameState, midTurn ? List.of() : throwsThisTurn, ordered);
+            }
+            boolean caughtThisTurn = playMoves(gameState, agent, seat, ordered, random, result) || (midTurn && caught);
+            midTurn = false;
+            result.turns++;
+
+            if (gameState.isGameEnded()) {
+                result.winner = players.indexOf(gameState.getWinner());
+            } else if (!caughtThisTurn) {
+                gameState.nextPlayer();
+            }
+        }
+        return result;
+    }
+
+    // 게임 기록용: 이번 턴에 던진 결과와 사용할 순서
+    private static void recordThrows(GameState gameState, List<Integer> thrown, List<Integer> ordered) {
+        for (int steps : thrown) {
+            gameState.recordThrow(steps);
+        }
+        if (ordered.size() > 1) {
+            gameState.recordThrowOrder(ordered);
+        }
+    }
+
+    // 윷/모가 나오면 한 번 더 던짐
+    private List<Integer> throwYuts(RandomGenerator random) {
+        List<Integer> throwsThisTurn = new ArrayList<>();
+        int steps;
+        do {
+            steps = yutThrower.applyAsInt(random);
+            throwsThisTurn.add(steps);
+        } while (steps >= 4);
+        return throwsThisTurn;
+    }
+
+    // 정해진 순서대로 이동 (잡았으면 true)
+    private boolean playMoves(GameState gameState, AutoPlayer agent, int seat, List<Integer> ordered,
+                              RandomGenerator random, Result result) {
+        boolean caught = false;
+        for (int step : ordered) {
+            List<Token> movable = gameState.getMovableTokens(step);
+            if (movable.isEmpty()) {
+                continue;
+            }
+
+            Token selected = agent.selectToken(gameState, movable, step, random);
+            Token actual = selected.getTopMostToken();
+            BoardNode position = gameState.getTokenPositionManager().getTokenPosition(actual);
+            if (step > 0 && gameState.getBoard().isBranchNode(position)) {
+                actual.setNextBranchChoice(agent.selectBranch(gameState, actual, position.getNextNodes(), random));
+            }
+
+            int status = gameState.applyMove(selected, step);
+            if (!YutGameRules.isSuccess(status)) {
+                continue;
+            }
+            result.moves++;
+            if (YutGameRules.isCaught(status)) {
+                caught = true;
+                result.captures[seat]++;
+            }
+
+            if (gameState.checkVictory(gameState.getCurrentPlayer())) {
+                break;
+            }
+        }
+        return caught;
+    }
+
+    //게임 한 판의 결과
+    public static class Result {
+        private int winner = NO_WINNER;
+        private int turns;
+        private int moves;
+        private final int[] captures;
+
+        Result(int seatCount) {
+            this.captures = new int[seatCount];
+        }
+
+        public int getWinner() { return winner; }
+        public int getTurns() { return turns; }
+        public int getMoves() { return moves; }
+        public int getCaptures(int seat) { return captures[seat]; }
+    }
+}
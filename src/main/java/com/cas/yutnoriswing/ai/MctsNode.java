@@ -0,0 +1,49 @@
+package com.cas.yutnoriswing.ai;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+//MCTS 트리의 노드 (여러 탐색 스레드가 함께 씀)
+//결정 노드: 차례인 플레이어가 남은 윷 결과 하나로 말을 움직이는 단계 (자식 = 결과 × 말 × 분기)
+//우연 노드: 턴 시작, 윷을 던지는 단계 (자식 = 이번 턴에 나온 윷 결과 묶음)
+//노드 상태는 처음 방문할 때 부모 상태에서 계산하고, kind(volatile)를 마지막에 써서 다른 스레드에 공개한다.
+final class MctsNode {
+    static final int NONE = -1;
+
+    // 노드 종류
+    static final int NOT_READY = 0;
+    static final int DECISION = 1;
+    static final int CHANCE = 2;
+    static final int TERMINAL = 3;
+
+    final int action;       // 부모 결정 노드에서 이 노드로 온 선택 (SearchBoard 압축, 우연 노드의 자식이면 NONE)
+    final int mover;        // 그 선택을 한 플레이어 (보상은 이 플레이어 입장, 우연 노드의 자식이면 NONE)
+    final int[] rolledYuts; // 우연 노드의 자식일 때 나온 윷 결과 묶음
+
+    volatile int kind = NOT_READY;
+    long[] state;           // 압축된 게임 상태 (GameStateCodec)
+    int[] remaining;        // 결정 노드: 아직 쓰지 않은 윷 결과 (정렬됨)
+    boolean caught;         // 결정 노드: 이번 턴에 잡았는지
+    int toMove;             // 차례인 플레이어
+    int winner = NONE;      // 종료 노드의 승자 (턴 제한으로 끝나면 NONE)
+
+    int[] actions;                      // 결정 노드의 선택들
+    volatile MctsNode[] children;       // actions와 같은 순서
+    ConcurrentHashMap<Long, MctsNode> outcomes; // 우연 노드: 윷 결과 묶음 키 → 자식
+
+    final AtomicInteger visits = new AtomicInteger();
+    final AtomicLong reward = new AtomicLong(); // mover 입장의 보상 합 (MctsPlayer.REWARD_SCALE 단위)
+
+    MctsNode(int action, int mover) {
+        this.action = action;
+        this.mover = mover;
+        this.rolledYuts = null;
+    }
+
+    MctsNode(int[] rolledYuts) {
+        this.action = NONE;
+        this.mover = NONE;
+        this.rolledYuts = rolledYuts;
+    }
+}
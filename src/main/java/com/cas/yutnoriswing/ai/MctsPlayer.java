@@ -0,0 +1,368 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.GameStateCodec;
+import com.cas.yutnoriswing.model.Player;
+import com.cas.yutnoriswing.model.YutGameRules;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+import java.util.random.RandomGenerator;
+
+//병렬 몬테카를로 트리 탐색(MCTS) 컴퓨터 플레이어
+//- 윷 던지기(윷/모 연속 던지기, 빽도 포함)는 우연 노드, 결과 × 말 × 분기 선택은 결정 노드
+//- 트리 병렬화: 여러 스레드가 한 트리를 함께 탐색하고, 가상 손실(virtual loss)로 같은 경로에 몰리지 않게 함
+//- 루트 병렬화: 독립된 트리 여러 개를 탐색한 뒤 루트 선택별 방문 수를 합침
+//- 다음 수를 고를 때 이전 탐색 트리에서 같은 국면을 찾아 재사용
+//- 시간 또는 반복 횟수 제한
+public class MctsPlayer implements ComputerPlayer {
+    static final long REWARD_SCALE = 1_000_000L; // 승리 1판의 보상
+    private static final int VIRTUAL_LOSS = 3;
+    private static final double EXPLORATION = 1.0;
+    private static final int MAX_THROW_CHAIN = 20;      // 한 턴에 던지는 최대 횟수 (윷/모 연속)
+    private static final int ROLLOUT_MAX_TURNS = 2_000;
+    private static final int REUSE_SEARCH_LIMIT = 200_000; // 트리 재사용 시 살펴볼 최대 노드 수
+
+    private final long timeLimitMillis;  // 0 이하면 제한 없음
+    private final long iterationLimit;   // 0 이하면 제한 없음
+    private final int threads;
+    private final int rootTrees;
+    private final ToIntFunction<RandomGenerator> yutThrower;
+    private final AutoPlayer rolloutPlayer;
+    private final ForkJoinPool pool;
+    private final SplittableRandom seedRandom;
+
+    private MctsNode[] previousRoots; // 트리 재사용용
+    private long lastIterations;
+
+    public MctsPlayer(long timeLimitMillis, long iterationLimit, int threads, int rootTrees, long seed) {
+        this(timeLimitMillis, iterationLimit, threads, rootTrees, seed, YutGameRules::rollYut);
+    }
+
+    public MctsPlayer(long timeLimitMillis, long iterationLimit, int threads, int rootTrees, long seed,
+                      ToIntFunction<RandomGenerator> yutThrower) {
+        if (timeLimitMillis <= 0 && iterationLimit <= 0) {
+            throw new IllegalArgumentException("시간 또는 반복 횟수 제한이 필요합니다.");
+        }
+        if (threads < 1 || rootTrees < 1 || rootTrees > threads) {
+            throw new IllegalArgumentException("스레드 수는 1 이상, 트리 수는 1 ~ 스레드 수여야 합니다.");
+        }
+        this.timeLimitMillis = timeLimitMillis;
+        this.iterationLimit = iterationLimit;
+        this.threads = threads;
+        this.rootTrees = rootTrees;
+        this.yutThrower = yutThrower;
+        this.rolloutPlayer = AutoPlayer.random();
+        this.pool = new ForkJoinPool(threads);
+        this.seedRandom = new SplittableRandom(seed);
+    }
+
+    //모든 코어를 사용하고 시간으로만 제한하는 기본 설정
+    public static MctsPlayer withTimeLimit(long millis) {
+        return new MctsPlayer(millis, 0, Runtime.getRuntime().availableProcessors(), 1, System.nanoTime());
+    }
+
+    //마지막 탐색의 반복 횟수 (모든 트리 합)
+    public long getLastIterations() {
+        return lastIterations;
+    }
+
+    @Override
+    public synchronized Move chooseMove(GameState gameState, List<Integer> remainingResults, boolean caughtThisTurn) {
+        GameStateCodec codec = new GameStateCodec(gameState);
+        Workspace rootWorkspace = new Workspace(gameState, codec, seedRandom.split());
+
+        // 루트 국면
+        long[] state = codec.encode(gameState);
+        int[] remaining = SearchBoard.sorted(remainingResults);
+        int[] actions = rootWorkspace.board.legalActions(state, remaining);
+        if (actions.length == 0) {
+            return null;
+        }
+        if (actions.length == 1) {
+            previousRoots = null;
+            return SearchBoard.toMove(gameState, actions[0]);
+        }
+
+        MctsNode[] roots = new MctsNode[rootTrees];
+        for (int t = 0; t < rootTrees; t++) {
+            MctsNode reused = previousRoots == null ? null : findReusable(previousRoots[t], state, remaining, caughtThisTurn);
+            roots[t] = reused != null ? reused : newRoot(state, remaining, caughtThisTurn, gameState);
+        }
+
+        search(roots, gameState, codec);
+        previousRoots = roots;
+
+        // 루트 선택별 방문 수를 트리 전체에서 합쳐 가장 많이 방문한 선택
+        int bestAction = actions[0];
+        long bestVisits = -1;
+        for (int action : actions) {
+            long total = 0;
+            for (MctsNode root : roots) {
+                MctsNode child = childOf(root, action);
+                if (child != null) {
+                    total += child.visits.get();
+                }
+            }
+            if (total > bestVisits) {
+                bestVisits = total;
+                bestAction = action;
+            }
+        }
+        return SearchBoard.toMove(gameState, bestAction);
+    }
+
+    private MctsNode newRoot(long[] state, int[] remaining, boolean caught, GameState gameState) {
+        MctsNode root = new MctsNode(MctsNode.NONE, MctsNode.NONE);
+        root.state = state;
+        root.remaining = remaining;
+        root.caught = caught;
+        root.toMove = gameState.getPlayers().indexOf(gameState.getCurrentPlayer());
+        root.kind = MctsNode.DECISION;
+        return root;
+    }
+
+    private static MctsNode childOf(MctsNode node, int action) {
+        MctsNode[] children = node.children;
+        if (children == null) return null;
+        for (MctsNode child : children) {
+            if (child.action == action) return child;
+        }
+        return null;
+    }
+
+    // 이전 트리에서 같은 국면(같은 상태, 같은 남은 결과)의 결정 노드 찾기 (넓이 우선, 최대 REUSE_SEARCH_LIMIT개)
+    private static MctsNode findReusable(MctsNode oldRoot, long[] state, int[] remaining, boolean caught) {
+        ArrayDeque<MctsNode> queue = new ArrayDeque<>();
+        queue.add(oldRoot);
+        int examined = 0;
+        while (!queue.isEmpty() && examined++ < REUSE_SEARCH_LIMIT) {
+            MctsNode node = queue.poll();
+            int kind = node.kind;
+            if (kind == MctsNode.DECISION && node.caught == caught
+                    && Arrays.equals(node.remaining, remaining) && Arrays.equals(node.state, state)) {
+                return node;
+            }
+            MctsNode[] children = node.children;
+            if (children != null) {
+                Collections.addAll(queue, children);
+            }
+            if (kind == MctsNode.CHANCE) {
+                queue.addAll(node.outcomes.values());
+            }
+        }
+        return null;
+    }
+
+    // ===== 탐색 =====
+
+    private void search(MctsNode[] roots, GameState gameState, GameStateCodec codec) {
+        long deadline = timeLimitMillis > 0 ? System.nanoTime() + timeLimitMillis * 1_000_000L : Long.MAX_VALUE;
+        AtomicLong iterations = new AtomicLong();
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            MctsNode root = roots[t % rootTrees];
+            Workspace workspace = new Workspace(gameState, codec, seedRandom.split());
+            tasks.add(pool.submit(() -> {
+                List<MctsNode> path = new ArrayList<>();
+                while (System.nanoTime() < deadline) {
+                    long done = iterations.getAndIncrement();
+                    if (iterationLimit > 0 && done >= iterationLimit) break;
+                    iterate(root, workspace, path);
+                }
+            }));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+        lastIterations = iterationLimit > 0 ? Math.min(iterations.get(), iterationLimit) : iterations.get();
+    }
+
+    // 선택 → 확장 → 롤아웃 → 역전파 한 번
+    private void iterate(MctsNode root, Workspace workspace, List<MctsNode> path) {
+        path.clear();
+        path.add(root);
+        MctsNode node = root;
+        int winner;
+
+        while (true) {
+            if (node.kind == MctsNode.TERMINAL) {
+                winner = node.winner;
+                break;
+            }
+
+            MctsNode child = node.kind == MctsNode.CHANCE ? rollYuts(node, workspace) : select(node, workspace);
+            int before = child.visits.getAndAdd(VIRTUAL_LOSS);
+            path.add(child);
+            workspace.ensureReady(child, node);
+            node = child;
+
+            if (before == 0) {
+                // 처음 방문한 노드: 롤아웃으로 평가
+                winner = node.kind == MctsNode.TERMINAL ? node.winner : workspace.rollout(node);
+                break;
+            }
+        }
+
+        // 역전파 (가상 손실을 실제 방문 1회로 바꾸고 보상 추가)
+        root.visits.incrementAndGet();
+        long drawReward = REWARD_SCALE / workspace.playerCount;
+        for (int i = 1; i < path.size(); i++) {
+            MctsNode visited = path.get(i);
+            if (visited.mover != MctsNode.NONE) {
+                long gained = winner == MctsNode.NONE ? drawReward : (winner == visited.mover ? REWARD_SCALE : 0);
+                visited.reward.addAndGet(gained);
+            }
+            visited.visits.addAndGet(1 - VIRTUAL_LOSS);
+        }
+    }
+
+    // 결정 노드: UCT로 자식 선택 (방문하지 않은 자식 우선)
+    private MctsNode select(MctsNode node, Workspace workspace) {
+        MctsNode[] children = workspace.ensureExpanded(node);
+        double logParent = Math.log(Math.max(1, node.visits.get()));
+        MctsNode best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (MctsNode child : children) {
+            int n = child.visits.get();
+            if (n == 0) {
+                return child;
+            }
+            double score = (double) child.reward.get() / (REWARD_SCALE * n) + EXPLORATION * Math.sqrt(logParent / n);
+            if (score > bestScore) {
+                bestScore = score;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    // 우연 노드: 윷을 던져(윷/모면 계속) 나온 결과 묶음의 자식으로 이동 (던진 순서는 상관없으므로 정렬해서 구분)
+    private MctsNode rollYuts(MctsNode node, Workspace workspace) {
+        int[] rolled = new int[MAX_THROW_CHAIN];
+        int count = 0;
+        int steps;
+        do {
+            steps = yutThrower.applyAsInt(workspace.random);
+            rolled[count++] = steps;
+        } while (steps >= 4 && count < MAX_THROW_CHAIN);
+        int[] yuts = Arrays.copyOf(rolled, count);
+        Arrays.sort(yuts);
+
+        long key = 0;
+        for (int yut : yuts) {
+            key = key * 8 + (yut + 2);
+        }
+        return node.outcomes.computeIfAbsent(key, k -> new MctsNode(yuts));
+    }
+
+    // ===== 스레드별 작업 공간 (국면을 풀어서 수를 적용하는 GameState 사본) =====
+
+    private final class Workspace {
+        final SearchBoard board;
+        final GameState scratch;
+        final GameStateCodec codec;
+        final SplittableRandom random;
+        final GameSimulator simulator;
+        final int playerCount;
+
+        Workspace(GameState template, GameStateCodec codec, SplittableRandom random) {
+            this.board = new SearchBoard(template, codec);
+            this.scratch = board.scratch;
+            this.codec = codec;
+            this.random = random;
+            this.playerCount = template.getPlayers().size();
+            List<Integer> tokenCounts = new ArrayList<>();
+            for (Player player : template.getPlayers()) {
+                tokenCounts.add(player.getTokens().size());
+            }
+            this.simulator = new GameSimulator(template.getBoard().getSides(), tokenCounts,
+                    Collections.nCopies(playerCount, rolloutPlayer), ROLLOUT_MAX_TURNS, yutThrower);
+        }
+
+        MctsNode[] ensureExpanded(MctsNode node) {
+            MctsNode[] children = node.children;
+            if (children != null) return children;
+            synchronized (node) {
+                if (node.children == null) {
+                    int[] actions = board.legalActions(node.state, node.remaining);
+                    MctsNode[] created = new MctsNode[actions.length];
+                    for (int i = 0; i < actions.length; i++) {
+                        created[i] = new MctsNode(actions[i], node.toMove);
+                    }
+                    node.actions = actions;
+                    node.children = created;
+                }
+                return node.children;
+            }
+        }
+
+        // 부모 국면에서 이 노드의 상태 계산 (처음 방문할 때 한 번)
+        void ensureReady(MctsNode node, MctsNode parent) {
+            if (node.kind != MctsNode.NOT_READY) return;
+            synchronized (node) {
+                if (node.kind != MctsNode.NOT_READY) return;
+                if (parent.kind == MctsNode.CHANCE) {
+                    codec.decode(parent.state, scratch);
+                    settle(node, node.rolledYuts, false);
+                    return;
+                }
+
+                int status = board.play(parent.state, node.action);
+
+                if (scratch.checkVictory(scratch.getCurrentPlayer())) {
+                    node.state = codec.encode(scratch);
+                    node.winner = parent.toMove;
+                    node.toMove = parent.toMove;
+                    node.kind = MctsNode.TERMINAL;
+                    return;
+                }
+
+                int[] remaining = SearchBoard.removeOne(parent.remaining, SearchBoard.stepsOf(node.action));
+                settle(node, remaining, parent.caught || YutGameRules.isCaught(status));
+            }
+        }
+
+        // 남은 결과로 움직일 수 있으면 결정 노드, 아니면 턴을 넘긴 (잡았으면 같은 플레이어) 우연 노드
+        private void settle(MctsNode node, int[] remaining, boolean caught) {
+            if (board.hasMovable(remaining)) {
+                node.state = codec.encode(scratch);
+                node.remaining = remaining;
+                node.caught = caught;
+                node.toMove = board.currentPlayerIndex();
+                node.kind = MctsNode.DECISION;
+                return;
+            }
+            if (!caught) {
+                scratch.nextPlayer();
+            }
+            node.state = codec.encode(scratch);
+            node.toMove = board.currentPlayerIndex();
+            node.outcomes = new ConcurrentHashMap<>();
+            node.kind = MctsNode.CHANCE;
+        }
+
+        // 무작위 자동 플레이로 끝까지 진행한 승자 (턴 제한에 걸리면 NONE)
+        int rollout(MctsNode node) {
+            codec.decode(node.state, scratch);
+            List<Integer> remaining = new ArrayList<>();
+            if (node.kind == MctsNode.DECISION) {
+                for (int value : node.remaining) {
+                    remaining.add(value);
+                }
+            }
+            GameSimulator.Result result = simulator.playFrom(scratch, remaining, node.caught, random);
+            return result.getWinner() == GameSimulator.NO_WINNER ? MctsNode.NONE : result.getWinner();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.BoardTopology;
+import com.cas.yutnoriswing.model.GameStateCodec;
+
+import java.util.Arrays;
+
+//압축 국면에서 플레이어의 진행도를 구하는 정적 평가 (기대최대 탐색, 윷 순서 최적화에서 사용)
+//진행도 = 말마다 (완주 1, 대기 0, 보드 위는 지나온 비율)의 평균
+final class ProgressEvaluator {
+    private final GameStateCodec codec;
+    private final int[] distances;   // 노드 id → 완주까지 최소 칸 수
+    private final int lapLength;     // 출발점에서 완주까지 최소 칸 수
+
+    ProgressEvaluator(BoardTopology topology, GameStateCodec codec) {
+        this.codec = codec;
+        this.distances = computeDistances(topology);
+        this.lapLength = distances[topology.getStartId()] + 1;
+    }
+
+    // 노드 id별 완주까지 최소 칸 수 (분기는 유리한 쪽으로 간다고 가정)
+    private static int[] computeDistances(BoardTopology topology) {
+        int count = topology.getNodeCount();
+        int[] distances = new int[count];
+        Arrays.fill(distances, Integer.MAX_VALUE / 2);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int id = 0; id < count; id++) {
+                int best = topology.getSuccessorCount(id) == 0 ? 1 : distances[id];
+                for (int i = 0; i < topology.getSuccessorCount(id); i++) {
+                    best = Math.min(best, distances[topology.getSuccessor(id, i)] + 1);
+                }
+                if (best < distances[id]) {
+                    distances[id] = best;
+                    changed = true;
+                }
+            }
+        }
+        return distances;
+    }
+
+    int getLapLength() {
+        return lapLength;
+    }
+
+    //말 하나의 진행도 (플레이어 평균에 들어가기 전 값)
+    double tokenProgress(int location) {
+        if (location == GameStateCodec.FINISHED) {
+            return 1.0;
+        }
+        if (location == GameStateCodec.READY) {
+            return 0.0;
+        }
+        return (double) (lapLength - distances[location]) / lapLength;
+    }
+
+    double progress(long[] state, int player) {
+        int tokenCount = codec.getTokenCount(player);
+        double sum = 0;
+        for (int t = 0; t < tokenCount; t++) {
+            sum += tokenProgress(codec.getLocation(state, player, t));
+        }
+        return sum / tokenCount;
+    }
+}
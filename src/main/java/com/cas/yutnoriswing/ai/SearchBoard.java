@@ -0,0 +1,142 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.BoardNode;
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.GameStateCodec;
+import com.cas.yutnoriswing.model.Player;
+import com.cas.yutnoriswing.model.Token;
+import com.cas.yutnoriswing.model.TokenState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+//탐색용 보드: 압축 국면(long[])을 GameState 사본에 풀어 가능한 선택을 구하고 수를 적용한다 (스레드마다 하나)
+//선택(action)은 윷 결과 + 1 (3비트) | 말 번호 (3비트) | 분기 번호 + 1 로 압축한 int
+final class SearchBoard {
+    static final int NO_BRANCH = -1;
+
+    final GameState scratch;
+    final GameStateCodec codec;
+
+    SearchBoard(GameState template, GameStateCodec codec) {
+        List<String> names = new ArrayList<>();
+        List<Integer> tokenCounts = new ArrayList<>();
+        for (Player player : template.getPlayers()) {
+            names.add(player.getName());
+            tokenCounts.add(player.getTokens().size());
+        }
+        this.scratch = new GameState(template.getBoard().getSides(), template.getBoard().getRadius(), names, tokenCounts);
+        this.codec = codec;
+    }
+
+    static int action(int steps, int tokenIndex, int branch) {
+        return (steps + 1) | (tokenIndex << 3) | ((branch + 1) << 6);
+    }
+
+    static int stepsOf(int action) {
+        return (action & 0x7) - 1;
+    }
+
+    static int tokenOf(int action) {
+        return (action >>> 3) & 0x7;
+    }
+
+    static int branchOf(int action) {
+        return (action >>> 6) - 1;
+    }
+
+    // 국면의 가능한 선택들 (같은 그룹의 말, 대기 중인 말은 하나로 취급, remaining은 정렬되어 있어야 함)
+    int[] legalActions(long[] state, int[] remaining) {
+        codec.decode(state, scratch);
+        List<Token> tokens = scratch.getCurrentPlayer().getTokens();
+        List<Integer> actions = new ArrayList<>();
+        for (int i = 0; i < remaining.length; i++) {
+            int steps = remaining[i];
+            if (i > 0 && remaining[i - 1] == steps) continue;
+            boolean readyAdded = false;
+            for (Token token : scratch.getMovableTokens(steps)) {
+                if (token.isStacked()) continue; // 대표 말로 이미 포함
+                if (token.getState() == TokenState.READY) {
+                    if (readyAdded) continue;
+                    readyAdded = true;
+                }
+                int tokenIndex = tokens.indexOf(token);
+                BoardNode position = scratch.getTokenPositionManager().getTokenPosition(token);
+                if (steps > 0 && scratch.getBoard().isBranchNode(position)) {
+                    for (int b = 0; b < position.getNextNodes().size(); b++) {
+                        actions.add(action(steps, tokenIndex, b));
+                    }
+                } else {
+                    actions.add(action(steps, tokenIndex, NO_BRANCH));
+                }
+            }
+        }
+        int[] result = new int[actions.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = actions.get(i);
+        }
+        return result;
+    }
+
+    // 국면에 선택 적용하고 상태 비트(YutGameRules.MOVE_*) 반환 (적용한 결과는 scratch에 남음)
+    int play(long[] state, int action) {
+        codec.decode(state, scratch);
+        Token token = scratch.getCurrentPlayer().getTokens().get(tokenOf(action));
+        int branch = branchOf(action);
+        if (branch >= 0) {
+            BoardNode position = scratch.getTokenPositionManager().getTokenPosition(token.getTopMostToken());
+            token.getTopMostToken().setNextBranchChoice(position.getNextNodes().get(branch));
+        }
+        return scratch.applyMove(token, stepsOf(action));
+    }
+
+    // scratch 국면에서 남은 결과 중 하나라도 움직일 수 있는지
+    boolean hasMovable(int[] remaining) {
+        for (int steps : remaining) {
+            if (scratch.hasMovableToken(steps)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int currentPlayerIndex() {
+        return scratch.getPlayers().indexOf(scratch.getCurrentPlayer());
+    }
+
+    // 실제 게임 국면에서 선택을 ComputerPlayer.Move로 변환
+    static ComputerPlayer.Move toMove(GameState gameState, int action) {
+        Token token = gameState.getCurrentPlayer().getTokens().get(tokenOf(action));
+        BoardNode branch = null;
+        int branchIndex = branchOf(action);
+        if (branchIndex >= 0) {
+            BoardNode position = gameState.getTokenPositionManager().getTokenPosition(token.getTopMostToken());
+            branch = position.getNextNodes().get(branchIndex);
+        }
+        return new ComputerPlayer.Move(stepsOf(action), token, branch);
+    }
+
+    static int[] sorted(List<Integer> values) {
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        Arrays.sort(array);
+        return array;
+    }
+
+    static int[] removeOne(int[] values, int value) {
+        int[] result = new int[values.length - 1];
+        int j = 0;
+        boolean removed = false;
+        for (int v : values) {
+            if (!removed && v == value) {
+                removed = true;
+            } else {
+                result[j++] = v;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+package com.cas.yutnoriswing.ai;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+//여러 판의 게임을 fork-join 풀에서 병렬로 진행하고 결과를 모으는 클래스
+//판 범위를 반씩 나눌 때 난수 생성기도 split해서 작업마다 독립된 난수를 쓰므로,
+//같은 시드면 스레드 수나 실행 순서와 상관없이 같은 결과가 나온다.
+public class SimulationEngine {
+    private static final int GAMES_PER_TASK = 64; // 더 나누지 않고 한 스레드에서 연속으로 진행할 판 수
+
+    private final GameSimulator simulator;
+    private final ForkJoinPool pool;
+
+    public SimulationEngine(GameSimulator simulator) {
+        this(simulator, ForkJoinPool.commonPool());
+    }
+
+    public SimulationEngine(GameSimulator simulator, ForkJoinPool pool) {
+        this.simulator = simulator;
+        this.pool = pool;
+    }
+
+    public SimulationStats run(long games, long seed) {
+        long start = System.nanoTime();
+        SimulationStats stats = pool.invoke(new GamesTask(0, games, new SplittableRandom(seed)));
+        stats.setElapsedNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    private class GamesTask extends RecursiveTask<SimulationStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+        private final SplittableRandom random;
+
+        GamesTask(long from, long to, SplittableRandom random) {
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                SimulationStats stats = new SimulationStats(simulator.getSeatCount());
+                for (long i = from; i < to; i++) {
+                    stats.add(simulator.play(random));
+                }
+                return stats;
+            }
+
+            long mid = (from + to) >>> 1;
+            GamesTask left = new GamesTask(from, mid, random.split());
+            GamesTask right = new GamesTask(mid, to, random.split());
+            left.fork();
+            SimulationStats stats = right.compute();
+            stats.merge(left.join());
+            return stats;
+        }
+    }
+
+    //명령줄 실행: 판 수, 보드 각 수, 플레이어 수, 말 개수, [시드]
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        int sides = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int players = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int tokens = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : System.nanoTime();
+
+        List<AutoPlayer> seats = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            seats.add(AutoPlayer.simple());
+        }
+        GameSimulator simulator = new GameSimulator(sides, Collections.nCopies(players, tokens), seats, 10_000);
+
+        System.out.printf("%d각형 보드, %d명, 말 %d개, 시드 %d%n", sides, players, tokens, seed);
+        System.out.print(new SimulationEngine(simulator).run(games, seed));
+    }
+}
@@ -0,0 +1,87 @@
+package com.cas.yutnoriswing.ai;
+
+//여러 판의 시뮬레이션 결과를 모은 통계 (스레드마다 따로 모은 뒤 merge로 합침)
+public class SimulationStats {
+    private final int seatCount;
+    private long games;
+    private long unfinished;     // 턴 제한으로 승자 없이 끝난 판
+    private long totalTurns;
+    private long totalMoves;
+    private final long[] wins;
+    private final long[] captures;
+    private long elapsedNanos;
+
+    public SimulationStats(int seatCount) {
+        this.seatCount = seatCount;
+        this.wins = new long[seatCount];
+        this.captures = new long[seatCount];
+    }
+
+    void add(GameSimulator.Result result) {
+        games++;
+        totalTurns += result.getTurns();
+        totalMoves += result.getMoves();
+        if (result.getWinner() == GameSimulator.NO_WINNER) {
+            unfinished++;
+        } else {
+            wins[result.getWinner()]++;
+        }
+        for (int seat = 0; seat < seatCount; seat++) {
+            captures[seat] += result.getCaptures(seat);
+        }
+    }
+
+    void merge(SimulationStats other) {
+        games += other.games;
+        unfinished += other.unfinished;
+        totalTurns += other.totalTurns;
+        totalMoves += other.totalMoves;
+        for (int seat = 0; seat < seatCount; seat++) {
+            wins[seat] += other.wins[seat];
+            captures[seat] += other.captures[seat];
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getSeatCount() { return seatCount; }
+    public long getGames() { return games; }
+    public long getUnfinished() { return unfinished; }
+    public long getWins(int seat) { return wins[seat]; }
+    public long getCaptures(int seat) { return captures[seat]; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public double getWinRate(int seat) {
+        return games == 0 ? 0.0 : (double) wins[seat] / games;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0.0 : (double) totalTurns / games;
+    }
+
+    public double getAverageMoves() {
+        return games == 0 ? 0.0 : (double) totalMoves / games;
+    }
+
+    public double getAverageCaptures(int seat) {
+        return games == 0 ? 0.0 : (double) captures[seat] / games;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("게임 %d판 (%.0f판/초), 평균 %.1f턴, 평균 %.1f번 이동, 미완료 %d판%n",
+                games, getGamesPerSecond(), getAverageTurns(), getAverageMoves(), unfinished));
+        for (int seat = 0; seat < seatCount; seat++) {
+            sb.append(String.format("  %d번 자리: 승률 %.2f%%, 평균 잡기 %.2f번%n",
+                    seat + 1, getWinRate(seat) * 100, getAverageCaptures(seat)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,384 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.GameStateCodec;
+import com.cas.yutnoriswing.model.YutGameRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//윷/모로 여러 번 던진 결과를 쓸 최선의 순서와 말 배정을 찾는 탐색 (이번 턴이 끝난 국면만 평가)
+//- 같은 값의 결과는 한 번만 펼치고, 업힌 말/대기 중인 말은 SearchBoard처럼 하나로 취급
+//- 움직일 말이 없는 결과는 그냥 버리는 것으로 펼침 (빽도를 먼저 쓰면 버려지는 경우 등)
+//- 가지치기: 남은 결과로 얻을 수 있는 값의 상한이 지금까지 찾은 최선 이하면 더 펼치지 않음
+//- 메모: 다른 순서로 같은 국면 + 같은 남은 결과에 도달하면 저장한 값을 다시 씀
+//- 노드 수 제한을 넘으면 그때까지 찾은 최선을 반환 (화면에서 바로 쓸 수 있도록)
+//평가 = 내 진행도 - 가장 앞선 상대 진행도 (+ 이번 턴에 잡았으면 추가 던지기 몫), 이번 턴에 이기면 최고값
+//ComputerPlayer로 쓰면 최선의 계획의 첫 수를 둔다. 한 스레드 전용
+public class ThrowOrderOptimizer implements ComputerPlayer {
+    public static final int DEFAULT_MAX_NODES = 50_000;
+
+    private static final double WIN = 1000.0;
+    private static final double EXTRA_THROW_STEPS = 3.0; // 추가 던지기 한 번의 값 (칸 수, 평균 이동보다 조금 크게)
+    private static final int DISCARD_TOKEN = 7;          // 버린 결과를 나타내는 말 번호 (SearchBoard 선택의 3비트 중 남는 값)
+    private static final int RESULT_KINDS = 7;           // 빽도(-1) ~ 모(5) → 인덱스 steps + 1
+
+    private final int maxNodes;
+
+    // 탐색 중 상태
+    private SearchBoard board;
+    private GameStateCodec codec;
+    private ProgressEvaluator evaluator;
+    private int mover;
+    private double stepValue;     // 한 칸의 값 (1 / (한 바퀴 칸 수 × 말 수))
+    private final Map<Key, Entry> memo = new HashMap<>();
+    private final int[] counts = new int[RESULT_KINDS];
+    private int[] path;
+    private double best;
+    private int[] bestPath;
+    private long nodes;
+    private boolean aborted;
+
+    // 하위 탐색이 돌려주는 값의 종류와 수순
+    private boolean lastExact;
+    private int[] lastSuffix;
+
+    public ThrowOrderOptimizer() {
+        this(DEFAULT_MAX_NODES);
+    }
+
+    public ThrowOrderOptimizer(int maxNodes) {
+        if (maxNodes < 1) {
+            throw new IllegalArgumentException("노드 수 제한은 1 이상이어야 합니다: " + maxNodes);
+        }
+        this.maxNodes = maxNodes;
+    }
+
+    //탐색 결과: 윷 결과를 쓸 순서와 순서마다 둘 수 (버리는 결과는 말 없음)
+    public static final class Plan {
+        private final List<Integer> order;
+        private final int[] actions;
+        private final double value;
+        private final long nodes;
+        private final boolean complete;
+
+        private Plan(List<Integer> order, int[] actions, double value, long nodes, boolean complete) {
+            this.order = Collections.unmodifiableList(order);
+            this.actions = actions;
+            this.value = value;
+            this.nodes = nodes;
+            this.complete = complete;
+        }
+
+        public List<Integer> getOrder() { return order; }
+        public double getValue() { return value; }
+        public long getNodes() { return nodes; }
+
+        //노드 수 제한에 걸리지 않고 끝까지 탐색했는지
+        public boolean isComplete() { return complete; }
+
+        //"5,4,5,3" 형식 (순서 재배열 입력과 같은 형식)
+        public String describeOrder() {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < order.size(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(order.get(i));
+            }
+            return sb.toString();
+        }
+    }
+
+    public Plan optimize(GameState gameState, List<Integer> results) {
+        return optimize(gameState, results, false);
+    }
+
+    //caughtThisTurn: 이번 턴에 이미 잡았는지 (추가 던지기 몫을 이미 얻음)
+    public Plan optimize(GameState gameState, List<Integer> results, boolean caughtThisTurn) {
+        codec = new GameStateCodec(gameState);
+        board = new SearchBoard(gameState, codec);
+        evaluator = new ProgressEvaluator(gameState.getBoard().getTopology(), codec);
+        mover = gameState.getPlayers().indexOf(gameState.getCurrentPlayer());
+        stepValue = 1.0 / (evaluator.getLapLength() * codec.getTokenCount(mover));
+
+        Arrays.fill(counts, 0);
+        for (int steps : results) {
+            counts[steps + 1]++;
+        }
+        memo.clear();
+        path = new int[results.size()];
+        best = Double.NEGATIVE_INFINITY;
+        bestPath = new int[0];
+        nodes = 0;
+        aborted = false;
+
+        double value = search(codec.encode(gameState), results.size(), caughtThisTurn, 0);
+        memo.clear();
+        return toPlan(results, Math.max(value, best));
+    }
+
+    // 찾은 수순을 순서로 (노드 수 제한으로 끝까지 못 간 수순은 남은 결과를 큰 것부터 뒤에 붙임)
+    private Plan toPlan(List<Integer> results, double value) {
+        List<Integer> order = new ArrayList<>();
+        List<Integer> left = new ArrayList<>(results);
+        for (int action : bestPath) {
+            int steps = SearchBoard.stepsOf(action);
+            order.add(steps);
+            left.remove(Integer.valueOf(steps));
+        }
+        left.sort(Collections.reverseOrder());
+        order.addAll(left);
+        return new Plan(order, bestPath, value, nodes, !aborted);
+    }
+
+    @Override
+    public Move chooseMove(GameState gameState, List<Integer> remainingResults, boolean caughtThisTurn) {
+        Plan plan = optimize(gameState, remainingResults, caughtThisTurn);
+        for (int action : plan.actions) {
+            if (SearchBoard.tokenOf(action) != DISCARD_TOKEN) {
+                return SearchBoard.toMove(gameState, action);
+            }
+        }
+        // 계획에 수가 없으면 (노드 수 제한) 움직일 수 있는 첫 결과의 첫 수
+        for (int action : board.legalActions(codec.encode(gameState), SearchBoard.sorted(remainingResults))) {
+            return SearchBoard.toMove(gameState, action);
+        }
+        return null;
+    }
+
+    // ===== 탐색 =====
+
+    // 국면에서 남은 결과(counts)를 모두 썼을 때의 최선의 값
+    //끝까지 탐색한 값이면 lastExact = true와 lastSuffix(이 국면부터의 수순), 가지치기한 값이면 상한
+    private double search(long[] state, int remaining, boolean caught, int ply) {
+        nodes++;
+        if (remaining == 0) {
+            return leaf(evaluate(state, caught), ply);
+        }
+        Key key = new Key(state, pack(caught));
+        Entry entry = memo.get(key);
+        if (entry != null && (entry.exact || entry.value <= best)) {
+            if (entry.exact && entry.value > best) {
+                best = entry.value;
+                bestPath = Arrays.copyOf(path, ply + entry.suffix.length);
+                System.arraycopy(entry.suffix, 0, bestPath, ply, entry.suffix.length);
+            }
+            lastExact = entry.exact;
+            lastSuffix = entry.suffix;
+            return entry.value;
+        }
+        double bound = upperBound(state, remaining, caught);
+        if (bound <= best) {
+            lastExact = false;
+            return bound;
+        }
+        if (nodes > maxNodes) {
+            aborted = true;
+            double value = leaf(evaluate(state, caught), ply);
+            lastExact = false;
+            return value;
+        }
+
+        List<Child> children = expand(state, caught);
+        double value = Double.NEGATIVE_INFINITY;
+        boolean exact = true;
+        int[] suffix = null;
+        for (Child child : children) {
+            int kind = SearchBoard.stepsOf(child.action) + 1;
+            path[ply] = child.action;
+            double childValue;
+            if (child.won) {
+                childValue = leaf(WIN, ply + 1);
+            } else {
+                counts[kind]--;
+                childValue = search(child.state, remaining - 1, child.caught, ply + 1);
+                counts[kind]++;
+            }
+            boolean childExact = lastExact;
+            if (!childExact) {
+                exact = false;
+            }
+            if (childValue > value) {
+                value = childValue;
+                suffix = childExact ? prepend(child.action, lastSuffix) : null;
+            }
+        }
+
+        if (!aborted) {
+            memo.put(key, new Entry(value, exact, exact ? suffix : null));
+        }
+        lastExact = exact && suffix != null;
+        lastSuffix = suffix;
+        return value;
+    }
+
+    // 수순의 끝 (더 좋으면 최선으로 기록)
+    private double leaf(double value, int ply) {
+        if (value > best) {
+            best = value;
+            bestPath = Arrays.copyOf(path, ply);
+        }
+        lastExact = true;
+        lastSuffix = new int[0];
+        return value;
+    }
+
+    private static int[] prepend(int action, int[] suffix) {
+        int[] result = new int[suffix.length + 1];
+        result[0] = action;
+        System.arraycopy(suffix, 0, result, 1, suffix.length);
+        return result;
+    }
+
+    private static final class Child {
+        int action;
+        long[] state;
+        boolean caught;
+        boolean won;
+        double score; // 정렬용 정적 평가
+    }
+
+    // 남은 결과 값마다 가능한 수 (없으면 버리는 수 하나), 정적 평가가 좋은 순서로 정렬
+    private List<Child> expand(long[] state, boolean caught) {
+        List<Child> children = new ArrayList<>();
+        for (int kind = RESULT_KINDS - 1; kind >= 0; kind--) {
+            if (counts[kind] == 0) {
+                continue;
+            }
+            int steps = kind - 1;
+            int[] actions = board.legalActions(state, new int[]{steps});
+            if (actions.length == 0) {
+                Child child = new Child();
+                child.action = SearchBoard.action(steps, DISCARD_TOKEN, SearchBoard.NO_BRANCH);
+                child.state = state;
+                child.caught = caught;
+                child.score = evaluate(state, caught);
+                children.add(child);
+                continue;
+            }
+            for (int action : actions) {
+                Child child = new Child();
+                child.action = action;
+                int status = board.play(state, action);
+                child.state = codec.encode(board.scratch);
+                child.caught = caught || YutGameRules.isCaught(status);
+                child.won = codec.hasFinished(child.state, mover);
+                child.score = child.won ? WIN : evaluate(child.state, child.caught);
+                children.add(child);
+            }
+        }
+        children.sort((a, b) -> Double.compare(b.score, a.score));
+        return children;
+    }
+
+    // ===== 평가 =====
+
+    private double evaluate(long[] state, boolean caught) {
+        if (codec.hasFinished(state, mover)) {
+            return WIN;
+        }
+        double bestOpponent = 0;
+        for (int p = 0; p < codec.getPlayerCount(); p++) {
+            if (p != mover) {
+                bestOpponent = Math.max(bestOpponent, evaluator.progress(state, p));
+            }
+        }
+        return evaluator.progress(state, mover) - bestOpponent + (caught ? EXTRA_THROW_STEPS * stepValue : 0);
+    }
+
+    // 남은 결과로 얻을 수 있는 값의 상한
+    //- 내 진행도: 결과 하나로 말 묶음 하나가 (칸 수 + 1)칸 이상 나아가지 못함 (대기 말은 출발점에 놓이면서 한 칸), 빽도는 한 바퀴
+    //  묶음은 많아야 완주하지 않은 내 말 전부이므로 한 결과의 값에 그 수를 곱함
+    //- 상대 진행도: 결과 하나로 많아야 상대 말 묶음 하나를 잡으므로, 상대마다 가장 앞선 묶음부터 남은 결과 수만큼 뺀 값
+    private double upperBound(long[] state, int remaining, boolean caught) {
+        int group = codec.getTokenCount(mover) - codec.countFinished(state, mover);
+        double gain = 0;
+        for (int kind = 0; kind < RESULT_KINDS; kind++) {
+            int steps = kind - 1;
+            gain += counts[kind] * (steps < 0 ? evaluator.getLapLength() : steps + 1) * group * stepValue;
+        }
+        double mine = evaluator.progress(state, mover) + gain;
+        if (mine >= 1.0) {
+            return WIN;
+        }
+        double bestOpponent = 0;
+        for (int p = 0; p < codec.getPlayerCount(); p++) {
+            if (p != mover) {
+                bestOpponent = Math.max(bestOpponent, lowestProgress(state, p, remaining));
+            }
+        }
+        return mine - bestOpponent + EXTRA_THROW_STEPS * stepValue;
+    }
+
+    // 상대 player의 보드 위 말 묶음 중 앞선 captures개가 잡혔을 때의 진행도
+    private double lowestProgress(long[] state, int player, int captures) {
+        int tokenCount = codec.getTokenCount(player);
+        double[] groups = new double[tokenCount]; // 대표 말 번호 → 묶음의 진행도 합
+        double sum = 0;
+        for (int t = 0; t < tokenCount; t++) {
+            int location = codec.getLocation(state, player, t);
+            double progress = evaluator.tokenProgress(location);
+            sum += progress;
+            if (location != GameStateCodec.FINISHED && location != GameStateCodec.READY) {
+                int carrier = codec.getCarrier(state, player, t);
+                groups[carrier == GameStateCodec.NONE ? t : carrier] += progress;
+            }
+        }
+        Arrays.sort(groups);
+        for (int i = 0; i < captures && i < tokenCount; i++) {
+            sum -= groups[tokenCount - 1 - i];
+        }
+        return sum / tokenCount;
+    }
+
+    // ===== 메모 =====
+
+    // 남은 결과 개수(값마다 8비트)와 잡았는지
+    private long pack(boolean caught) {
+        long packed = caught ? 1 : 0;
+        for (int kind = 0; kind < RESULT_KINDS; kind++) {
+            packed |= (long) Math.min(counts[kind], 0xFF) << (1 + kind * 8);
+        }
+        return packed;
+    }
+
+    private static final class Key {
+        final long[] state;
+        final long rest;
+        final int hash;
+
+        Key(long[] state, long rest) {
+            this.state = state;
+            this.rest = rest;
+            this.hash = 31 * Arrays.hashCode(state) + Long.hashCode(rest);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && other.rest == rest && Arrays.equals(other.state, state);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // exact가 아니면 value는 상한 (가지치기한 하위 국면이 있음)
+    private static final class Entry {
+        final double value;
+        final boolean exact;
+        final int[] suffix;
+
+        Entry(double value, boolean exact, int[] suffix) {
+            this.value = value;
+            this.exact = exact;
+            this.suffix = suffix;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.GameState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+//자동 플레이: 윷/모로 여러 번 던졌을 때 결과를 사용할 순서 (사람의 순서 재배열 입력 대신)
+@FunctionalInterface
+public interface ThrowOrderPolicy {
+    List<Integer> order(GameState gameState, List<Integer> results, RandomGenerator random);
+
+    //던진 순서 그대로
+    static ThrowOrderPolicy asThrown() {
+        return (gameState, results, random) -> new ArrayList<>(results);
+    }
+
+    //큰 결과부터
+    static ThrowOrderPolicy largestFirst() {
+        return (gameState, results, random) -> {
+            List<Integer> ordered = new ArrayList<>(results);
+            ordered.sort(Collections.reverseOrder());
+            return ordered;
+        };
+    }
+
+    //이번 턴이 끝난 국면이 가장 좋아지는 순서 (ThrowOrderOptimizer, 호출마다 새로 탐색)
+    static ThrowOrderPolicy optimal() {
+        return (gameState, results, random) -> new ThrowOrderOptimizer().optimize(gameState, results).getOrder();
+    }
+
+    static ThrowOrderPolicy random() {
+        return (gameState, results, random) -> {
+            List<Integer> ordered = new ArrayList<>(results);
+            for (int i = ordered.size() - 1; i > 0; i--) {
+                Collections.swap(ordered, i, random.nextInt(i + 1));
+            }
+            return ordered;
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.Token;
+import com.cas.yutnoriswing.model.TokenState;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+//자동 플레이: 이번 윷 결과로 움직일 말 선택 (사람의 InGameView.selectToken 대신)
+//여러 스레드가 같은 정책을 함께 쓰므로 상태를 두지 않고 난수는 인자로 받는다.
+@FunctionalInterface
+public interface TokenPolicy {
+    Token selectToken(GameState gameState, List<Token> movableTokens, int steps, RandomGenerator random);
+
+    //무작위 선택
+    static TokenPolicy random() {
+        return (gameState, movableTokens, steps, random) -> movableTokens.get(random.nextInt(movableTokens.size()));
+    }
+
+    //보드 위의 말 중 가장 많이 업힌 말을 우선 (없으면 새 말 출발)
+    static TokenPolicy largestStack() {
+        return (gameState, movableTokens, steps, random) -> {
+            Token best = null;
+            for (Token token : movableTokens) {
+                Token carrier = token.getTopMostToken();
+                if (carrier.getState() != TokenState.ACTIVE) continue;
+                if (best == null || carrier.getStackedCount() > best.getStackedCount()) {
+                    best = carrier;
+                }
+            }
+            return best != null ? best : movableTokens.get(0);
+        };
+    }
+}
@@ -0,0 +1,416 @@
+package com.cas.yutnoriswing.ai;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+//자동 플레이어들의 리그전 (보드 각 수 × 플레이어 수 × 말 개수 격자의 모든 조합)
+//- 설정마다 플레이어 수만큼 봇을 고른 모든 조합을, 자리를 한 칸씩 돌려 가며(선 순서 공평하게) gamesPerMatch판씩 진행
+//- 대진(match) 하나가 작업 하나이며 work-stealing 풀(ForkJoinPool)에서 오래 걸리는 대진부터 진행
+//- 대진이 끝날 때마다 결과 파일에 한 줄씩 바로 기록하므로, 중간에 멈춰도 같은 파일로 다시 실행하면 남은 대진만 진행
+//- 대진마다 난수 시드를 일정표 순서대로 미리 정하므로 실행 순서/스레드 수/이어 하기와 상관없이 결과가 같다.
+//결과 파일 형식: '#'로 시작하는 머리말(설정) 뒤에 대진마다 탭으로 구분한 한 줄
+//  번호, 각 수, 플레이어 수, 말 개수, 자리별 봇 번호, 판 수, 미완료 판 수, 총 턴 수, 총 이동 수, 자리별 승리 수
+public class TournamentRunner {
+    public static final long DEFAULT_SEED = 1L;
+    private static final String FORMAT_VERSION = "# yutnori-tournament 1";
+    private static final long REPORT_INTERVAL_NANOS = 10_000_000_000L; // 진행 상황 출력 간격
+
+    private final List<AutoPlayer> bots;
+    private final List<Integer> sidesGrid;
+    private final List<Integer> playerCounts;
+    private final List<Integer> tokenCounts;
+    private final int gamesPerMatch;
+    private final int maxTurns;
+
+    public TournamentRunner(List<AutoPlayer> bots, List<Integer> sidesGrid, List<Integer> playerCounts,
+                            List<Integer> tokenCounts, int gamesPerMatch, int maxTurns) {
+        Set<String> names = new HashSet<>();
+        for (AutoPlayer bot : bots) {
+            if (!names.add(bot.getName()) || bot.getName().matches(".*[\\s,].*")) {
+                throw new IllegalArgumentException("봇 이름은 서로 달라야 하고 공백/쉼표가 없어야 합니다: " + bot.getName());
+            }
+        }
+        for (int players : playerCounts) {
+            if (players < 2 || players > bots.size()) {
+                throw new IllegalArgumentException("플레이어 수는 2 이상, 봇 수(" + bots.size() + ") 이하여야 합니다: " + players);
+            }
+        }
+        if (gamesPerMatch < 1) {
+            throw new IllegalArgumentException("대진당 판 수는 1 이상이어야 합니다.");
+        }
+        this.bots = new ArrayList<>(bots);
+        this.sidesGrid = new ArrayList<>(sidesGrid);
+        this.playerCounts = new ArrayList<>(playerCounts);
+        this.tokenCounts = new ArrayList<>(tokenCounts);
+        this.gamesPerMatch = gamesPerMatch;
+        this.maxTurns = maxTurns;
+    }
+
+    //대진 하나 (설정 + 자리별 봇 번호 + 시드)
+    public static final class Match {
+        private final int index;
+        private final int sides;
+        private final int tokens;
+        private final int[] lineup;
+        private final long seed;
+
+        Match(int index, int sides, int tokens, int[] lineup, long seed) {
+            this.index = index;
+            this.sides = sides;
+            this.tokens = tokens;
+            this.lineup = lineup;
+            this.seed = seed;
+        }
+
+        public int getIndex() { return index; }
+        public int getSides() { return sides; }
+        public int getPlayers() { return lineup.length; }
+        public int getTokens() { return tokens; }
+        public int getBot(int seat) { return lineup[seat]; }
+
+        // 대략적인 한 판 비용 (보드 크기 × 전체 말 수), 큰 대진부터 시작하는 데 사용
+        long cost() {
+            return (long) sides * tokens * lineup.length * lineup.length;
+        }
+    }
+
+    //전체 일정표 (설정 → 봇 조합 → 자리 돌리기 순서, 번호는 이 순서)
+    public List<Match> schedule(long seed) {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<Match> matches = new ArrayList<>();
+        for (int sides : sidesGrid) {
+            for (int players : playerCounts) {
+                for (int tokens : tokenCounts) {
+                    for (int[] combination : combinations(bots.size(), players)) {
+                        for (int rotation = 0; rotation < players; rotation++) {
+                            int[] lineup = new int[players];
+                            for (int seat = 0; seat < players; seat++) {
+                                lineup[seat] = combination[(seat + rotation) % players];
+                            }
+                            matches.add(new Match(matches.size(), sides, tokens, lineup, seeds.nextLong()));
+                        }
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    // n개 중 k개를 고르는 모든 조합 (사전 순)
+    private static List<int[]> combinations(int n, int k) {
+        List<int[]> result = new ArrayList<>();
+        int[] current = new int[k];
+        for (int i = 0; i < k; i++) {
+            current[i] = i;
+        }
+        while (true) {
+            result.add(current.clone());
+            int i = k - 1;
+            while (i >= 0 && current[i] == n - k + i) {
+                i--;
+            }
+            if (i < 0) {
+                return result;
+            }
+            current[i]++;
+            for (int j = i + 1; j < k; j++) {
+                current[j] = current[j - 1] + 1;
+            }
+        }
+    }
+
+    //리그전 진행 (resultsFile이 있으면 이어서), progress가 null이면 진행 상황을 출력하지 않음
+    public TournamentSummary run(Path resultsFile, long seed, ForkJoinPool pool, PrintStream progress) throws IOException {
+        List<Match> matches = schedule(seed);
+        TournamentSummary summary = new TournamentSummary(bots);
+        BitSet done = new BitSet(matches.size());
+        String header = header(seed);
+
+        if (Files.exists(resultsFile) && Files.size(resultsFile) > 0) {
+            readExisting(resultsFile, header, matches, summary, done);
+        } else {
+            Files.write(resultsFile, (header + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        List<Match> pending = new ArrayList<>();
+        for (Match match : matches) {
+            if (!done.get(match.index)) {
+                pending.add(match);
+            }
+        }
+        pending.sort((a, b) -> Long.compare(b.cost(), a.cost()));
+
+        long start = System.nanoTime();
+        try (BufferedWriter writer = Files.newBufferedWriter(resultsFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+            Recorder recorder = new Recorder(writer, summary, progress, matches.size(), done.cardinality(), start);
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (Match match : pending) {
+                tasks.add(() -> {
+                    recorder.record(play(match));
+                    return null;
+                });
+            }
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof UncheckedIOException) {
+                        throw ((UncheckedIOException) cause).getCause();
+                    }
+                    throw new IllegalStateException("대진 진행 중 오류가 발생했습니다.", cause);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("리그전이 중단되었습니다.", e);
+                }
+            }
+            recorder.report(true);
+        }
+        summary.setElapsedNanos(System.nanoTime() - start);
+        return summary;
+    }
+
+    // 대진 하나를 진행 (작업 스레드에서 호출)
+    private MatchResult play(Match match) {
+        List<AutoPlayer> seats = new ArrayList<>();
+        for (int bot : match.lineup) {
+            seats.add(bots.get(bot));
+        }
+        GameSimulator simulator = new GameSimulator(match.sides, Collections.nCopies(match.lineup.length, match.tokens),
+                seats, maxTurns);
+        SplittableRandom random = new SplittableRandom(match.seed);
+        MatchResult result = new MatchResult(match);
+        for (int game = 0; game < gamesPerMatch; game++) {
+            result.add(simulator.play(random));
+        }
+        return result;
+    }
+
+    // 설정이 같은 결과 파일인지 확인하는 머리말
+    private String header(long seed) {
+        List<String> names = new ArrayList<>();
+        for (AutoPlayer bot : bots) {
+            names.add(bot.getName());
+        }
+        return FORMAT_VERSION + "\n# bots=" + String.join(",", names)
+                + " sides=" + join(sidesGrid) + " players=" + join(playerCounts) + " tokens=" + join(tokenCounts)
+                + " games=" + gamesPerMatch + " maxTurns=" + maxTurns + " seed=" + seed;
+    }
+
+    private static String join(List<Integer> values) {
+        StringBuilder sb = new StringBuilder();
+        for (int value : values) {
+            if (sb.length() > 0) sb.append(',');
+            sb.append(value);
+        }
+        return sb.toString();
+    }
+
+    // 이미 기록된 대진을 읽어 summary에 더하고, 마지막 줄이 쓰다 만 줄이면 잘라냄
+    private void readExisting(Path resultsFile, String header, List<Match> matches, TournamentSummary summary,
+                              BitSet done) throws IOException {
+        truncateIncompleteLine(resultsFile);
+        StringBuilder existingHeader = new StringBuilder();
+        try (BufferedReader reader = Files.newBufferedReader(resultsFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("#")) {
+                    if (existingHeader.length() > 0) existingHeader.append('\n');
+                    existingHeader.append(line);
+                    continue;
+                }
+                MatchResult result = MatchResult.parse(line, matches);
+                if (!done.get(result.match.index)) {
+                    done.set(result.match.index);
+                    summary.add(result);
+                }
+            }
+        }
+        if (!existingHeader.toString().equals(header)) {
+            throw new IllegalStateException("결과 파일의 설정이 다릅니다: " + resultsFile + "\n" + existingHeader);
+        }
+    }
+
+    private static void truncateIncompleteLine(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            ByteBuffer one = ByteBuffer.allocate(1);
+            long end = size;
+            while (end > 0) {
+                one.clear();
+                channel.read(one, end - 1);
+                if (one.get(0) == '\n') {
+                    break;
+                }
+                end--;
+            }
+            if (end < size) {
+                channel.truncate(end);
+            }
+        }
+    }
+
+    //대진 하나의 결과 (파일 한 줄)
+    static final class MatchResult {
+        final Match match;
+        long games;
+        long unfinished;
+        long turns;
+        long moves;
+        final long[] wins;
+
+        MatchResult(Match match) {
+            this.match = match;
+            this.wins = new long[match.lineup.length];
+        }
+
+        void add(GameSimulator.Result result) {
+            games++;
+            turns += result.getTurns();
+            moves += result.getMoves();
+            if (result.getWinner() == GameSimulator.NO_WINNER) {
+                unfinished++;
+            } else {
+                wins[result.getWinner()]++;
+            }
+        }
+
+        String format() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(match.index).append('\t').append(match.sides).append('\t').append(match.lineup.length)
+                    .append('\t').append(match.tokens).append('\t');
+            for (int seat = 0; seat < match.lineup.length; seat++) {
+                if (seat > 0) sb.append(',');
+                sb.append(match.lineup[seat]);
+            }
+            sb.append('\t').append(games).append('\t').append(unfinished).append('\t').append(turns).append('\t').append(moves)
+                    .append('\t');
+            for (int seat = 0; seat < wins.length; seat++) {
+                if (seat > 0) sb.append(',');
+                sb.append(wins[seat]);
+            }
+            return sb.toString();
+        }
+
+        static MatchResult parse(String line, List<Match> matches) {
+            String[] fields = line.split("\t");
+            if (fields.length != 10) {
+                throw new IllegalStateException("결과 파일의 줄 형식이 잘못되었습니다: " + line);
+            }
+            int index = Integer.parseInt(fields[0]);
+            if (index < 0 || index >= matches.size()) {
+                throw new IllegalStateException("일정표에 없는 대진 번호입니다: " + index);
+            }
+            Match match = matches.get(index);
+            String expected = match.index + "\t" + match.sides + "\t" + match.lineup.length + "\t" + match.tokens;
+            if (!line.startsWith(expected + "\t")) {
+                throw new IllegalStateException("일정표와 다른 대진입니다: " + line);
+            }
+            MatchResult result = new MatchResult(match);
+            result.games = Long.parseLong(fields[5]);
+            result.unfinished = Long.parseLong(fields[6]);
+            result.turns = Long.parseLong(fields[7]);
+            result.moves = Long.parseLong(fields[8]);
+            String[] wins = fields[9].split(",");
+            for (int seat = 0; seat < result.wins.length; seat++) {
+                result.wins[seat] = Long.parseLong(wins[seat]);
+            }
+            return result;
+        }
+    }
+
+    // 작업 스레드들이 끝낸 대진을 한 줄씩 기록하고 진행 상황을 출력
+    private static final class Recorder {
+        private final BufferedWriter writer;
+        private final TournamentSummary summary;
+        private final PrintStream progress;
+        private final int totalMatches;
+        private final long start;
+        private int doneMatches;
+        private long gamesThisRun;
+        private long lastReport;
+
+        Recorder(BufferedWriter writer, TournamentSummary summary, PrintStream progress, int totalMatches,
+                 int doneMatches, long start) {
+            this.writer = writer;
+            this.summary = summary;
+            this.progress = progress;
+            this.totalMatches = totalMatches;
+            this.doneMatches = doneMatches;
+            this.start = start;
+            this.lastReport = start;
+        }
+
+        synchronized void record(MatchResult result) {
+            try {
+                writer.write(result.format());
+                writer.newLine();
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            summary.add(result);
+            doneMatches++;
+            gamesThisRun += result.games;
+            report(false);
+        }
+
+        synchronized void report(boolean force) {
+            long now = System.nanoTime();
+            if (progress == null || (!force && now - lastReport < REPORT_INTERVAL_NANOS)) {
+                return;
+            }
+            lastReport = now;
+            double seconds = (now - start) / 1e9;
+            progress.printf("대진 %d/%d, 이번 실행 %d판 (%.0f판/초), %.0f초 경과%n",
+                    doneMatches, totalMatches, gamesThisRun, seconds == 0 ? 0.0 : gamesThisRun / seconds, seconds);
+        }
+    }
+
+    //명령줄 실행: 결과 파일, 대진당 판 수, [시드], [스레드 수]
+    //기본 격자: 4~6각형 × 2~4명 × 말 2~5개, 봇 5종
+    public static void main(String[] args) throws IOException {
+        Path resultsFile = Paths.get(args.length > 0 ? args[0] : "tournament.tsv");
+        int gamesPerMatch = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        List<AutoPlayer> bots = Arrays.asList(
+                AutoPlayer.simple(),
+                AutoPlayer.random(),
+                new AutoPlayer("던진순서", TokenPolicy.largestStack(), BranchPolicy.shortcut(), ThrowOrderPolicy.asThrown()),
+                new AutoPlayer("무작위분기", TokenPolicy.largestStack(), BranchPolicy.random(), ThrowOrderPolicy.largestFirst()),
+                new AutoPlayer("최적순서", TokenPolicy.largestStack(), BranchPolicy.shortcut(), ThrowOrderPolicy.optimal()));
+        TournamentRunner runner = new TournamentRunner(bots, Arrays.asList(4, 5, 6), Arrays.asList(2, 3, 4),
+                Arrays.asList(2, 3, 4, 5), gamesPerMatch, 10_000);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            System.out.print(runner.run(resultsFile, seed, pool, System.out));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
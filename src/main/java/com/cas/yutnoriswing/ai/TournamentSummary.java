@@ -0,0 +1,83 @@
+package com.cas.yutnoriswing.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+//리그전 결과 요약 (봇별 승률, 설정별 평균 턴 수와 선 플레이어 승률)
+//TournamentRunner의 기록 스레드에서만 더하고, 다 끝난 뒤 읽는다.
+public class TournamentSummary {
+    private final List<String> botNames = new ArrayList<>();
+    private final long[] botGames;
+    private final long[] botWins;
+    private final Map<String, ConfigStats> configs = new TreeMap<>();
+    private long games;
+    private long unfinished;
+    private long elapsedNanos;
+
+    TournamentSummary(List<AutoPlayer> bots) {
+        for (AutoPlayer bot : bots) {
+            botNames.add(bot.getName());
+        }
+        this.botGames = new long[bots.size()];
+        this.botWins = new long[bots.size()];
+    }
+
+    // 설정 하나(각 수, 플레이어 수, 말 개수)에 대한 통계
+    private static final class ConfigStats {
+        long games;
+        long unfinished;
+        long turns;
+        long firstSeatWins;
+    }
+
+    void add(TournamentRunner.MatchResult result) {
+        TournamentRunner.Match match = result.match;
+        games += result.games;
+        unfinished += result.unfinished;
+        for (int seat = 0; seat < match.getPlayers(); seat++) {
+            botGames[match.getBot(seat)] += result.games;
+            botWins[match.getBot(seat)] += result.wins[seat];
+        }
+
+        String key = String.format("%02d각형 %d명 말%d개", match.getSides(), match.getPlayers(), match.getTokens());
+        ConfigStats stats = configs.computeIfAbsent(key, k -> new ConfigStats());
+        stats.games += result.games;
+        stats.unfinished += result.unfinished;
+        stats.turns += result.turns;
+        stats.firstSeatWins += result.wins[0];
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getBotCount() { return botNames.size(); }
+    public String getBotName(int bot) { return botNames.get(bot); }
+    public long getBotGames(int bot) { return botGames[bot]; }
+    public long getBotWins(int bot) { return botWins[bot]; }
+    public long getGames() { return games; }
+    public long getUnfinished() { return unfinished; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public double getBotWinRate(int bot) {
+        return botGames[bot] == 0 ? 0.0 : (double) botWins[bot] / botGames[bot];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("전체 %d판, 미완료 %d판, 이번 실행 %.0f초%n", games, unfinished, elapsedNanos / 1e9));
+        for (int bot = 0; bot < botNames.size(); bot++) {
+            sb.append(String.format("  %s: %d판 중 %d승 (승률 %.2f%%)%n",
+                    botNames.get(bot), botGames[bot], botWins[bot], getBotWinRate(bot) * 100));
+        }
+        for (Map.Entry<String, ConfigStats> entry : configs.entrySet()) {
+            ConfigStats stats = entry.getValue();
+            sb.append(String.format("  %s: 평균 %.1f턴, 선 플레이어 승률 %.2f%%, 미완료 %d판%n", entry.getKey(),
+                    (double) stats.turns / stats.games, 100.0 * stats.firstSeatWins / stats.games, stats.unfinished));
+        }
+        return sb.toString();
+    }
+}
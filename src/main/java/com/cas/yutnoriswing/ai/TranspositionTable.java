@@ -0,0 +1,114 @@
+package com.cas.yutnoriswing.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+//여러 탐색 스레드가 함께 쓰는 고정 크기 전치표 (국면 해시 → 평가값, 탐색 깊이, 최선의 수)
+//칸마다 (해시 ^ 데이터, 데이터) 두 long을 저장하고, 읽을 때 다시 XOR해서 해시가 맞는지 확인한다.
+//다른 스레드가 쓰는 도중에 읽어 두 값이 섞이면 해시가 맞지 않아 빈 칸으로 처리되므로 락이 필요 없다.
+//같은 칸에 다른 국면이 들어오면 더 깊이(또는 같은 깊이로) 탐색한 값이나 새 탐색의 값으로 교체한다.
+public final class TranspositionTable {
+    public static final long MISS = 0L;  // probe 결과: 저장된 값 없음
+    public static final int NO_MOVE = 0x7FFF;
+    public static final int MAX_DEPTH = 0xFF;
+
+    // 평가값의 종류 (알파베타 경계)
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+
+    // 데이터 비트 배치: 평가값(float) 32 | 깊이 8 | 경계 2 | 세대 6 | 최선의 수 15 | 사용 중 1
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int GENERATION_SHIFT = 42;
+    private static final int MOVE_SHIFT = 48;
+    private static final long VALID = 1L << 63;
+    private static final int GENERATION_MASK = 0x3F;
+
+    private final AtomicLongArray slots; // [칸 * 2] = 해시 ^ 데이터, [칸 * 2 + 1] = 데이터
+    private final int mask;
+    private volatile int generation;
+
+    //capacity는 2의 거듭제곱으로 올림
+    public TranspositionTable(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 29)) {
+            throw new IllegalArgumentException("전치표 크기가 올바르지 않습니다: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicLongArray(size * 2);
+        this.mask = size - 1;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    //새 탐색 시작 (이전 탐색에서 저장한 값은 깊이와 상관없이 교체 대상이 됨)
+    public void newSearch() {
+        generation = (generation + 1) & GENERATION_MASK;
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0L);
+        }
+    }
+
+    private int index(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    //저장된 데이터 조회 (없으면 MISS, 값은 valueOf/depthOf/boundOf/moveOf로 꺼냄)
+    public long probe(long hash) {
+        int i = index(hash) << 1;
+        long data = slots.get(i + 1);
+        long check = slots.get(i);
+        if (data == MISS || (check ^ data) != hash) {
+            return MISS;
+        }
+        return data;
+    }
+
+    public void store(long hash, int depth, int bound, float value, int move) {
+        int i = index(hash) << 1;
+        long oldData = slots.get(i + 1);
+        long oldHash = slots.get(i) ^ oldData;
+        if (oldData != MISS && oldHash != hash
+                && generationOf(oldData) == generation && depthOf(oldData) > depth) {
+            return; // 이번 탐색에서 더 깊이 본 다른 국면은 유지
+        }
+
+        long data = VALID
+                | ((long) (move & NO_MOVE) << MOVE_SHIFT)
+                | ((long) generation << GENERATION_SHIFT)
+                | ((long) (bound & 0x3) << BOUND_SHIFT)
+                | ((long) Math.min(Math.max(depth, 0), MAX_DEPTH) << DEPTH_SHIFT)
+                | (Float.floatToRawIntBits(value) & 0xFFFFFFFFL);
+        slots.set(i, hash ^ data);
+        slots.set(i + 1, data);
+    }
+
+    // ===== probe 결과 해석 =====
+
+    public static float valueOf(long data) {
+        return Float.intBitsToFloat((int) data);
+    }
+
+    public static int depthOf(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & MAX_DEPTH;
+    }
+
+    public static int boundOf(long data) {
+        return (int) (data >>> BOUND_SHIFT) & 0x3;
+    }
+
+    public static int moveOf(long data) {
+        return (int) (data >>> MOVE_SHIFT) & NO_MOVE;
+    }
+
+    private static int generationOf(long data) {
+        return (int) (data >>> GENERATION_SHIFT) & GENERATION_MASK;
+    }
+}
@@ -0,0 +1,189 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.GameStateCodec;
+import com.cas.yutnoriswing.model.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+//현재 국면에서 플레이어별 승리 확률을 백그라운드에서 추정하는 클래스
+//- estimate를 부른 스레드(EDT)에서는 국면을 압축(GameStateCodec)만 하고, 자동 대국(playout)은 작업 스레드에서 진행
+//- 새 estimate를 부르면 이전 작업은 취소 (작업 스레드는 한 판이 끝날 때마다 취소 여부 확인)
+//- 일정 시간마다 중간 결과를 listener에 알리고, 모두 끝나면 done = true인 최종 결과를 알림
+//listener는 작업 스레드에서 불리므로 Swing 갱신은 호출하는 쪽에서 SwingUtilities.invokeLater로 넘겨야 한다.
+public class WinProbabilityEstimator {
+    private static final int PLAYOUT_MAX_TURNS = 2_000;
+    private static final long PUBLISH_INTERVAL_NANOS = 150_000_000L; // 중간 결과 알림 간격
+
+    private final int threads;
+    private final int maxGames;
+    private final ExecutorService executor;
+    private final SplittableRandom seedRandom = new SplittableRandom();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Job current;
+
+    //threads: 작업 스레드 수, maxGames: 국면 하나에서 진행할 최대 판 수
+    public WinProbabilityEstimator(int threads, int maxGames) {
+        if (threads < 1 || maxGames < 1) {
+            throw new IllegalArgumentException("스레드 수와 판 수는 1 이상이어야 합니다.");
+        }
+        this.threads = threads;
+        this.maxGames = maxGames;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "win-probability-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY); // UI 스레드보다 낮은 우선순위
+            return thread;
+        });
+    }
+
+    //UI용 기본 설정 (코어 하나는 EDT에 남김)
+    public static WinProbabilityEstimator forUi() {
+        return new WinProbabilityEstimator(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), 20_000);
+    }
+
+    //추정 결과 (불변)
+    public static final class Estimate {
+        private final long generation;
+        private final double[] winProbabilities;
+        private final long games;
+        private final boolean done;
+
+        Estimate(long generation, double[] winProbabilities, long games, boolean done) {
+            this.generation = generation;
+            this.winProbabilities = winProbabilities;
+            this.games = games;
+            this.done = done;
+        }
+
+        public long getGeneration() { return generation; }
+        public double getWinProbability(int player) { return winProbabilities[player]; }
+        public int getPlayerCount() { return winProbabilities.length; }
+        public long getGames() { return games; }
+        public boolean isDone() { return done; }
+    }
+
+    //현재 국면의 추정 시작 (이전 추정은 취소), 같은 스레드에서 gameState를 바꾸기 전에 불러야 함
+    //remainingThrows: 현재 플레이어가 아직 쓰지 않은 윷 결과, caught: 이번 턴에 이미 잡았는지
+    public long estimate(GameState gameState, List<Integer> remainingThrows, boolean caught, Consumer<Estimate> listener) {
+        cancel();
+        GameStateCodec codec = new GameStateCodec(gameState);
+        List<Integer> tokenCounts = new ArrayList<>();
+        for (Player player : gameState.getPlayers()) {
+            tokenCounts.add(player.getTokens().size());
+        }
+        Job job = new Job(generation.incrementAndGet(), codec, codec.encode(gameState),
+                new ArrayList<>(remainingThrows), caught, listener, tokenCounts.size());
+        current = job;
+
+        GameSimulator simulator = new GameSimulator(gameState.getBoard().getSides(), tokenCounts,
+                Collections.nCopies(tokenCounts.size(), AutoPlayer.simple()), PLAYOUT_MAX_TURNS);
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom random = seedRandom.split();
+            executor.execute(() -> job.run(simulator, random));
+        }
+        return job.generation;
+    }
+
+    //진행 중인 추정 취소 (이미 시작한 판은 끝까지 진행한 뒤 멈춤)
+    public void cancel() {
+        Job job = current;
+        if (job != null) {
+            job.cancelled = true;
+        }
+    }
+
+    //이 결과가 가장 최근 estimate의 것인지 (EDT에서 늦게 도착한 결과를 버릴 때 사용)
+    public boolean isCurrent(Estimate estimate) {
+        Job job = current;
+        return job != null && !job.cancelled && job.generation == estimate.getGeneration();
+    }
+
+    public void shutdown() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    // 국면 하나에 대한 추정 작업 (작업 스레드들이 판 수와 승리 수를 함께 셈)
+    private final class Job {
+        final long generation;
+        final GameStateCodec codec;
+        final long[] snapshot;
+        final List<Integer> remainingThrows;
+        final boolean caught;
+        final Consumer<Estimate> listener;
+        final AtomicLongArray wins;
+        final AtomicLong games = new AtomicLong();
+        final AtomicLong draws = new AtomicLong();
+        final AtomicLong lastPublish = new AtomicLong(System.nanoTime());
+        final AtomicInteger running = new AtomicInteger(threads);
+        volatile boolean cancelled;
+
+        Job(long generation, GameStateCodec codec, long[] snapshot, List<Integer> remainingThrows, boolean caught,
+            Consumer<Estimate> listener, int playerCount) {
+            this.generation = generation;
+            this.codec = codec;
+            this.snapshot = snapshot;
+            this.remainingThrows = remainingThrows;
+            this.caught = caught;
+            this.listener = listener;
+            this.wins = new AtomicLongArray(playerCount);
+        }
+
+        void run(GameSimulator simulator, SplittableRandom random) {
+            try {
+                GameState scratch = null;
+                while (!cancelled && games.get() < maxGames) {
+                    if (scratch == null) {
+                        scratch = simulator.newGame(); // 작업 스레드 전용 사본 (원래 GameState는 EDT 소유라 읽지 않음)
+                    }
+                    codec.decode(snapshot, scratch);
+                    GameSimulator.Result result = simulator.playFrom(scratch, remainingThrows, caught, random);
+                    if (result.getWinner() == GameSimulator.NO_WINNER) {
+                        draws.incrementAndGet();
+                    } else {
+                        wins.incrementAndGet(result.getWinner());
+                    }
+                    games.incrementAndGet();
+
+                    long now = System.nanoTime();
+                    long last = lastPublish.get();
+                    if (now - last >= PUBLISH_INTERVAL_NANOS && lastPublish.compareAndSet(last, now)) {
+                        publish(false);
+                    }
+                }
+            } finally {
+                if (running.decrementAndGet() == 0 && !cancelled) {
+                    publish(true);
+                }
+            }
+        }
+
+        // 무승부(턴 제한)는 플레이어 모두에게 똑같이 나눔
+        private void publish(boolean done) {
+            if (cancelled) {
+                return;
+            }
+            long total = games.get();
+            if (total == 0) {
+                return;
+            }
+            double[] probabilities = new double[wins.length()];
+            double drawShare = (double) draws.get() / probabilities.length;
+            for (int p = 0; p < probabilities.length; p++) {
+                probabilities[p] = (wins.get(p) + drawShare) / total;
+            }
+            listener.accept(new Estimate(generation, probabilities, total, done));
+        }
+    }
+}
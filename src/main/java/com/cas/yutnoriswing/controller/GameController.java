@@ -1,19 +1,35 @@
 package com.cas.yutnoriswing.controller;
 
+import com.cas.yutnoriswing.ai.ComputerPlayer;
+import com.cas.yutnoriswing.ai.ThrowOrderOptimizer;
+import com.cas.yutnoriswing.ai.WinProbabilityEstimator;
 import com.cas.yutnoriswing.model.BoardNode;
 import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.NodeKind;
 import com.cas.yutnoriswing.model.Player;
 import com.cas.yutnoriswing.model.Token;
 import com.cas.yutnoriswing.model.YutGameRules;
 import com.cas.yutnoriswing.view.GameEndChoice;
 import com.cas.yutnoriswing.view.InGameView;
 
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class GameController {
     private final GameState gameState;
     private final InGameView view;
+    private final Map<Player, ComputerPlayer> computerPlayers = new HashMap<>(); // 컴퓨터가 두는 플레이어
+    private WinProbabilityEstimator winEstimator; // 승리 확률 추정 (없으면 표시하지 않음)
+    private final ThrowOrderOptimizer throwOrderOptimizer = new ThrowOrderOptimizer(); // 순서 재배열 추천
+    private boolean thinking; // 백그라운드 계산 중 (그동안 게임을 바꾸지 않도록 윷 던지기를 받지 않음)
     
     // Application 레벨 콜백
     private Runnable onGameRestart;
@@ -33,8 +49,22 @@ public class GameController {
         this.onGameExit = callback;
     }
 
+    // 플레이어를 컴퓨터가 두도록 설정 (말 선택, 분기 선택, 윷 결과 순서를 묻지 않음)
+    public void setComputerPlayer(Player player, ComputerPlayer computerPlayer) {
+        computerPlayers.put(player, computerPlayer);
+    }
+
+    // 승리 확률 추정 설정 (설정하면 현재 국면부터 바로 추정 시작)
+    public void setWinProbabilityEstimator(WinProbabilityEstimator estimator) {
+        this.winEstimator = estimator;
+        updateWinProbabilities(Collections.emptyList(), false);
+    }
+
     // "윷 던지기" 버튼 클릭 시 호출되는 메서드
     public void rollingYut() {
+        if (thinking) {
+            return;
+        }
         Player currentPlayer = gameState.getCurrentPlayer();
 
         // 윷 던지기 (윷 결과에 대해서 처리)
@@ -52,34 +82,72 @@ public class GameController {
             return; // 취소됨
         }
 
-        // 순서 재배열 (모나 윷의 경우에 대한 처리)
-        List<Integer> orderedResults;
-        if (allResults.size() == 1) {
-            orderedResults = allResults;
+        ComputerPlayer computerPlayer = computerPlayers.get(currentPlayer);
+        if (computerPlayer != null) {
+            // 컴퓨터: 이동할 때마다 남은 결과 중 하나를 골라 이동
+            handleComputerMoves(currentPlayer, new ArrayList<>(allResults), false, computerPlayer);
+        } else if (allResults.size() == 1) {
+            finishTurn(currentPlayer, handleMoveExecution(allResults));
         } else {
-            orderedResults = handleReorderResults(allResults, currentPlayer.getName());
-            if (orderedResults == null || orderedResults.isEmpty()) {
-                return; // 취소됨
-            }
+            // 순서 재배열 (모나 윷의 경우에 대한 처리, 추천 순서는 백그라운드에서 찾음)
+            runInBackground(() -> throwOrderOptimizer.optimize(gameState, allResults).describeOrder(), suggestion -> {
+                List<Integer> orderedResults = handleReorderResults(allResults, currentPlayer.getName(), suggestion);
+                if (orderedResults == null || orderedResults.isEmpty()) {
+                    return; // 취소됨
+                }
+                gameState.recordThrowOrder(orderedResults);
+                finishTurn(currentPlayer, handleMoveExecution(orderedResults));
+            });
         }
+    }
 
-        // 이동
-        boolean catched = handleMoveExecution(orderedResults);
-
+    // 이동이 끝난 턴 마무리 (승리 확인, 잡기의 경우 추가 턴 부여)
+    private void finishTurn(Player currentPlayer, boolean catched) {
         // 승리 조건
         if (gameState.isGameEnded()) {
             handleGameEnd(gameState.getWinner());
             return;
         }
 
-        // 다음 턴 결정 (잡기의 경우 추가 턴 부여)
+        // 다음 턴 결정
         if (catched) {
+            updateWinProbabilities(Collections.emptyList(), false);
             view.showMessage(currentPlayer.getName() + "님이 말을 잡아 추가 턴을 얻었습니다!", "추가 턴");
         } else {
             gameState.nextPlayer();
+            updateWinProbabilities(Collections.emptyList(), false);
         }
     }
-    
+
+    // 오래 걸리는 계산을 SwingWorker로 돌리고 결과는 EDT에서 onDone에 넘김
+    // 계산은 gameState를 읽기만 하므로 끝날 때까지 윷 던지기 버튼을 막아 게임이 바뀌지 않게 함
+    private <T> void runInBackground(Supplier<T> task, Consumer<T> onDone) {
+        thinking = true;
+        view.setRollEnabled(false);
+        new SwingWorker<T, Void>() {
+            @Override
+            protected T doInBackground() {
+                return task.get();
+            }
+
+            @Override
+            protected void done() {
+                thinking = false;
+                view.setRollEnabled(true);
+                T result;
+                try {
+                    result = get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("백그라운드 계산에 실패했습니다.", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("백그라운드 계산이 중단되었습니다.", e);
+                }
+                onDone.accept(result);
+            }
+        }.execute();
+    }
+
     // 테스트 모드 던지기
     private void handleTestModeThrows(Player currentPlayer, List<Integer> allResults) {
         int throwCount = 0;
@@ -102,6 +170,7 @@ public class GameController {
             
             // 결과 표시
             view.showMessage(message, "윷 결과");
+            gameState.recordThrow(testResult);
             allResults.add(testResult);
             throwCount++;
             
@@ -121,7 +190,7 @@ public class GameController {
         
         while (continueThrow) {
             // 일반 윷 던지기의 경우는 view에서 값을 가져올 필요가 없음
-            int result = YutGameRules.throwSingleYut().getResults().get(0); // 단일 던지기
+            int result = gameState.throwSingleYut().getResults().get(0); // 단일 던지기
             
             String yutName = getYutName(result);
             String message;
@@ -145,12 +214,16 @@ public class GameController {
         }
     }
 
-    // 순서 재배열
-    private List<Integer> handleReorderResults(List<Integer> results, String playerName) {
+    // 순서 재배열 (처음에는 추천 순서를 버튼 한 번으로 고를 수 있음)
+    private List<Integer> handleReorderResults(List<Integer> results, String playerName, String suggestion) {
         YutGameRules.ReorderRequest request = new YutGameRules.ReorderRequest(results, playerName);
         
+        boolean first = true;
         while (true) {
-            String input = view.requestInput(request.getPromptMessage(), "윷 순서 재배열");
+            String input = first
+                    ? view.requestReorderInput(request.getPromptMessage(), "윷 순서 재배열", suggestion)
+                    : view.requestInput(request.getPromptMessage(), "윷 순서 재배열");
+            first = false;
             if (input == null) {
                 return null; // 취소
             }
@@ -168,7 +241,8 @@ public class GameController {
     private boolean handleMoveExecution(List<Integer> steps) {
         boolean overallCatched = false;
         
-        for (int step : steps) {
+        for (int index = 0; index < steps.size(); index++) {
+            int step = steps.get(index);
             // 이동 가능한 토큰을 계산하여 해당 윷 결과에 이동 가능한 말만 표시
             List<Token> availableTokens = gameState.getMovableTokens(step);
             
@@ -193,7 +267,7 @@ public class GameController {
             BoardNode currentPosition = gameState.getTokenPositionManager().getTokenPosition(actualToken);
             
             // 빽도가 아니고 현재 위치가 분기점인 경우에만 분기 선택
-            if (step > 0 && currentPosition != null && currentPosition.getNextNodes().size() > 1) {
+            if (step > 0 && gameState.getBoard().isBranchNode(currentPosition)) {
                 // 현재 위치가 분기점이면 이동 방향 선택
                 BoardNode chosenPath = view.selectPath(currentPosition.getNextNodes());
                 actualToken.setNextBranchChoice(chosenPath);
@@ -221,7 +295,8 @@ public class GameController {
             }
 
             //view 화면 갱신
-            view.refresh();
+            view.refresh(gameState.snapshot());
+            updateWinProbabilities(steps.subList(index + 1, steps.size()), overallCatched);
             
             // 각 이동 완료 후 즉시 승리 조건 확인
             Player currentPlayer = gameState.getCurrentPlayer();
@@ -239,19 +314,84 @@ public class GameController {
         return overallCatched;
     }
 
+    // 컴퓨터 플레이어 이동 (사람의 말 선택/분기 선택 대신 ComputerPlayer가 결정)
+    // 수는 백그라운드에서 고르고 EDT에서 둔 뒤 남은 결과로 다시 부름, 더 둘 수가 없으면 턴 마무리
+    private void handleComputerMoves(Player currentPlayer, List<Integer> remaining, boolean overallCatched,
+                                     ComputerPlayer computerPlayer) {
+        if (remaining.isEmpty()) {
+            finishTurn(currentPlayer, overallCatched);
+            return;
+        }
+        runInBackground(() -> computerPlayer.chooseMove(gameState, remaining, overallCatched), move -> {
+            if (move == null) {
+                finishTurn(currentPlayer, overallCatched); // 남은 결과로 움직일 수 있는 말이 없음
+                return;
+            }
+            remaining.remove(Integer.valueOf(move.getSteps()));
+
+            if (move.getBranch() != null) {
+                move.getToken().getTopMostToken().setNextBranchChoice(move.getBranch());
+            }
+            YutGameRules.MoveResult moveResult = gameState.moveToken(move.getToken(), move.getSteps(), null);
+            if (!moveResult.isSuccess()) {
+                view.showError(moveResult.getMessage());
+                handleComputerMoves(currentPlayer, remaining, overallCatched, computerPlayer);
+                return;
+            }
+            boolean catched = overallCatched || moveResult.isCatched();
+
+            view.refresh(gameState.snapshot());
+            updateWinProbabilities(remaining, catched);
+            String message = currentPlayer.getName() + "(컴퓨터): " + move.getToken().getName() + " 이동 ("
+                    + getYutName(move.getSteps()) + ", " + move.getSteps() + "칸)";
+            if (!moveResult.getMessage().isEmpty()) {
+                message += "\n" + moveResult.getMessage();
+            }
+            view.showMessage(message, "컴퓨터 이동");
+
+            if (gameState.checkVictory(currentPlayer)) {
+                finishTurn(currentPlayer, catched); // 게임 종료
+                return;
+            }
+            handleComputerMoves(currentPlayer, remaining, catched, computerPlayer);
+        });
+    }
+
     // 경로 설명을 위한 메서드
     private String getPathDescription(BoardNode node) {
-        if (node.getName().contains("Edge")) {
+        if (node.getKind() == NodeKind.EDGE) {
             return "외곽";
-        } else if (node.getName().contains("ToCenter")) {
+        } else if (node.getKind() == NodeKind.TO_CENTER) {
             return "중앙";
         } else {
             return node.getName();
         }
     }
 
+    // 현재 국면의 승리 확률을 백그라운드에서 다시 추정 (이전 추정은 취소, 결과는 EDT에서 view에 반영)
+    private void updateWinProbabilities(List<Integer> remainingThrows, boolean caught) {
+        WinProbabilityEstimator estimator = winEstimator;
+        if (estimator == null || gameState.isGameEnded()) {
+            return;
+        }
+        estimator.estimate(gameState, remainingThrows, caught, estimate -> {
+            double[] probabilities = new double[estimate.getPlayerCount()];
+            for (int i = 0; i < probabilities.length; i++) {
+                probabilities[i] = estimate.getWinProbability(i);
+            }
+            SwingUtilities.invokeLater(() -> {
+                if (estimator.isCurrent(estimate)) {
+                    view.showWinProbabilities(probabilities, estimate.getGames());
+                }
+            });
+        });
+    }
+
     // 게임 종료 처리
     private void handleGameEnd(Player winner) {
+        if (winEstimator != null) {
+            winEstimator.shutdown();
+        }
         GameEndChoice choice = view.getGameEndChoice(winner.getName() + " 승리!");
         
         if (choice == GameEndChoice.RESTART) {
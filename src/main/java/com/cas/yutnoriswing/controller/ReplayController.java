@@ -0,0 +1,73 @@
+package com.cas.yutnoriswing.controller;
+
+import com.cas.yutnoriswing.log.GameReplay;
+import com.cas.yutnoriswing.view.InGameView;
+
+import javax.swing.Timer;
+
+//기록된 게임 다시 보기를 제어하는 클래스 (재생/일시정지, 한 칸 이동, 슬라이더로 탐색)
+//탐색은 GameReplay.seek로 가장 가까운 키프레임부터 다시 두므로 긴 게임도 슬라이더를 끄는 대로 바로 따라간다.
+public class ReplayController {
+    private static final int PLAY_DELAY_MILLIS = 300; // 재생 시 레코드 하나를 보여주는 시간
+
+    private final GameReplay replay;
+    private final InGameView view;
+    private final Timer timer;
+
+    public ReplayController(GameReplay replay, InGameView view) {
+        this.replay = replay;
+        this.view = view;
+        this.timer = new Timer(PLAY_DELAY_MILLIS, e -> playStep());
+
+        view.showReplayControls(replay.getEventCount());
+        try {
+            replay.buildIndex(); // 처음 끌 때 끊기지 않도록 키프레임을 미리 만듦
+        } catch (IllegalStateException e) {
+            view.showError(e.getMessage());
+        }
+        view.setOnReplaySeek(this::seek);
+        view.setOnReplayPlayToggle(this::togglePlay);
+        update();
+    }
+
+    //target개 레코드를 적용한 위치로 이동 (재생 중이면 그 위치부터 계속 재생)
+    public void seek(int target) {
+        try {
+            replay.seek(Math.max(0, Math.min(target, replay.getEventCount())));
+        } catch (IllegalStateException e) {
+            timer.stop();
+            view.showError(e.getMessage());
+        }
+        update();
+    }
+
+    //재생/일시정지 (끝에서 재생하면 처음부터)
+    public void togglePlay() {
+        if (timer.isRunning()) {
+            timer.stop();
+        } else {
+            if (!replay.hasNext()) {
+                replay.reset();
+            }
+            timer.start();
+        }
+        update();
+    }
+
+    private void playStep() {
+        try {
+            if (!replay.step()) {
+                timer.stop();
+            }
+        } catch (IllegalStateException e) {
+            timer.stop();
+            view.showError(e.getMessage());
+        }
+        update();
+    }
+
+    private void update() {
+        view.refresh(replay.getState().snapshot());
+        view.updateReplayPosition(replay.getEventIndex(), replay.describeLastEvent(), timer.isRunning());
+    }
+}
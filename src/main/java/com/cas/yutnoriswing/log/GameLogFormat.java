@@ -0,0 +1,37 @@
+package com.cas.yutnoriswing.log;
+
+//게임 기록 파일 형식
+//파일: MAGIC(4바이트) VERSION(1바이트) 뒤에 레코드가 이어짐, 레코드는 종류(가변 길이 정수) + 종류별 값(가변 길이 정수)
+//한 파일에 여러 판을 이어 쓸 수 있으며 판마다 GAME 레코드로 시작한다.
+//  GAME   각 수, 반지름(float 비트), 플레이어 수, 플레이어마다 (이름 바이트 수, UTF-8 이름, 말 개수), 시작 여부, 차례인 플레이어 번호
+//  START
+//  THROW  윷 결과 + 1 (빽도가 0)
+//  ORDER  개수, 윷 결과 + 1 ...
+//  BRANCH 노드 id
+//  MOVE   플레이어, 말, 윷 결과 + 1
+//  CAPTURE 플레이어, 노드 id
+//  STACK  플레이어, 노드 id, 업은 말 수
+//  FINISH 플레이어, 말
+//  TURN   플레이어
+//  WIN    플레이어
+//CAPTURE/STACK/FINISH/WIN은 MOVE로 정해지는 결과라 다시 둘 때는 검증에만 쓴다.
+final class GameLogFormat {
+    static final int MAGIC = 0x5955544C; // "YUTL"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 5;
+
+    static final int GAME = 0;
+    static final int START = 1;
+    static final int THROW = 2;
+    static final int ORDER = 3;
+    static final int BRANCH = 4;
+    static final int MOVE = 5;
+    static final int CAPTURE = 6;
+    static final int STACK = 7;
+    static final int FINISH = 8;
+    static final int TURN = 9;
+    static final int WIN = 10;
+
+    private GameLogFormat() {
+    }
+}
@@ -0,0 +1,158 @@
+package com.cas.yutnoriswing.log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+//게임 기록 파일을 메모리 매핑해서 판 단위로 읽는 클래스
+//nextGame은 다음 GAME 레코드(또는 파일 끝)까지 레코드 길이만 훑어 그 판의 범위를 잘라 GameReplay로 넘긴다.
+//파일 끝에 쓰다 만 레코드가 있으면 (비정상 종료) 그 앞까지만 읽는다.
+public class GameLogReader implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer data;
+    private int validLength;
+    private int skippedEvents; // 마지막 skipEvents가 건너뛴 온전한 레코드 수
+
+    private GameLogReader(FileChannel channel, ByteBuffer data) throws IOException {
+        this.channel = channel;
+        this.data = data;
+        if (data.remaining() < GameLogFormat.HEADER_BYTES || data.getInt() != GameLogFormat.MAGIC
+                || data.get() != GameLogFormat.VERSION) {
+            throw new IOException("게임 기록 파일이 아닙니다.");
+        }
+        this.validLength = data.position();
+    }
+
+    public static GameLogReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("2GB보다 큰 기록 파일은 나눠서 저장해야 합니다: " + file);
+            }
+            return new GameLogReader(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    //메모리에 있는 기록 읽기 (position부터 파일 머리말 포함)
+    public static GameLogReader of(ByteBuffer data) throws IOException {
+        return new GameLogReader(null, data.slice());
+    }
+
+    //읽을 판이 남았는지 (쓰다 만 GAME 레코드만 남았으면 false)
+    public boolean hasNextGame() {
+        if (!data.hasRemaining()) {
+            return false;
+        }
+        try {
+            readGameHeader(data.duplicate());
+            return true;
+        } catch (BufferUnderflowException e) {
+            return false;
+        }
+    }
+
+    public GameReplay nextGame() {
+        if (!hasNextGame()) {
+            throw new IllegalStateException("더 읽을 게임이 없습니다.");
+        }
+        GameHeader header = readGameHeader(data);
+        int start = data.position();
+        int end = skipEvents();
+        ByteBuffer events = data.duplicate();
+        events.position(start).limit(end);
+        return new GameReplay(header.sides, header.radius, header.names, header.tokenCounts, header.started,
+                header.firstPlayer, events.slice(), skippedEvents);
+    }
+
+    //온전한 레코드가 끝나는 위치 (이어 쓸 때 쓰다 만 꼬리를 잘라내는 데 사용)
+    int getValidLength() {
+        return validLength;
+    }
+
+    // GAME 레코드의 값들
+    private static final class GameHeader {
+        int sides;
+        float radius;
+        final List<String> names = new ArrayList<>();
+        final List<Integer> tokenCounts = new ArrayList<>();
+        boolean started;
+        int firstPlayer;
+    }
+
+    private static GameHeader readGameHeader(ByteBuffer buffer) {
+        int type = VarInts.get(buffer);
+        if (type != GameLogFormat.GAME) {
+            throw new IllegalStateException("게임 시작 레코드가 아닙니다: " + type);
+        }
+        GameHeader header = new GameHeader();
+        header.sides = VarInts.get(buffer);
+        header.radius = buffer.getFloat();
+        int playerCount = VarInts.get(buffer);
+        for (int i = 0; i < playerCount; i++) {
+            byte[] name = new byte[VarInts.get(buffer)];
+            buffer.get(name);
+            header.names.add(new String(name, StandardCharsets.UTF_8));
+            header.tokenCounts.add(VarInts.get(buffer));
+        }
+        header.started = VarInts.get(buffer) != 0;
+        header.firstPlayer = VarInts.get(buffer);
+        return header;
+    }
+
+    // 다음 GAME 레코드 또는 끝까지 건너뛰고, 이 판의 끝 위치를 반환
+    private int skipEvents() {
+        int end = data.position();
+        validLength = end;
+        skippedEvents = 0;
+        try {
+            while (data.hasRemaining()) {
+                int recordStart = data.position();
+                int type = VarInts.get(data);
+                if (type == GameLogFormat.GAME) {
+                    data.position(recordStart);
+                    return recordStart;
+                }
+                int fields = type == GameLogFormat.ORDER ? VarInts.get(data) : fieldCount(type);
+                for (int i = 0; i < fields; i++) {
+                    VarInts.get(data);
+                }
+                end = data.position();
+                validLength = end;
+                skippedEvents++;
+            }
+        } catch (BufferUnderflowException e) {
+            // 쓰다 만 마지막 레코드는 버림
+            data.position(data.limit());
+        }
+        return end;
+    }
+
+    // 종류별 값 개수 (개수가 정해지지 않은 ORDER는 제외)
+    static int fieldCount(int type) {
+        return switch (type) {
+            case GameLogFormat.START -> 0;
+            case GameLogFormat.THROW, GameLogFormat.BRANCH, GameLogFormat.TURN, GameLogFormat.WIN -> 1;
+            case GameLogFormat.CAPTURE, GameLogFormat.FINISH -> 2;
+            case GameLogFormat.MOVE, GameLogFormat.STACK -> 3;
+            default -> throw new IllegalStateException("알 수 없는 레코드 종류입니다: " + type);
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.cas.yutnoriswing.log;
+
+import com.cas.yutnoriswing.model.GameEventListener;
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.Player;
+import com.cas.yutnoriswing.model.Token;
+import com.cas.yutnoriswing.model.TokenState;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+//GameState의 상태 변화를 기록 파일 끝에 이어 쓰는 클래스 (GameLogFormat 형식)
+//레코드는 버퍼(64KB)에 모았다가 가득 차거나 flush/close할 때 FileChannel로 한 번에 쓰므로 게임 진행을 거의 늦추지 않는다.
+//flushOnTurn이면 차례가 바뀔 때마다 파일에 써서, 프로그램이 비정상 종료돼도 지난 턴까지는 남는다.
+//한 스레드에서만 사용 (GameState를 바꾸는 스레드)
+public class GameLogWriter implements GameEventListener, Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final boolean flushOnTurn;
+    private GameState attached;
+
+    //file이 있으면 끝에 이어 씀 (비정상 종료로 쓰다 만 레코드가 있으면 먼저 잘라냄)
+    public GameLogWriter(Path file, boolean flushOnTurn) throws IOException {
+        this.flushOnTurn = flushOnTurn;
+        long validLength = 0;
+        if (Files.exists(file) && Files.size(file) > 0) {
+            try (GameLogReader reader = GameLogReader.open(file)) {
+                while (reader.hasNextGame()) {
+                    reader.nextGame();
+                }
+                validLength = reader.getValidLength();
+            }
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            if (validLength == 0) {
+                channel.truncate(0);
+                buffer.putInt(GameLogFormat.MAGIC).put((byte) GameLogFormat.VERSION);
+            } else {
+                channel.truncate(validLength);
+            }
+            channel.position(validLength);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    //새 게임의 기록 시작 (아직 말이 움직이지 않은 게임만, 이전에 연결한 게임은 기록을 멈춤)
+    public void attach(GameState gameState) {
+        for (Player player : gameState.getPlayers()) {
+            for (Token token : player.getTokens()) {
+                if (token.getState() != TokenState.READY) {
+                    throw new IllegalArgumentException("말이 움직이기 전의 게임만 기록할 수 있습니다.");
+                }
+            }
+        }
+        if (attached != null && attached.getGameEventListener() == this) {
+            attached.setGameEventListener(null);
+        }
+        attached = gameState;
+
+        List<Player> players = gameState.getPlayers();
+        byte[][] names = new byte[players.size()][];
+        int size = VarInts.MAX_BYTES * (4 + 2 * players.size());
+        for (int i = 0; i < names.length; i++) {
+            names[i] = players.get(i).getName().getBytes(StandardCharsets.UTF_8);
+            size += names[i].length;
+        }
+        if (size > BUFFER_SIZE) {
+            throw new IllegalArgumentException("플레이어 이름이 너무 깁니다.");
+        }
+        ensure(size);
+        VarInts.put(buffer, GameLogFormat.GAME);
+        VarInts.put(buffer, gameState.getBoard().getSides());
+        buffer.putFloat(gameState.getBoard().getRadius());
+        VarInts.put(buffer, players.size());
+        for (int i = 0; i < names.length; i++) {
+            VarInts.put(buffer, names[i].length);
+            buffer.put(names[i]);
+            VarInts.put(buffer, players.get(i).getTokens().size());
+        }
+        VarInts.put(buffer, gameState.isGameStarted() ? 1 : 0);
+        VarInts.put(buffer, players.indexOf(gameState.getCurrentPlayer()));
+        gameState.setGameEventListener(this);
+    }
+
+    @Override
+    public void onStart() {
+        record(GameLogFormat.START);
+    }
+
+    @Override
+    public void onThrow(int steps) {
+        record(GameLogFormat.THROW, steps + 1);
+    }
+
+    @Override
+    public void onThrowOrder(List<Integer> orderedSteps) {
+        ensure(VarInts.MAX_BYTES * (2 + orderedSteps.size()));
+        VarInts.put(buffer, GameLogFormat.ORDER);
+        VarInts.put(buffer, orderedSteps.size());
+        for (int steps : orderedSteps) {
+            VarInts.put(buffer, steps + 1);
+        }
+    }
+
+    @Override
+    public void onBranch(int nodeId) {
+        record(GameLogFormat.BRANCH, nodeId);
+    }
+
+    @Override
+    public void onMove(int player, int token, int steps) {
+        ensure(VarInts.MAX_BYTES * 4);
+        VarInts.put(buffer, GameLogFormat.MOVE);
+        VarInts.put(buffer, player);
+        VarInts.put(buffer, token);
+        VarInts.put(buffer, steps + 1);
+    }
+
+    @Override
+    public void onCapture(int player, int nodeId) {
+        ensure(VarInts.MAX_BYTES * 3);
+        VarInts.put(buffer, GameLogFormat.CAPTURE);
+        VarInts.put(buffer, player);
+        VarInts.put(buffer, nodeId);
+    }
+
+    @Override
+    public void onStack(int player, int nodeId, int stackedCount) {
+        ensure(VarInts.MAX_BYTES * 4);
+        VarInts.put(buffer, GameLogFormat.STACK);
+        VarInts.put(buffer, player);
+        VarInts.put(buffer, nodeId);
+        VarInts.put(buffer, stackedCount);
+    }
+
+    @Override
+    public void onFinish(int player, int token) {
+        ensure(VarInts.MAX_BYTES * 3);
+        VarInts.put(buffer, GameLogFormat.FINISH);
+        VarInts.put(buffer, player);
+        VarInts.put(buffer, token);
+    }
+
+    @Override
+    public void onTurn(int player) {
+        record(GameLogFormat.TURN, player);
+        if (flushOnTurn) {
+            flush();
+        }
+    }
+
+    @Override
+    public void onWin(int player) {
+        record(GameLogFormat.WIN, player);
+        flush();
+    }
+
+    private void record(int type) {
+        ensure(VarInts.MAX_BYTES);
+        VarInts.put(buffer, type);
+    }
+
+    private void record(int type, int value) {
+        ensure(VarInts.MAX_BYTES * 2);
+        VarInts.put(buffer, type);
+        VarInts.put(buffer, value);
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    //버퍼에 모인 레코드를 파일에 씀
+    public void flush() {
+        try {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException("게임 기록을 쓰지 못했습니다.", e);
+        }
+    }
+
+    //남은 레코드를 쓰고 디스크에 반영한 뒤 닫음
+    @Override
+    public void close() throws IOException {
+        if (attached != null && attached.getGameEventListener() == this) {
+            attached.setGameEventListener(null);
+        }
+        try {
+            flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.cas.yutnoriswing.log;
+
+import com.cas.yutnoriswing.model.GameEventListener;
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.GameStateCodec;
+import com.cas.yutnoriswing.model.GameStateKeyframe;
+import com.cas.yutnoriswing.model.Player;
+import com.cas.yutnoriswing.model.Token;
+import com.cas.yutnoriswing.model.YutGameRules;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//기록된 한 판을 레코드 순서대로 다시 두어 GameState를 재구성하는 클래스
+//MOVE/TURN만 상태를 바꾸고, THROW/ORDER는 리스너에 다시 알리기만 하며, CAPTURE/STACK/FINISH/WIN은 다시 둔 결과와 맞는지 검증한다.
+//기록과 다시 둔 결과가 다르면 (규칙이 바뀌었거나 기록이 조작됨) IllegalStateException
+//
+//탐색(seek): 앞으로 두면서 keyframeInterval개 레코드마다 키프레임(GameStateKeyframe + 레코드 위치)을 남기고,
+//임의의 위치로 갈 때는 그 앞의 가장 가까운 키프레임을 복원한 뒤 남은 레코드(최대 keyframeInterval개 남짓)만 다시 둔다.
+//GameState 객체는 처음 만든 것을 계속 쓰므로 화면은 getState()를 한 번만 연결하면 된다.
+public class GameReplay {
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 32;
+
+    private final int sides;
+    private final float radius;
+    private final List<String> playerNames;
+    private final List<Integer> tokenCounts;
+    private final ByteBuffer events;
+    private final int eventCount;
+    private final int keyframeInterval;
+
+    private final GameState state;
+    private final GameStateCodec codec;
+    private final List<Keyframe> keyframes = new ArrayList<>(); // 레코드 번호 순서
+    private GameEventListener listener;
+    private int eventIndex;
+    private int pendingBranch = -1;
+    private Token lastMoved;
+    private int lastStatus; // 직전 이동의 상태 비트 (YutGameRules.MOVE_*)
+
+    // 마지막으로 적용한 레코드 (화면 표시용, 문자열은 필요할 때만 만듦)
+    private int lastType = -1;
+    private int lastFirst;
+    private int lastSecond;
+    private int lastThird;
+
+    // 키프레임: eventIndex개 레코드를 적용한 직후의 상태와 다음 레코드 위치
+    private static final class Keyframe {
+        final int eventIndex;
+        final int position;
+        final GameStateKeyframe snapshot;
+
+        Keyframe(int eventIndex, int position, GameStateKeyframe snapshot) {
+            this.eventIndex = eventIndex;
+            this.position = position;
+            this.snapshot = snapshot;
+        }
+    }
+
+    GameReplay(int sides, float radius, List<String> playerNames, List<Integer> tokenCounts, boolean started,
+               int firstPlayer, ByteBuffer events, int eventCount) {
+        this(sides, radius, playerNames, tokenCounts, started, firstPlayer, events, eventCount, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    GameReplay(int sides, float radius, List<String> playerNames, List<Integer> tokenCounts, boolean started,
+               int firstPlayer, ByteBuffer events, int eventCount, int keyframeInterval) {
+        this.sides = sides;
+        this.radius = radius;
+        this.playerNames = Collections.unmodifiableList(new ArrayList<>(playerNames));
+        this.tokenCounts = Collections.unmodifiableList(new ArrayList<>(tokenCounts));
+        this.events = events;
+        this.eventCount = eventCount;
+        this.keyframeInterval = keyframeInterval;
+
+        this.state = new GameState(sides, radius, playerNames, tokenCounts);
+        if (started) {
+            state.startGame();
+        }
+        for (int i = 0; i < firstPlayer; i++) {
+            state.nextTurn();
+        }
+        this.codec = new GameStateCodec(state);
+        keyframes.add(new Keyframe(0, 0, GameStateKeyframe.capture(codec, state)));
+    }
+
+    //처음 상태로 되돌림
+    public void reset() {
+        seek(0);
+    }
+
+    //다시 두는 동안 GameState가 내는 상태 변화를 받을 리스너 (분석용, seek로 건너뛰는 레코드는 알리지 않음)
+    public void setGameEventListener(GameEventListener listener) {
+        this.listener = listener;
+        state.setGameEventListener(listener);
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public int getSides() { return sides; }
+    public float getRadius() { return radius; }
+    public List<String> getPlayerNames() { return playerNames; }
+    public List<Integer> getTokenCounts() { return tokenCounts; }
+
+    //지금까지 적용한 레코드 수
+    public int getEventIndex() {
+        return eventIndex;
+    }
+
+    //이 판의 전체 레코드 수
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public boolean hasNext() {
+        return events.hasRemaining();
+    }
+
+    //레코드 하나를 적용 (더 없으면 false)
+    public boolean step() {
+        if (!events.hasRemaining()) {
+            return false;
+        }
+        int type = VarInts.get(events);
+        lastType = type;
+        switch (type) {
+            case GameLogFormat.START -> state.startGame();
+            case GameLogFormat.THROW -> {
+                lastFirst = VarInts.get(events) - 1;
+                state.recordThrow(lastFirst);
+            }
+            case GameLogFormat.ORDER -> {
+                int count = VarInts.get(events);
+                List<Integer> ordered = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    ordered.add(VarInts.get(events) - 1);
+                }
+                lastFirst = count;
+                state.recordThrowOrder(ordered);
+            }
+            case GameLogFormat.BRANCH -> pendingBranch = lastFirst = VarInts.get(events);
+            case GameLogFormat.MOVE -> {
+                lastFirst = VarInts.get(events);
+                lastSecond = VarInts.get(events);
+                lastThird = VarInts.get(events) - 1;
+                move(lastFirst, lastSecond, lastThird);
+            }
+            case GameLogFormat.CAPTURE -> {
+                lastFirst = VarInts.get(events);
+                lastSecond = VarInts.get(events);
+                verify(YutGameRules.isCaught(lastStatus), "잡기");
+            }
+            case GameLogFormat.STACK -> {
+                lastFirst = VarInts.get(events);
+                lastSecond = VarInts.get(events);
+                lastThird = VarInts.get(events);
+                verify(lastMoved != null && lastMoved.getTopMostToken().getStackedCount() == lastThird, "업기");
+            }
+            case GameLogFormat.FINISH -> {
+                lastFirst = VarInts.get(events);
+                lastSecond = VarInts.get(events);
+                verify(YutGameRules.isFinished(lastStatus), "완주");
+            }
+            case GameLogFormat.TURN -> {
+                lastFirst = VarInts.get(events);
+                state.nextTurn();
+                verify(state.getPlayers().indexOf(state.getCurrentPlayer()) == lastFirst, "차례");
+            }
+            case GameLogFormat.WIN -> {
+                lastFirst = VarInts.get(events);
+                verify(state.checkVictory(state.getPlayers().get(lastFirst)), "승리");
+            }
+            default -> throw new IllegalStateException("알 수 없는 레코드 종류입니다: " + type);
+        }
+        eventIndex++;
+        if (eventIndex >= keyframes.get(keyframes.size() - 1).eventIndex + keyframeInterval && isKeyframeSafe()) {
+            keyframes.add(new Keyframe(eventIndex, events.position(), GameStateKeyframe.capture(codec, state)));
+        }
+        return true;
+    }
+
+    // 키프레임을 남겨도 되는 위치인지 (고른 분기가 남아 있지 않고, 다음 레코드가 직전 이동의 검증 레코드가 아님)
+    private boolean isKeyframeSafe() {
+        if (pendingBranch >= 0) {
+            return false;
+        }
+        if (!events.hasRemaining()) {
+            return true;
+        }
+        int next = events.get(events.position()); // 레코드 종류는 모두 1바이트
+        return next != GameLogFormat.CAPTURE && next != GameLogFormat.STACK
+                && next != GameLogFormat.FINISH && next != GameLogFormat.WIN;
+    }
+
+    private void move(int player, int tokenIndex, int steps) {
+        Player owner = state.getPlayers().get(player);
+        Token token = owner.getTokens().get(tokenIndex);
+        if (pendingBranch >= 0) {
+            token.getTopMostToken().setNextBranchChoice(state.getBoard().getNode(pendingBranch));
+            pendingBranch = -1;
+        }
+        lastMoved = token;
+        lastStatus = state.applyMove(token, steps);
+        verify(YutGameRules.isSuccess(lastStatus), "이동");
+    }
+
+    private void verify(boolean matches, String what) {
+        if (!matches) {
+            throw new IllegalStateException("기록과 다시 둔 결과가 다릅니다: " + what + " (레코드 " + eventIndex + ")");
+        }
+    }
+
+    //target개 레코드를 적용한 상태로 이동 (앞/뒤 모두, 가장 가까운 키프레임부터 다시 둠)
+    public void seek(int target) {
+        if (target < 0 || target > eventCount) {
+            throw new IndexOutOfBoundsException("레코드 위치가 범위를 벗어났습니다: " + target + " / " + eventCount);
+        }
+        Keyframe keyframe = keyframeAtOrBefore(target);
+        state.setGameEventListener(null);
+        try {
+            if (target < eventIndex || keyframe.eventIndex > eventIndex) {
+                keyframe.snapshot.restore(codec, state);
+                events.position(keyframe.position);
+                eventIndex = keyframe.eventIndex;
+                pendingBranch = -1;
+                lastMoved = null;
+                lastStatus = 0;
+                lastType = -1;
+            }
+            while (eventIndex < target) {
+                step();
+            }
+        } finally {
+            state.setGameEventListener(listener);
+        }
+    }
+
+    private Keyframe keyframeAtOrBefore(int target) {
+        int low = 0;
+        int high = keyframes.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (keyframes.get(mid).eventIndex <= target) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return keyframes.get(low);
+    }
+
+    //끝까지 한 번 훑어 키프레임을 모두 만든 뒤 현재 위치로 돌아옴 (화면에서 처음 끌기 전에 부르면 어디로든 바로 이동)
+    public void buildIndex() {
+        int current = eventIndex;
+        seek(eventCount);
+        seek(current);
+    }
+
+    public int getKeyframeCount() {
+        return keyframes.size();
+    }
+
+    //끝까지 다시 두고 최종 상태 반환
+    public GameState replayToEnd() {
+        while (step()) {
+            // 레코드를 모두 적용
+        }
+        return state;
+    }
+
+    //마지막으로 적용한 레코드 설명 (없으면 빈 문자열)
+    public String describeLastEvent() {
+        return switch (lastType) {
+            case GameLogFormat.START -> "게임 시작";
+            case GameLogFormat.THROW -> "윷 던지기: " + YutGameRules.getYutName(lastFirst);
+            case GameLogFormat.ORDER -> "윷 결과 " + lastFirst + "개의 순서 결정";
+            case GameLogFormat.BRANCH -> "분기 선택: " + state.getBoard().getNode(lastFirst).getName();
+            case GameLogFormat.MOVE -> playerNames.get(lastFirst) + "의 " + state.getPlayers().get(lastFirst)
+                    .getTokens().get(lastSecond).getName() + " " + lastThird + "칸 이동";
+            case GameLogFormat.CAPTURE -> playerNames.get(lastFirst) + " 잡기 ("
+                    + state.getBoard().getNode(lastSecond).getName() + ")";
+            case GameLogFormat.STACK -> playerNames.get(lastFirst) + " 업기 (" + lastThird + "개)";
+            case GameLogFormat.FINISH -> playerNames.get(lastFirst) + "의 " + state.getPlayers().get(lastFirst)
+                    .getTokens().get(lastSecond).getName() + " 완주";
+            case GameLogFormat.TURN -> playerNames.get(lastFirst) + "의 차례";
+            case GameLogFormat.WIN -> playerNames.get(lastFirst) + " 승리";
+            default -> "";
+        };
+    }
+}
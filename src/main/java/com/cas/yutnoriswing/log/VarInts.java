@@ -0,0 +1,34 @@
+package com.cas.yutnoriswing.log;
+
+import java.nio.ByteBuffer;
+
+//0 이상의 정수를 7비트씩 나눠 쓰는 가변 길이 정수 (작은 값일수록 적은 바이트, 0~127은 1바이트)
+final class VarInts {
+    static final int MAX_BYTES = 5;
+
+    private VarInts() {
+    }
+
+    static void put(ByteBuffer buffer, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("음수는 기록할 수 없습니다: " + value);
+        }
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static int get(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 7 * MAX_BYTES; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("가변 길이 정수가 너무 깁니다. (위치 " + buffer.position() + ")");
+    }
+}
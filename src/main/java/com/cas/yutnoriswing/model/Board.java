@@ -1,153 +1,105 @@
 package com.cas.yutnoriswing.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 //보드와 보드의 노드를 관리하는 클래스
+//연결 구조는 정수 id 기반의 BoardTopology가 담당하고, BoardNode는 id별 노드 객체(말 위치 기록용)이다.
+//BoardTopology와 이동 테이블은 불변이라 같은 (sides, radius)의 보드끼리 하나를 같이 쓰고,
+//보드마다 따로 갖는 것은 말이 올라가는 노드 객체들뿐이다.
 public class Board {
-    private List<BoardNode> nodes;
-    private BoardNode startNode;
+    private final BoardTopology topology;
+    private final MoveTable moveTable;
+    private final BoardNode[] nodesById;
+    private final BoardNode startNode;
     private final int sides;
     private final float radius;
-    
+
     public Board(int sides, float radius) {
         if (sides < 3) {
             throw new IllegalArgumentException("보드는 최소 3각형 이상이어야 합니다.");
         }
-        
+
         this.sides = sides;
         this.radius = radius;
-        initializeBoard();
-    }
-    
-    private void initializeBoard() {
-        this.nodes = new ArrayList<>();
-        
-        // Center 노드 생성
-        float centerX = 2.5f;
-        float centerY = 2.5f;
-        BoardNode center = new BoardNode("Center", centerX, centerY, sides);
-        nodes.add(center);
-        
-        // 외곽 노드와 센터로 향하는 노드 생성
-        BoardNode[][] edgeNodes = new BoardNode[sides][6];
-        BoardNode[] toCenterPath1 = new BoardNode[sides];
-        BoardNode[] toCenterPath2 = new BoardNode[sides];
-        
-        createEdgeNodes(edgeNodes, centerX, centerY);
-        createCenterPathNodes(edgeNodes, center, toCenterPath1, toCenterPath2, centerX, centerY);
-        connectNodes(edgeNodes, center, toCenterPath1, toCenterPath2);
-        
+        this.topology = BoardTopology.of(sides, radius);
+        this.moveTable = topology.getMoveTable();
+        this.nodesById = createNodes();
+
         // 첫 번째 모서리 노드를 시작 노드로 설정 (Edge 0-0)
-        this.startNode = edgeNodes[0][0];
-    }
-    
-    private void createEdgeNodes(BoardNode[][] edgeNodes, float centerX, float centerY) {
-        for (int i = 0; i < sides; i++) {
-            double angle1 = 2 * Math.PI * i / sides - Math.PI / 2;
-            double angle2 = 2 * Math.PI * (i + 1) / sides - Math.PI / 2;
-            
-            float x1 = (float)(Math.cos(angle1) * radius + centerX);
-            float y1 = (float)(Math.sin(angle1) * radius + centerY);
-            float x2 = (float)(Math.cos(angle2) * radius + centerX);
-            float y2 = (float)(Math.sin(angle2) * radius + centerY);
-            
-            for (int j = 0; j < 6; j++) {
-                float t = j / 5f;
-                float x = x1 + (x2 - x1) * t;
-                float y = y1 + (y2 - y1) * t;
-                
-                if (j == 0 && i > 0) {
-                    edgeNodes[i][j] = edgeNodes[i - 1][5];
-                } else {
-                    BoardNode node = new BoardNode("Edge" + i + "-" + j, x, y, sides);
-                    edgeNodes[i][j] = node;
-                    nodes.add(node);
-                }
-            }
-        }
+        this.startNode = nodesById[topology.getStartId()];
     }
-    
-    private void createCenterPathNodes(BoardNode[][] edgeNodes, BoardNode center,
-                                     BoardNode[] toCenterPath1, BoardNode[] toCenterPath2,
-                                     float centerX, float centerY) {
-        for (int i = 0; i < sides; i++) {
-            float cx = edgeNodes[i][0].getX();
-            float cy = edgeNodes[i][0].getY();
-            
-            float dx = centerX - cx;
-            float dy = centerY - cy;
-            
-            float midX1 = cx + dx / 3f;
-            float midY1 = cy + dy / 3f;
-            float midX2 = cx + dx * 2 / 3f;
-            float midY2 = cy + dy * 2 / 3f;
-            
-            BoardNode path1 = new BoardNode("ToCenter" + i + "-1", midX1, midY1, sides);
-            BoardNode path2 = new BoardNode("ToCenter" + i + "-2", midX2, midY2, sides);
-            
-            toCenterPath1[i] = path1;
-            toCenterPath2[i] = path2;
-            
-            nodes.add(path1);
-            nodes.add(path2);
+
+    // id 순서대로 노드 객체를 만들고 다음 노드 연결
+    private BoardNode[] createNodes() {
+        int nodeCount = topology.getNodeCount();
+        BoardNode[] created = new BoardNode[nodeCount];
+        for (int id = 0; id < nodeCount; id++) {
+            created[id] = new BoardNode(id, topology.getName(id), topology.getX(id), topology.getY(id), sides,
+                    topology.getKind(id), topology.getSideIndex(id), topology.getPathPosition(id));
         }
-    }
-    
-    private void connectNodes(BoardNode[][] edgeNodes, BoardNode center,
-                            BoardNode[] toCenterPath1, BoardNode[] toCenterPath2) {
-        for (int i = 0; i < sides; i++) {
-            // 외곽 노드 연결
-            for (int j = 0; j < 5; j++) {
-                edgeNodes[i][j].addNextNode(edgeNodes[i][j + 1]);
-            }
-            
-            // 꼭짓점과 센터 노드 연결
-            if (i != 0 && i <= (sides + 1) / 2) {
-                edgeNodes[i][0].addNextNode(toCenterPath1[i]);
-                toCenterPath1[i].addNextNode(toCenterPath2[i]);
-                toCenterPath2[i].addNextNode(center);
-            } else {
-                center.addNextNode(toCenterPath2[i]);
-                toCenterPath2[i].addNextNode(toCenterPath1[i]);
-                if (i == 0) {
-                    toCenterPath1[i].addNextNode(edgeNodes[sides - 1][5]);
-                } else {
-                    toCenterPath1[i].addNextNode(edgeNodes[i - 1][5]);
-                }
+        for (int id = 0; id < nodeCount; id++) {
+            for (int k = 0; k < topology.getSuccessorCount(id); k++) {
+                created[id].addNextNode(created[topology.getSuccessor(id, k)]);
             }
         }
+        return created;
     }
 
     // 기본적인 getter 메서드
     public List<BoardNode> getNodes() {
-        return new ArrayList<>(nodes);
+        return new ArrayList<>(Arrays.asList(nodesById));
     }
-    
+
     public BoardNode getStartNode() {
         return startNode;
     }
-    
+
     public int getSides() {
         return sides;
     }
-    
+
+    public float getRadius() {
+        return radius;
+    }
+
+    public BoardTopology getTopology() {
+        return topology;
+    }
+
+    MoveTable getMoveTable() {
+        return moveTable;
+    }
+
+    //id로 노드 찾기 (범위 밖이면 null)
+    public BoardNode getNode(int id) {
+        return id >= 0 && id < nodesById.length ? nodesById[id] : null;
+    }
+
+    //이 보드에 속한 노드인지 확인 (다른 보드나 직접 만든 노드와 구분)
+    public boolean contains(BoardNode node) {
+        return node != null && getNode(node.getId()) == node;
+    }
+
+    //분기점(다음 노드가 둘 이상)인지 확인하는 메서드 (분기 선택이 필요한 지 판단용)
+    public boolean isBranchNode(BoardNode node) {
+        return contains(node) && topology.isBranch(node.getId());
+    }
+
     public BoardNode findNodeByName(String nodeName) {
-        return nodes.stream()
-                .filter(node -> nodeName.equals(node.getName()))
-                .findFirst()
-                .orElse(null);
+        return getNode(topology.findId(nodeName));
     }
-    
+
     //현재 노드의 이전 노드를 찾는 메서드 (빽도와 분기 선택을 위함)
+    //합류 지점(Center 등)은 이전 노드가 여러 개이므로 id가 가장 작은 노드를 반환 (실제로 온 길은 Token의 이동 기록 사용)
     public BoardNode findPreviousNode(BoardNode currentNode) {
-        if (currentNode == null) return null;
-        
-        for (BoardNode node : nodes) {
-            if (node.getNextNodes().contains(currentNode)) {
-                return node;
-            }
+        if (!contains(currentNode)) return null;
+
+        int id = currentNode.getId();
+        if (topology.getPredecessorCount(id) == 0) {
+            return null; // 이전 노드가 없을 때 (시작 노드인 경우)
         }
-        return null; // 이전 노드가 없을 때 (시작 노드인 경우)
+        return nodesById[topology.getPredecessor(id, 0)];
     }
-} 
\ No newline at end of file
+}
@@ -1,24 +1,49 @@
 package com.cas.yutnoriswing.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 //노드에 대한 정보(다음 노드, 이전 노드, 좌표, 이름 등..)가 담긴 클래스
+//올라온 말은 목록과 함께 비트 집합으로도 관리한다:
+//- 점유 집합: 비트 s = s번째 자리(Player.getSeat) 플레이어의 말이 있음
+//- 자리별 말 집합: 비트 i = 그 플레이어의 i번째 말이 있음
+//잡기/업기 판단과 화면 그리기는 목록을 훑지 않고 집합만 보면 된다.
+//말은 목록에서의 위치를 기억하므로 떠날 때 마지막 말과 자리를 바꿔 O(1)로 뺀다 (목록 순서는 바뀔 수 있음).
 public class BoardNode {
     private String name;                  // 노드 이름 (예: Edge0-1, Center 등)
     private float x, y;                   // 좌표
     private List<BoardNode> nextNodes;    // 다음 노드들
-    private List<Token> tokens;           // 현재 올라와 있는 토큰들
+    private final List<Token> tokens;     // 현재 올라와 있는 토큰들
+    private final List<Token> tokenView;  // 밖으로 내주는 읽기 전용 목록
+    private int occupantMask;             // 말이 있는 플레이어 자리 집합
+    private int[] tokenMasks = new int[4]; // 자리별 말 집합
+    private int untracked;                // 자리나 말 번호가 없는 말 수 (게임에 등록되지 않은 플레이어의 말)
     private int sides;                    // 보드의 각 수 (중앙 경로 분기 판단용)
+    private final int id;                 // 보드 안에서의 노드 번호 (BoardTopology id, 보드 밖 노드는 -1)
+    private final NodeKind kind;          // 노드 종류 (보드 밖 노드는 null)
+    private final int sideIndex;          // 몇 번째 변(또는 지름길)인지
+    private final int pathPosition;       // 변/지름길 안에서의 위치
 
-    //BoardNode 생성자
+    //BoardNode 생성자 (보드와 상관없이 만드는 노드)
     public BoardNode(String name, float x, float y, int sides) {
+        this(-1, name, x, y, sides, null, -1, -1);
+    }
+
+    //Board가 BoardTopology의 id와 종류 정보를 담아 만드는 생성자
+    BoardNode(int id, String name, float x, float y, int sides, NodeKind kind, int sideIndex, int pathPosition) {
+        this.id = id;
         this.name = name;
         this.x = x;
         this.y = y;
         this.sides = sides;
+        this.kind = kind;
+        this.sideIndex = sideIndex;
+        this.pathPosition = pathPosition;
         this.nextNodes = new ArrayList<>();
         this.tokens = new ArrayList<>();
+        this.tokenView = Collections.unmodifiableList(tokens);
     }
 
     //Getter 메서드
@@ -46,20 +71,125 @@ public class BoardNode {
         return sides;
     }
 
+    public int getId() {
+        return id;
+    }
+
+    public NodeKind getKind() {
+        return kind;
+    }
+
+    public int getSideIndex() {
+        return sideIndex;
+    }
+
+    public int getPathPosition() {
+        return pathPosition;
+    }
+
 
     //해당 노드에 말 위치 시 새로 기록해주는 메서드
     public void enter(Token token) {
+        token.setNodeIndex(tokens.size());
         tokens.add(token);
+        int seat = seatOf(token);
+        if (seat < 0) {
+            untracked++;
+            return;
+        }
+        if (seat >= tokenMasks.length) {
+            tokenMasks = Arrays.copyOf(tokenMasks, Math.max(tokenMasks.length * 2, seat + 1));
+        }
+        tokenMasks[seat] |= 1 << token.getSlot();
+        occupantMask |= 1 << seat;
     }
 
-    //해당 노드에서 말이 떠날 시 해당 토큰을 삭제해주는 메서드
+    //해당 노드에서 말이 떠날 시 해당 토큰을 삭제해주는 메서드 (마지막 말을 빈자리로 옮김)
     public void leave(Token token) {
-        tokens.remove(token);
+        int index = token.getNodeIndex();
+        if (index < 0 || index >= tokens.size() || tokens.get(index) != token) {
+            index = tokens.indexOf(token); // 이 노드의 위치가 아니면 직접 찾음
+            if (index < 0) {
+                return;
+            }
+        }
+        Token last = tokens.remove(tokens.size() - 1);
+        if (last != token) {
+            tokens.set(index, last);
+            last.setNodeIndex(index);
+        }
+        token.setNodeIndex(-1);
+
+        int seat = seatOf(token);
+        if (seat < 0) {
+            untracked--;
+            return;
+        }
+        tokenMasks[seat] &= ~(1 << token.getSlot());
+        if (tokenMasks[seat] == 0) {
+            occupantMask &= ~(1 << seat);
+        }
     }
 
-    //해당 노드 위치한 말을 반환하는 메서드
+    //노드에 기록된 말을 모두 지우는 메서드 (상태 복원용)
+    void clearTokens() {
+        for (int i = 0; i < tokens.size(); i++) {
+            tokens.get(i).setNodeIndex(-1);
+        }
+        tokens.clear();
+        Arrays.fill(tokenMasks, 0);
+        occupantMask = 0;
+        untracked = 0;
+    }
+
+    //해당 노드 위치한 말을 반환하는 메서드 (읽기 전용)
     public List<Token> getTokens() {
-        return tokens;
+        return tokenView;
+    }
+
+    //말이 있는 플레이어 자리 집합 (비트 s = Player.getSeat()가 s인 플레이어)
+    public int getOccupantMask() {
+        return occupantMask;
+    }
+
+    //seat 자리 플레이어의 말 중 이 노드에 있는 말 집합 (비트 i = 그 플레이어의 i번째 말)
+    public int getTokenMask(int seat) {
+        return seat >= 0 && seat < tokenMasks.length ? tokenMasks[seat] : 0;
+    }
+
+    //token과 다른 플레이어의 말이 있는지 (잡기 판단)
+    boolean hasOpponentOf(Token token) {
+        int seat = seatOf(token);
+        if (untracked > 0 || seat < 0) {
+            for (int i = 0; i < tokens.size(); i++) {
+                if (tokens.get(i).getOwner() != token.getOwner()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return (occupantMask & ~(1 << seat)) != 0;
+    }
+
+    //token 말고 같은 플레이어의 말이 있는지 (업기 판단)
+    boolean hasTeammateOf(Token token) {
+        int seat = seatOf(token);
+        if (untracked > 0 || seat < 0) {
+            for (int i = 0; i < tokens.size(); i++) {
+                Token t = tokens.get(i);
+                if (t != token && t.getOwner() == token.getOwner()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return (tokenMasks[seat] & ~(1 << token.getSlot())) != 0;
+    }
+
+    // 집합에 넣을 수 있는 말이면 주인의 자리, 아니면 -1
+    private static int seatOf(Token token) {
+        Player owner = token.getOwner();
+        return owner != null && token.getSlot() >= 0 ? owner.getSeat() : -1;
     }
 
 }
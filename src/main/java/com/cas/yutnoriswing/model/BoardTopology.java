@@ -0,0 +1,286 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//보드의 연결 구조를 정수 id로 표현한 불변 클래스 (노드 id는 0부터 연속)
+//다음 노드들은 CSR 형태(successorOffsets / successors 배열)로 저장되어, 노드 객체를 따라가지 않고 배열 조회만으로 이동할 수 있다.
+//불변이므로 (sides, radius)마다 하나만 만들어 이동 테이블과 함께 모든 게임과 스레드가 같이 쓴다 (of 참고).
+public final class BoardTopology {
+    private static final int EDGE_LENGTH = 5; // 한 변의 칸 수 (꼭짓점 ~ 꼭짓점)
+    private static final Map<Long, BoardTopology> SHARED = new ConcurrentHashMap<>(); // (sides, radius) → 공유 구조
+
+    private final int sides;
+    private final int nodeCount;
+    private final int centerId;
+    private final int startId;
+
+    // 노드별 정보 (id로 인덱싱)
+    private final String[] names;
+    private final NodeKind[] kinds;
+    private final int[] sideIndices;     // 몇 번째 변(또는 지름길)인지, Center는 -1
+    private final int[] pathPositions;   // 변/지름길 안에서의 위치 (외곽 0~5, 지름길 1~2, Center 0)
+    private final float[] xs;
+    private final float[] ys;
+
+    // CSR: id의 다음 노드들은 successors[successorOffsets[id] .. successorOffsets[id + 1])
+    private final int[] successorOffsets;
+    private final int[] successors;
+
+    // 역방향 CSR: id로 들어오는 노드들 (빽도용, id가 작은 노드부터)
+    private final int[] predecessorOffsets;
+    private final int[] predecessors;
+
+    private final Map<String, Integer> idsByName;
+    private final MoveTable moveTable; // 연결이 끝난 뒤 한 번만 계산
+
+    BoardTopology(int sides, float radius) {
+        if (sides < 3) {
+            throw new IllegalArgumentException("보드는 최소 3각형 이상이어야 합니다.");
+        }
+
+        this.sides = sides;
+        // Center 1개 + 첫 변 6개 + 나머지 변 5개씩 (꼭짓점 공유) + 지름길 2개씩
+        this.nodeCount = 1 + (EDGE_LENGTH + 1) + (sides - 1) * EDGE_LENGTH + sides * 2;
+        this.centerId = 0;
+        this.startId = edgeId(0, 0);
+
+        this.names = new String[nodeCount];
+        this.kinds = new NodeKind[nodeCount];
+        this.sideIndices = new int[nodeCount];
+        this.pathPositions = new int[nodeCount];
+        this.xs = new float[nodeCount];
+        this.ys = new float[nodeCount];
+        this.idsByName = new HashMap<>(nodeCount * 2);
+
+        float centerX = 2.5f;
+        float centerY = 2.5f;
+        setNode(centerId, "Center", NodeKind.CENTER, -1, 0, centerX, centerY);
+        createEdgeNodes(radius, centerX, centerY);
+        createCenterPathNodes(centerX, centerY);
+
+        this.successorOffsets = new int[nodeCount + 1];
+        this.successors = new int[sides * 8]; // 변마다 외곽 연결 5개 + 지름길 연결 3개
+        connectNodes();
+
+        this.predecessorOffsets = new int[nodeCount + 1];
+        this.predecessors = new int[successors.length];
+        buildPredecessors();
+
+        this.moveTable = new MoveTable(this);
+    }
+
+    //(sides, radius)의 공유 연결 구조 (처음 요청할 때 만들고, 이후에는 같은 객체를 돌려줌)
+    public static BoardTopology of(int sides, float radius) {
+        long key = ((long) sides << 32) | (Float.floatToIntBits(radius) & 0xFFFFFFFFL);
+        BoardTopology topology = SHARED.get(key);
+        if (topology == null) {
+            topology = SHARED.computeIfAbsent(key, k -> new BoardTopology(sides, radius));
+        }
+        return topology;
+    }
+
+    // id 계산 (이름 순서가 아닌 생성 순서: Center, 외곽, 지름길)
+    private int edgeId(int side, int position) {
+        if (position == 0 && side > 0) {
+            return edgeId(side - 1, EDGE_LENGTH); // 이전 변의 끝 꼭짓점과 공유
+        }
+        if (side == 0) {
+            return 1 + position;
+        }
+        return 1 + (EDGE_LENGTH + 1) + (side - 1) * EDGE_LENGTH + (position - 1);
+    }
+
+    private int toCenterId(int side, int position) {
+        return 1 + (EDGE_LENGTH + 1) + (sides - 1) * EDGE_LENGTH + side * 2 + (position - 1);
+    }
+
+    private void setNode(int id, String name, NodeKind kind, int sideIndex, int pathPosition, float x, float y) {
+        names[id] = name;
+        kinds[id] = kind;
+        sideIndices[id] = sideIndex;
+        pathPositions[id] = pathPosition;
+        xs[id] = x;
+        ys[id] = y;
+        idsByName.put(name, id);
+    }
+
+    private void createEdgeNodes(float radius, float centerX, float centerY) {
+        for (int i = 0; i < sides; i++) {
+            double angle1 = 2 * Math.PI * i / sides - Math.PI / 2;
+            double angle2 = 2 * Math.PI * (i + 1) / sides - Math.PI / 2;
+
+            float x1 = (float)(Math.cos(angle1) * radius + centerX);
+            float y1 = (float)(Math.sin(angle1) * radius + centerY);
+            float x2 = (float)(Math.cos(angle2) * radius + centerX);
+            float y2 = (float)(Math.sin(angle2) * radius + centerY);
+
+            // 첫 꼭짓점은 이전 변의 마지막 꼭짓점과 같은 노드 (첫 번째 변 제외)
+            for (int j = (i == 0 ? 0 : 1); j <= EDGE_LENGTH; j++) {
+                float t = j / 5f;
+                float x = x1 + (x2 - x1) * t;
+                float y = y1 + (y2 - y1) * t;
+                setNode(edgeId(i, j), "Edge" + i + "-" + j, NodeKind.EDGE, i, j, x, y);
+            }
+        }
+    }
+
+    private void createCenterPathNodes(float centerX, float centerY) {
+        for (int i = 0; i < sides; i++) {
+            int corner = edgeId(i, 0);
+            float cx = xs[corner];
+            float cy = ys[corner];
+
+            float dx = centerX - cx;
+            float dy = centerY - cy;
+
+            setNode(toCenterId(i, 1), "ToCenter" + i + "-1", NodeKind.TO_CENTER, i, 1, cx + dx / 3f, cy + dy / 3f);
+            setNode(toCenterId(i, 2), "ToCenter" + i + "-2", NodeKind.TO_CENTER, i, 2, cx + dx * 2 / 3f, cy + dy * 2 / 3f);
+        }
+    }
+
+    // 노드별 다음 노드를 CSR 배열로 채우기 (다음 노드 순서: 외곽 경로 → 지름길)
+    private void connectNodes() {
+        // 연결을 추가한 순서대로 기록한 뒤, 출발 노드별로 안정 정렬(counting sort)해서 CSR로 변환
+        int[] from = new int[successors.length];
+        int[] to = new int[successors.length];
+        int edgeCount = 0;
+
+        for (int i = 0; i < sides; i++) {
+            // 외곽 노드 연결
+            for (int j = 0; j < EDGE_LENGTH; j++) {
+                from[edgeCount] = edgeId(i, j);
+                to[edgeCount++] = edgeId(i, j + 1);
+            }
+
+            // 꼭짓점과 센터 노드 연결 (앞쪽 절반은 센터로 들어가는 길, 나머지는 센터에서 나오는 길)
+            int path1 = toCenterId(i, 1);
+            int path2 = toCenterId(i, 2);
+            if (i != 0 && i <= (sides + 1) / 2) {
+                from[edgeCount] = edgeId(i, 0);
+                to[edgeCount++] = path1;
+                from[edgeCount] = path1;
+                to[edgeCount++] = path2;
+                from[edgeCount] = path2;
+                to[edgeCount++] = centerId;
+            } else {
+                from[edgeCount] = centerId;
+                to[edgeCount++] = path2;
+                from[edgeCount] = path2;
+                to[edgeCount++] = path1;
+                from[edgeCount] = path1;
+                to[edgeCount++] = (i == 0) ? edgeId(sides - 1, EDGE_LENGTH) : edgeId(i - 1, EDGE_LENGTH);
+            }
+        }
+
+        for (int e = 0; e < edgeCount; e++) {
+            successorOffsets[from[e] + 1]++;
+        }
+        for (int id = 0; id < nodeCount; id++) {
+            successorOffsets[id + 1] += successorOffsets[id];
+        }
+        int[] fill = new int[nodeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            successors[successorOffsets[from[e]] + fill[from[e]]++] = to[e];
+        }
+    }
+
+    // 다음 노드 배열을 뒤집어 이전 노드 배열 만들기 (출발 노드 id 순서로 채우므로 id가 작은 이전 노드가 먼저 옴)
+    private void buildPredecessors() {
+        for (int k = 0; k < successors.length; k++) {
+            predecessorOffsets[successors[k] + 1]++;
+        }
+        for (int id = 0; id < nodeCount; id++) {
+            predecessorOffsets[id + 1] += predecessorOffsets[id];
+        }
+        int[] fill = new int[nodeCount];
+        for (int id = 0; id < nodeCount; id++) {
+            for (int k = successorOffsets[id]; k < successorOffsets[id + 1]; k++) {
+                int to = successors[k];
+                predecessors[predecessorOffsets[to] + fill[to]++] = id;
+            }
+        }
+    }
+
+    // 기본적인 getter 메서드
+    MoveTable getMoveTable() {
+        return moveTable;
+    }
+
+    public int getSides() {
+        return sides;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getCenterId() {
+        return centerId;
+    }
+
+    public int getStartId() {
+        return startId;
+    }
+
+    public String getName(int id) {
+        return names[id];
+    }
+
+    public NodeKind getKind(int id) {
+        return kinds[id];
+    }
+
+    public int getSideIndex(int id) {
+        return sideIndices[id];
+    }
+
+    public int getPathPosition(int id) {
+        return pathPositions[id];
+    }
+
+    public float getX(int id) {
+        return xs[id];
+    }
+
+    public float getY(int id) {
+        return ys[id];
+    }
+
+    public int getSuccessorCount(int id) {
+        return successorOffsets[id + 1] - successorOffsets[id];
+    }
+
+    public int getSuccessor(int id, int index) {
+        return successors[successorOffsets[id] + index];
+    }
+
+    public int getPredecessorCount(int id) {
+        return predecessorOffsets[id + 1] - predecessorOffsets[id];
+    }
+
+    public int getPredecessor(int id, int index) {
+        return predecessors[predecessorOffsets[id] + index];
+    }
+
+    //다음 노드 중 target의 순서를 반환 (없으면 -1)
+    public int indexOfSuccessor(int id, int target) {
+        for (int k = successorOffsets[id]; k < successorOffsets[id + 1]; k++) {
+            if (successors[k] == target) {
+                return k - successorOffsets[id];
+            }
+        }
+        return -1;
+    }
+
+    public boolean isBranch(int id) {
+        return getSuccessorCount(id) > 1;
+    }
+
+    //이름으로 노드 id 찾기 (없으면 -1)
+    public int findId(String name) {
+        Integer id = idsByName.get(name);
+        return id != null ? id : -1;
+    }
+}
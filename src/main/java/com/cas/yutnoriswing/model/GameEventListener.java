@@ -0,0 +1,38 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.List;
+
+//GameState를 거치는 상태 변화를 순서대로 받는 리스너 (게임 기록, 분석용)
+//플레이어/말은 번호(플레이어 순서, 플레이어의 말 목록 순서)로, 노드는 보드 노드 id로 전달한다.
+//GameState를 바꾸는 스레드에서 바로 불리므로 오래 걸리는 일은 하지 않아야 한다.
+public interface GameEventListener {
+    //게임 시작
+    default void onStart() {}
+
+    //윷 한 번 던진 결과
+    default void onThrow(int steps) {}
+
+    //윷 결과를 사용할 순서를 정함
+    default void onThrowOrder(List<Integer> orderedSteps) {}
+
+    //분기점에서 갈 길 선택 (바로 뒤의 onMove에 적용)
+    default void onBranch(int nodeId) {}
+
+    //말 선택과 이동 (성공한 이동만)
+    default void onMove(int player, int token, int steps) {}
+
+    //이동한 말이 nodeId에서 상대 말을 잡음
+    default void onCapture(int player, int nodeId) {}
+
+    //이동한 말이 nodeId에서 같은 편 말을 업어 stackedCount개를 업게 됨
+    default void onStack(int player, int nodeId, int stackedCount) {}
+
+    //말(업힌 말 포함)이 완주
+    default void onFinish(int player, int token) {}
+
+    //차례가 player로 넘어감
+    default void onTurn(int player) {}
+
+    //player 승리로 게임 종료
+    default void onWin(int player) {}
+}
@@ -0,0 +1,7 @@
+package com.cas.yutnoriswing.model;
+// 게임 진행 단계
+enum GamePhase {
+    NOT_STARTED,
+    IN_PROGRESS,
+    FINISHED
+}
@@ -0,0 +1,207 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.List;
+
+//한 시점의 GameState를 담은 불변 스냅샷 (그리기 스레드, 백그라운드 AI, 중계 등이 게임 진행과 상관없이 읽음)
+//플레이어마다 말 위치/업기 배열을 PlayerSnapshot으로 나눠 담고, 새 스냅샷을 만들 때
+//바뀌지 않은 플레이어의 PlayerSnapshot은 이전 스냅샷의 것을 그대로 가져다 쓴다 (바뀐 플레이어만 새로 복사).
+//노드 점유는 플레이어별 위치 배열에서 바로 계산하므로 따로 복사하지 않는다.
+//모든 필드가 final이고 배열은 만든 뒤 바꾸지 않으므로 어느 스레드에 넘겨도 안전하다.
+//만드는 것(GameState.snapshot)은 게임을 바꾸는 스레드에서 해야 한다.
+public final class GameSnapshot {
+    public static final int READY = TokenPositionManager.READY;       // 위치: 출발 전
+    public static final int FINISHED = TokenPositionManager.FINISHED; // 위치: 완주
+    public static final int NO_CARRIER = -1;
+    public static final int NONE = -1;
+
+    private final long version;
+    private final PlayerSnapshot[] players;
+    private final int currentPlayer; // 차례인 플레이어 번호 (없으면 NONE)
+    private final boolean ended;
+    private final int winner;        // 승자 번호 (없으면 NONE)
+    private final long positionHash;
+
+    private GameSnapshot(long version, PlayerSnapshot[] players, int currentPlayer, boolean ended, int winner, long positionHash) {
+        this.version = version;
+        this.players = players;
+        this.currentPlayer = currentPlayer;
+        this.ended = ended;
+        this.winner = winner;
+        this.positionHash = positionHash;
+    }
+
+    //gameState의 현재 상태 (previous와 같은 게임의 이전 스냅샷이면 바뀌지 않은 부분을 공유, 아무것도 바뀌지 않았으면 previous 그대로)
+    static GameSnapshot of(GameState gameState, GameSnapshot previous) {
+        List<Player> livePlayers = gameState.getPlayerList();
+        TokenPositionManager positions = gameState.getTokenPositionManager();
+        boolean reusable = previous != null && previous.players.length == livePlayers.size();
+
+        PlayerSnapshot[] snapshots = new PlayerSnapshot[livePlayers.size()];
+        boolean changed = !reusable;
+        for (int p = 0; p < snapshots.length; p++) {
+            PlayerSnapshot before = reusable ? previous.players[p] : null;
+            snapshots[p] = PlayerSnapshot.of(livePlayers.get(p), positions, before);
+            changed |= snapshots[p] != before;
+        }
+
+        int current = livePlayers.indexOf(gameState.getCurrentPlayer());
+        boolean ended = gameState.isGameEnded();
+        int winner = livePlayers.indexOf(gameState.getWinner());
+        if (!changed && current == previous.currentPlayer && ended == previous.ended && winner == previous.winner) {
+            return previous;
+        }
+        long version = previous != null ? previous.version + 1 : 0;
+        return new GameSnapshot(version, snapshots, current, ended, winner, gameState.getPositionHash());
+    }
+
+    //만들어진 순서 (같은 게임에서 내용이 바뀔 때마다 1씩 증가)
+    public long getVersion() {
+        return version;
+    }
+
+    public int getPlayerCount() {
+        return players.length;
+    }
+
+    public PlayerSnapshot getPlayer(int player) {
+        return players[player];
+    }
+
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public boolean isEnded() {
+        return ended;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    public long getPositionHash() {
+        return positionHash;
+    }
+
+    //nodeId에 말이 있는 플레이어 집합 (비트 p = p번째 플레이어)
+    public int getOccupantMask(int nodeId) {
+        int mask = 0;
+        for (int p = 0; p < players.length; p++) {
+            if (players[p].getTokenMaskAt(nodeId) != 0) {
+                mask |= 1 << p;
+            }
+        }
+        return mask;
+    }
+
+    //플레이어 한 명의 말 상태 (불변, 스냅샷끼리 공유됨)
+    public static final class PlayerSnapshot {
+        private final String name;
+        private final String[] tokenNames; // 바뀌지 않으므로 모든 버전이 같은 배열을 씀
+        private final int[] locations;     // 노드 id 또는 READY/FINISHED (업힌 말은 대표 말의 위치)
+        private final int[] carriers;      // 업고 있는 말의 번호 (대표 말이면 NO_CARRIER)
+
+        private PlayerSnapshot(String name, String[] tokenNames, int[] locations, int[] carriers) {
+            this.name = name;
+            this.tokenNames = tokenNames;
+            this.locations = locations;
+            this.carriers = carriers;
+        }
+
+        // 바뀐 것이 없으면 before를 그대로 돌려줌 (비교하는 동안은 할당 없음)
+        private static PlayerSnapshot of(Player player, TokenPositionManager positions, PlayerSnapshot before) {
+            List<Token> tokens = player.getTokens();
+            if (before != null && before.locations.length == tokens.size()) {
+                boolean same = true;
+                for (int t = 0; t < tokens.size() && same; t++) {
+                    Token token = tokens.get(t);
+                    same = before.locations[t] == locationOf(token, positions) && before.carriers[t] == carrierOf(token);
+                }
+                if (same) {
+                    return before;
+                }
+            }
+
+            String[] tokenNames = before != null && before.tokenNames.length == tokens.size() ? before.tokenNames : namesOf(tokens);
+            int[] locations = new int[tokens.size()];
+            int[] carriers = new int[tokens.size()];
+            for (int t = 0; t < tokens.size(); t++) {
+                Token token = tokens.get(t);
+                locations[t] = locationOf(token, positions);
+                carriers[t] = carrierOf(token);
+            }
+            return new PlayerSnapshot(player.getName(), tokenNames, locations, carriers);
+        }
+
+        private static String[] namesOf(List<Token> tokens) {
+            String[] names = new String[tokens.size()];
+            for (int t = 0; t < names.length; t++) {
+                names[t] = tokens.get(t).getName();
+            }
+            return names;
+        }
+
+        private static int locationOf(Token token, TokenPositionManager positions) {
+            return switch (token.getState()) {
+                case READY -> READY;
+                case FINISHED -> FINISHED;
+                case ACTIVE -> positions.getNodeId(token.getTopMostToken());
+            };
+        }
+
+        private static int carrierOf(Token token) {
+            return token.isStacked() ? token.getTopMostToken().getSlot() : NO_CARRIER;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getTokenCount() {
+            return locations.length;
+        }
+
+        public String getTokenName(int token) {
+            return tokenNames[token];
+        }
+
+        public int getLocation(int token) {
+            return locations[token];
+        }
+
+        public int getCarrier(int token) {
+            return carriers[token];
+        }
+
+        public TokenState getState(int token) {
+            return switch (locations[token]) {
+                case READY -> TokenState.READY;
+                case FINISHED -> TokenState.FINISHED;
+                default -> TokenState.ACTIVE;
+            };
+        }
+
+        public boolean hasFinished() {
+            for (int location : locations) {
+                if (location != FINISHED) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        //nodeId에 있는 말 집합 (비트 i = i번째 말, 업힌 말 포함)
+        public int getTokenMaskAt(int nodeId) {
+            int mask = 0;
+            if (nodeId < 0) {
+                return mask;
+            }
+            for (int t = 0; t < locations.length; t++) {
+                if (locations[t] == nodeId) {
+                    mask |= 1 << t;
+                }
+            }
+            return mask;
+        }
+    }
+}
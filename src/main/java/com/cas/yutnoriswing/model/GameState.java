@@ -1,6 +1,7 @@
 package com.cas.yutnoriswing.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
@@ -13,6 +14,11 @@ public class GameState {
     private GamePhase phase;
     private List<Integer> remainingMoves;
     private Player winner;
+    private YutRandom yutRandom; // 이 게임의 윷 던지기 난수원 (null이면 YutGameRules 기본값)
+    private GameEventListener eventListener; // 상태 변화 기록 (null이면 기록하지 않음)
+    private MoveUndo[] undoStack = new MoveUndo[0]; // makeMove 되돌림 기록 (깊이마다 재사용)
+    private int undoDepth;
+    private GameSnapshot snapshot; // 마지막으로 만든 스냅샷 (다음 스냅샷이 바뀌지 않은 부분을 공유)
     
     public GameState(List<Player> players, TokenPositionManager tokenPositionManager, Board board) {
         this.players = new ArrayList<>(players);
@@ -21,6 +27,7 @@ public class GameState {
         this.phase = GamePhase.NOT_STARTED;
         this.remainingMoves = new ArrayList<>();
         this.winner = null;
+        tokenPositionManager.registerPlayers(this.players);
         
         if (!players.isEmpty()) {
             this.currentPlayer = players.get(0);
@@ -42,6 +49,7 @@ public class GameState {
             int tokenCount = (i < tokenCounts.size()) ? tokenCounts.get(i) : 4;
             players.add(new Player(playerName, tokenCount));
         }
+        tokenPositionManager.registerPlayers(players);
 
         if (!players.isEmpty()) {
             this.currentPlayer = players.get(0);
@@ -52,11 +60,59 @@ public class GameState {
         if (phase == GamePhase.NOT_STARTED) {
             phase = GamePhase.IN_PROGRESS;
             currentPlayer = players.get(0);
+            if (eventListener != null) {
+                eventListener.onStart();
+            }
         }
     }
 
+    //상태 변화를 받을 리스너 설정 (null이면 기록하지 않음)
+    public void setGameEventListener(GameEventListener eventListener) {
+        this.eventListener = eventListener;
+    }
+
+    public GameEventListener getGameEventListener() {
+        return eventListener;
+    }
+
+    //이 게임의 윷 던지기 난수원 설정 (YutRandom.seeded로 재현 가능한 게임)
+    public void setYutRandom(YutRandom yutRandom) {
+        this.yutRandom = yutRandom;
+    }
+
+    public YutRandom getYutRandom() {
+        return yutRandom != null ? yutRandom : YutGameRules.getYutRandom();
+    }
+
     public YutGameRules.YutThrowResult throwYut() {
-        return YutGameRules.throwYut();
+        return recordThrows(YutGameRules.throwYut(getYutRandom()));
+    }
+
+    public YutGameRules.YutThrowResult throwSingleYut() {
+        return recordThrows(YutGameRules.throwSingleYut(getYutRandom()));
+    }
+
+    private YutGameRules.YutThrowResult recordThrows(YutGameRules.YutThrowResult result) {
+        if (eventListener != null) {
+            for (int steps : result.getResults()) {
+                eventListener.onThrow(steps);
+            }
+        }
+        return result;
+    }
+
+    //GameState 밖에서 정한 윷 결과 기록 (테스트 모드 입력, 시뮬레이션의 난수 등)
+    public void recordThrow(int steps) {
+        if (eventListener != null) {
+            eventListener.onThrow(steps);
+        }
+    }
+
+    //윷 결과를 사용할 순서 기록
+    public void recordThrowOrder(List<Integer> orderedSteps) {
+        if (eventListener != null) {
+            eventListener.onThrowOrder(orderedSteps);
+        }
     }
 
     //턴을 넘겨주는 메서드
@@ -65,59 +121,141 @@ public class GameState {
         currentIndex = (currentIndex + 1) % players.size();
         currentPlayer = players.get(currentIndex);
         remainingMoves.clear();
+        if (eventListener != null) {
+            eventListener.onTurn(currentIndex);
+        }
     }
     public void nextPlayer() {
         nextTurn();
     }
 
-    //이동 가능한 토큰들
+    //이동 가능한 토큰들 (읽기 전용, Player의 상태별 집합에서 바로 꺼냄)
     public List<Token> getMovableTokens(int steps) {
-        if (currentPlayer == null) return new ArrayList<>();
-        
-        if (steps < 0) {
-            // 빽도는 ACTIVE 상태인 토큰들만 이동 가능
-            return currentPlayer.getTokens().stream()
-                    .filter(token -> token.getState() == TokenState.ACTIVE)
-                    .collect(java.util.stream.Collectors.toList());
-        } else {
-            // 일반 이동은 FINISHED가 아닌 모든 토큰들 (READY, ACTIVE 모두 포함)
-            return currentPlayer.getTokens().stream()
-                    .filter(token -> token.getState() != TokenState.FINISHED)
-                    .collect(java.util.stream.Collectors.toList());
-        }
+        if (currentPlayer == null) return List.of();
+        return currentPlayer.getMovableTokens(steps);
+    }
+
+    //이동 가능한 토큰이 하나라도 있는지 (목록을 만들지 않음)
+    public boolean hasMovableToken(int steps) {
+        return currentPlayer != null && currentPlayer.hasMovableToken(steps);
     }
 
     //말을 움직이는
     public YutGameRules.MoveResult moveToken(Token token, int steps, Function<List<BoardNode>, BoardNode> branchSelector) {
+        return YutGameRules.toMoveResult(applyMove(token, steps));
+    }
+
+    //말을 움직이고 상태 비트(YutGameRules.MOVE_*) 반환 (결과 객체와 메시지를 만들지 않음)
+    //분기점에서는 대표 토큰의 nextBranchChoice를 따름, 메시지가 필요하면 YutGameRules.describeMove
+    public int applyMove(Token token, int steps) {
         if (phase == GamePhase.FINISHED) {
-            return new YutGameRules.MoveResult(false, false, false, "게임이 종료되었습니다.");
+            return YutGameRules.FAIL_GAME_ENDED;
         }
-
         // 실제 이동할 대표 토큰 찾기 (업기)
         Token actualToken = token.getTopMostToken();
+        BoardNode branchChoice = actualToken.getNextBranchChoice(); // 기록용 (이동하면서 사용 후 지워짐)
+
+        int status = move(actualToken, steps);
+        if (eventListener != null && YutGameRules.isSuccess(status)) {
+            recordMove(token, actualToken, steps, branchChoice, status);
+        }
+        return status;
+    }
+
+    //탐색용: 말을 움직이고 되돌림 기록을 쌓음 (리스너에 알리지 않음)
+    //완주로 이기면 checkVictory처럼 게임을 끝내고, 실패한 이동도 기록을 쌓으므로 항상 unmakeMove와 짝을 맞춤
+    //기록은 깊이마다 재사용하므로 처음 그 깊이까지 내려간 뒤로는 할당이 없다.
+    public int makeMove(Token token, int steps) {
+        if (undoDepth == undoStack.length) {
+            undoStack = Arrays.copyOf(undoStack, Math.max(8, undoStack.length * 2));
+            for (int i = undoDepth; i < undoStack.length; i++) {
+                undoStack[i] = new MoveUndo();
+            }
+        }
+        undoStack[undoDepth++].save(this, token);
+        if (phase == GamePhase.FINISHED) {
+            return YutGameRules.FAIL_GAME_ENDED;
+        }
+
+        int status = move(token.getTopMostToken(), steps);
+        Player owner = token.getOwner();
+        if (YutGameRules.isSuccess(status) && owner.hasFinished()) {
+            phase = GamePhase.FINISHED;
+            winner = owner;
+        }
+        return status;
+    }
+
+    //마지막 makeMove 직전 상태로 되돌림 (말 상태·위치·업기·분기 선택·이동 기록, 차례, 단계, 승자, 해시)
+    public void unmakeMove() {
+        if (undoDepth == 0) {
+            throw new IllegalStateException("되돌릴 이동이 없습니다.");
+        }
+        undoStack[--undoDepth].restore(this);
+    }
 
+    //되돌릴 수 있는 makeMove 수
+    public int getUndoDepth() {
+        return undoDepth;
+    }
+
+    // 대표 토큰을 움직이고 상태 비트 반환
+    private int move(Token actualToken, int steps) {
+        int status;
         if (steps < 0) {
             if (actualToken.getState() != TokenState.ACTIVE) {
-                return new YutGameRules.MoveResult(false, false, false, "대기 중인 말은 빽도로 이동할 수 없습니다.");
+                return YutGameRules.FAIL_BACKDO_READY;
             }
-            return YutGameRules.moveTokenBackward(actualToken, Math.abs(steps), tokenPositionManager);
+            status = YutGameRules.applyMoveBackward(actualToken, Math.abs(steps), tokenPositionManager);
         } else {
             if (actualToken.getState() == TokenState.READY) {
                 tokenPositionManager.placeTokenAtStart(actualToken);
             }
-            return YutGameRules.moveToken(actualToken, steps, tokenPositionManager, branchSelector);
+            status = YutGameRules.applyMove(actualToken, steps, tokenPositionManager);
+        }
+        return status;
+    }
+
+    // 성공한 이동과 그 결과(잡기/업기/완주)를 리스너에 알림
+    private void recordMove(Token token, Token actualToken, int steps, BoardNode branchChoice, int status) {
+        Player owner = token.getOwner();
+        int player = players.indexOf(owner);
+        if (steps > 0 && board.contains(branchChoice)) {
+            eventListener.onBranch(branchChoice.getId());
+        }
+        eventListener.onMove(player, owner.getTokens().indexOf(token), steps);
+
+        if (YutGameRules.isFinished(status)) {
+            eventListener.onFinish(player, owner.getTokens().indexOf(actualToken));
+            return;
+        }
+        BoardNode position = tokenPositionManager.getTokenPosition(actualToken);
+        int nodeId = position != null ? position.getId() : -1;
+        if (YutGameRules.isCaught(status)) {
+            eventListener.onCapture(player, nodeId);
+        }
+        if (YutGameRules.isStacked(status)) {
+            eventListener.onStack(player, nodeId, actualToken.getStackedCount());
         }
     }
     
     public boolean checkVictory(Player player) {
         if (player.hasFinished()) {
+            boolean wasFinished = phase == GamePhase.FINISHED;
             phase = GamePhase.FINISHED;
             winner = player;
+            if (eventListener != null && !wasFinished) {
+                eventListener.onWin(players.indexOf(player));
+            }
             return true;
         }
         return false;
     }
 
+    public boolean isGameStarted() {
+        return phase != GamePhase.NOT_STARTED;
+    }
+
     public boolean isGameEnded() {
         return phase == GamePhase.FINISHED;
     }
@@ -142,10 +280,42 @@ public class GameState {
     public Player getWinner() {
         return winner;
     }
-}
 
-enum GamePhase {
-    NOT_STARTED,
-    IN_PROGRESS,
-    FINISHED
+    //지금 상태의 불변 스냅샷 (바뀌지 않은 플레이어 부분은 이전 스냅샷과 공유, 아무것도 바뀌지 않았으면 이전 스냅샷 그대로)
+    //게임을 바꾸는 스레드에서 부르고, 돌려받은 스냅샷은 어느 스레드에서든 읽을 수 있다.
+    public GameSnapshot snapshot() {
+        snapshot = GameSnapshot.of(this, snapshot);
+        return snapshot;
+    }
+
+    //국면 해시 (말 위치 + 차례인 플레이어, 같은 구성의 게임끼리 비교 가능)
+    public long getPositionHash() {
+        long hash = tokenPositionManager.getPositionHash();
+        int current = players.indexOf(currentPlayer);
+        if (current >= 0) {
+            hash ^= tokenPositionManager.getZobristKeys().sideKey(current);
+        }
+        return hash;
+    }
+
+    // 상태 복원(인코딩된 상태 디코드 등)을 위한 package-private 메서드
+    GamePhase getPhase() {
+        return phase;
+    }
+
+    void restoreTurn(Player currentPlayer, GamePhase phase, Player winner) {
+        setTurnState(currentPlayer, phase, winner);
+        this.remainingMoves.clear();
+    }
+
+    void setTurnState(Player currentPlayer, GamePhase phase, Player winner) {
+        this.currentPlayer = currentPlayer;
+        this.phase = phase;
+        this.winner = winner;
+    }
+
+    // 복사하지 않은 플레이어 목록 (읽기 전용으로만 사용)
+    List<Player> getPlayerList() {
+        return players;
+    }
 }
\ No newline at end of file
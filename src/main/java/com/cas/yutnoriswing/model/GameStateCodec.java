@@ -0,0 +1,402 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+//게임 상태 전체를 long 몇 개로 압축하는 클래스 (탐색, 전치표, 리플레이 저장, 네트워크 동기화용)
+//같은 보드 크기/플레이어 구성의 게임끼리는 하나의 코덱을 공유하고, 상태는 long[] 그대로 복사/비교한다.
+//
+//헤더: 현재 플레이어 | 게임 진행 단계 | 승자(+1, 없으면 0)
+//말마다: 위치(0 대기, 1 완주, 노드 id + 2) | 대표 말 번호(+1, 업혀 있지 않으면 0)
+//      | Center 진입 방향 | 미리 고른 분기(+1) | 직전에 지나온 노드(이전 노드 중 몇 번째인지 +1)
+//필드는 빈틈없이 이어 붙이므로 long 경계에 걸친 필드는 두 long에 나눠 저장한다.
+//이전 노드(previousNode)는 Center에서의 기본 분기만 결정하므로 그 분기 번호로, 빽도 기록은 가장 최근 한 칸만 저장한다.
+public final class GameStateCodec {
+    public static final int READY = -1;     // 위치: 출발 전
+    public static final int FINISHED = -2;  // 위치: 완주
+    public static final int NONE = -1;      // 분기/직전 노드 정보 없음, 업혀 있지 않음
+
+    private static final int LOCATION_OFFSET = 2; // 위치 필드에서 노드 id 앞의 두 값 (대기, 완주)
+    private static final GamePhase[] PHASES = GamePhase.values();
+
+    private final BoardTopology topology;
+    private final MoveTable moveTable;
+    private final int playerCount;
+    private final int[] tokenCounts;
+
+    // 필드 너비
+    private final int playerBits;
+    private final int phaseBits;
+    private final int winnerBits;
+    private final int locationBits;
+    private final int carrierBits;
+    private final int entryBits;
+    private final int choiceBits;
+    private final int cameFromBits;
+
+    // 헤더 필드 위치 (모두 0번 long 안)
+    private final int playerShift;
+    private final int phaseShift;
+    private final int winnerShift;
+
+    // 말 필드 위치 (playerTokenBase[player] + token 번째 말의 시작 비트)
+    private final int[] playerTokenBase;
+    private final int tokenBits;
+    private final int tokenStart;
+    private final int wordCount;
+
+    // Center 진입 방향별 대표 이전 노드 id (디코드 시 사용, 알 수 없는 진입과 같은 방향이면 NONE)
+    private final int[] entryRepresentatives;
+
+    public GameStateCodec(GameState gameState) {
+        Board board = gameState.getBoard();
+        this.topology = board.getTopology();
+        this.moveTable = board.getMoveTable();
+        List<Player> players = gameState.getPlayers();
+        this.playerCount = players.size();
+        this.tokenCounts = new int[playerCount];
+        int maxTokens = 0;
+        for (int p = 0; p < playerCount; p++) {
+            tokenCounts[p] = players.get(p).getTokens().size();
+            maxTokens = Math.max(maxTokens, tokenCounts[p]);
+        }
+
+        int maxSuccessors = 1;
+        int maxPredecessors = 1;
+        for (int id = 0; id < topology.getNodeCount(); id++) {
+            maxSuccessors = Math.max(maxSuccessors, topology.getSuccessorCount(id));
+            maxPredecessors = Math.max(maxPredecessors, topology.getPredecessorCount(id));
+        }
+
+        this.playerBits = bitsFor(playerCount);
+        this.phaseBits = bitsFor(PHASES.length);
+        this.winnerBits = bitsFor(playerCount + 1);
+        this.locationBits = bitsFor(topology.getNodeCount() + LOCATION_OFFSET);
+        this.carrierBits = bitsFor(maxTokens + 1);
+        this.entryBits = bitsFor(Math.max(1, topology.getSuccessorCount(topology.getCenterId())));
+        this.choiceBits = bitsFor(maxSuccessors + 1);
+        this.cameFromBits = bitsFor(maxPredecessors + 1);
+
+        this.playerShift = 0;
+        this.phaseShift = playerShift + playerBits;
+        this.winnerShift = phaseShift + phaseBits;
+
+        this.tokenBits = locationBits + carrierBits + entryBits + choiceBits + cameFromBits;
+        this.playerTokenBase = new int[playerCount];
+        int tokenTotal = 0;
+        for (int p = 0; p < playerCount; p++) {
+            playerTokenBase[p] = tokenTotal;
+            tokenTotal += tokenCounts[p];
+        }
+        this.tokenStart = winnerShift + winnerBits;
+        int totalBits = tokenStart + tokenTotal * tokenBits;
+        this.wordCount = (totalBits + Long.SIZE - 1) / Long.SIZE;
+
+        this.entryRepresentatives = new int[1 << entryBits];
+        Arrays.fill(entryRepresentatives, NONE);
+        int unknownEntry = moveTable.centerEntryBranch(MoveTable.NONE);
+        for (int id = topology.getNodeCount() - 1; id >= 0; id--) {
+            int entry = moveTable.centerEntryBranch(id);
+            if (entry != unknownEntry) {
+                entryRepresentatives[entry] = id;
+            }
+        }
+    }
+
+    // 0 ~ count-1 값을 표현하는 데 필요한 비트 수 (최소 1)
+    private static int bitsFor(int count) {
+        return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(1, count - 1)));
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getTokenCount(int player) {
+        return tokenCounts[player];
+    }
+
+    public long[] newState() {
+        return new long[wordCount];
+    }
+
+    // ===== 비트 필드 읽기/쓰기 =====
+
+    private static int read(long[] state, int bit, int width) {
+        int word = bit >>> 6;
+        int shift = bit & 63;
+        long value = state[word] >>> shift;
+        if (shift + width > Long.SIZE) {
+            value |= state[word + 1] << (Long.SIZE - shift); // 다음 long에 걸친 부분
+        }
+        return (int) (value & ((1L << width) - 1));
+    }
+
+    private static void write(long[] state, int bit, int width, int value) {
+        int word = bit >>> 6;
+        int shift = bit & 63;
+        long mask = (1L << width) - 1;
+        state[word] = (state[word] & ~(mask << shift)) | (((long) value & mask) << shift);
+        if (shift + width > Long.SIZE) {
+            int rest = Long.SIZE - shift;
+            state[word + 1] = (state[word + 1] & ~(mask >>> rest)) | (((long) value & mask) >>> rest);
+        }
+    }
+
+    private int tokenBit(int player, int token) {
+        return tokenStart + (playerTokenBase[player] + token) * tokenBits;
+    }
+
+    // ===== 압축된 상태에서 직접 읽고 쓰는 메서드 =====
+
+    public int getCurrentPlayer(long[] state) {
+        return read(state, playerShift, playerBits);
+    }
+
+    public void setCurrentPlayer(long[] state, int player) {
+        write(state, playerShift, playerBits, player);
+    }
+
+    public boolean isGameEnded(long[] state) {
+        return PHASES[read(state, phaseShift, phaseBits)] == GamePhase.FINISHED;
+    }
+
+    //승자 플레이어 번호 (없으면 NONE)
+    public int getWinner(long[] state) {
+        return read(state, winnerShift, winnerBits) - 1;
+    }
+
+    //말의 위치 (노드 id, READY, FINISHED 중 하나)
+    public int getLocation(long[] state, int player, int token) {
+        return read(state, tokenBit(player, token), locationBits) - LOCATION_OFFSET;
+    }
+
+    public void setLocation(long[] state, int player, int token, int location) {
+        write(state, tokenBit(player, token), locationBits, location + LOCATION_OFFSET);
+    }
+
+    //이 말을 업고 있는 같은 플레이어 말의 번호 (업혀 있지 않으면 NONE)
+    public int getCarrier(long[] state, int player, int token) {
+        return read(state, tokenBit(player, token) + locationBits, carrierBits) - 1;
+    }
+
+    public void setCarrier(long[] state, int player, int token, int carrier) {
+        write(state, tokenBit(player, token) + locationBits, carrierBits, carrier + 1);
+    }
+
+    //Center에서 기본으로 나갈 분기 번호 (이전 노드로 결정되는 값)
+    public int getCenterEntry(long[] state, int player, int token) {
+        return read(state, tokenBit(player, token) + locationBits + carrierBits, entryBits);
+    }
+
+    //현재 위치에서 미리 고른 분기 번호 (없으면 NONE)
+    public int getBranchChoice(long[] state, int player, int token) {
+        return read(state, tokenBit(player, token) + locationBits + carrierBits + entryBits, choiceBits) - 1;
+    }
+
+    public void setBranchChoice(long[] state, int player, int token, int branch) {
+        write(state, tokenBit(player, token) + locationBits + carrierBits + entryBits, choiceBits, branch + 1);
+    }
+
+    //직전에 지나온 노드가 현재 위치의 이전 노드 중 몇 번째인지 (없으면 NONE)
+    public int getCameFrom(long[] state, int player, int token) {
+        return read(state, tokenBit(player, token) + locationBits + carrierBits + entryBits + choiceBits, cameFromBits) - 1;
+    }
+
+    public int countFinished(long[] state, int player) {
+        int count = 0;
+        for (int t = 0; t < tokenCounts[player]; t++) {
+            if (getLocation(state, player, t) == FINISHED) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean hasFinished(long[] state, int player) {
+        return countFinished(state, player) == tokenCounts[player];
+    }
+
+    //노드 위에 있는 말의 플레이어 번호 (비어 있으면 NONE)
+    public int getOccupant(long[] state, int nodeId) {
+        for (int p = 0; p < playerCount; p++) {
+            for (int t = 0; t < tokenCounts[p]; t++) {
+                if (getLocation(state, p, t) == nodeId) {
+                    return p;
+                }
+            }
+        }
+        return NONE;
+    }
+
+    public static long[] copy(long[] state) {
+        return state.clone();
+    }
+
+    public static boolean sameState(long[] a, long[] b) {
+        return Arrays.equals(a, b);
+    }
+
+    public static int hash(long[] state) {
+        return Arrays.hashCode(state);
+    }
+
+    // ===== 객체 모델 ↔ 압축 상태 =====
+
+    public long[] encode(GameState gameState) {
+        long[] state = newState();
+        encode(gameState, state);
+        return state;
+    }
+
+    public void encode(GameState gameState, long[] state) {
+        Arrays.fill(state, 0L);
+        List<Player> players = gameState.getPlayers();
+        checkShape(gameState);
+        Board board = gameState.getBoard();
+        TokenPositionManager positions = gameState.getTokenPositionManager();
+
+        setCurrentPlayer(state, Math.max(0, players.indexOf(gameState.getCurrentPlayer())));
+        write(state, phaseShift, phaseBits, gameState.getPhase().ordinal());
+        write(state, winnerShift, winnerBits, players.indexOf(gameState.getWinner()) + 1);
+
+        for (int p = 0; p < playerCount; p++) {
+            List<Token> tokens = players.get(p).getTokens();
+            for (int t = 0; t < tokenCounts[p]; t++) {
+                Token token = tokens.get(t);
+                int bit = tokenBit(p, t);
+
+                int location = locationOf(token, board, positions);
+                setLocation(state, p, t, location);
+                if (token.isStacked()) {
+                    setCarrier(state, p, t, tokens.indexOf(token.getTopMostToken()));
+                } else {
+                    setCarrier(state, p, t, NONE);
+                }
+
+                int previousId = board.contains(token.getPreviousNode()) ? token.getPreviousNode().getId() : MoveTable.NONE;
+                write(state, bit + locationBits + carrierBits, entryBits, moveTable.centerEntryBranch(previousId));
+
+                // 업힌 말의 분기 선택과 이동 기록은 쓰이지 않으므로 대표 말만 저장
+                if (location >= 0 && !token.isStacked()) {
+                    BoardNode choice = token.getNextBranchChoice();
+                    int branch = board.contains(choice) ? topology.indexOfSuccessor(location, choice.getId()) : NONE;
+                    setBranchChoice(state, p, t, topology.isBranch(location) ? branch : NONE);
+
+                    int cameFrom = NONE;
+                    int visited = token.peekVisit();
+                    if (visited != Token.NO_HISTORY) {
+                        for (int k = 0; k < topology.getPredecessorCount(location); k++) {
+                            if (topology.getPredecessor(location, k) == visited) {
+                                cameFrom = k;
+                            }
+                        }
+                    }
+                    write(state, bit + locationBits + carrierBits + entryBits + choiceBits, cameFromBits, cameFrom + 1);
+                }
+            }
+        }
+    }
+
+    // 말의 위치 (업힌 말은 대표 말의 위치)
+    private int locationOf(Token token, Board board, TokenPositionManager positions) {
+        if (token.getState() == TokenState.READY) {
+            return READY;
+        }
+        if (token.getState() == TokenState.FINISHED) {
+            return FINISHED;
+        }
+        BoardNode node = positions.getTokenPosition(token.getTopMostToken());
+        if (!board.contains(node)) {
+            throw new IllegalStateException("보드 위치를 알 수 없는 말입니다: " + token.getName());
+        }
+        return node.getId();
+    }
+
+    //압축된 상태를 같은 구성의 GameState에 그대로 복원
+    public void decode(long[] state, GameState gameState) {
+        List<Player> players = gameState.getPlayers();
+        checkShape(gameState);
+        TokenPositionManager positions = gameState.getTokenPositionManager();
+        Board target = gameState.getBoard();
+
+        for (BoardNode node : target.getNodes()) {
+            node.clearTokens();
+        }
+
+        // 1. 말마다 상태와 위치 복원
+        for (int p = 0; p < playerCount; p++) {
+            List<Token> tokens = players.get(p).getTokens();
+            for (int t = 0; t < tokenCounts[p]; t++) {
+                Token token = tokens.get(t);
+                int location = getLocation(state, p, t);
+                token.clearStackedTokens();
+                token.clearVisits();
+                token.clearNextBranchChoice();
+                token.setPreviousNode(target.getNode(entryRepresentatives[getCenterEntry(state, p, t)]));
+
+                if (location == READY) {
+                    token.setState(TokenState.READY);
+                    positions.updateTokenPosition(token, null);
+                    positions.markReady(token);
+                } else if (location == FINISHED) {
+                    token.setState(TokenState.FINISHED);
+                    positions.updateTokenPosition(token, null);
+                    positions.markFinished(token);
+                } else {
+                    token.setState(TokenState.ACTIVE);
+                    BoardNode node = target.getNode(location);
+                    int branch = getBranchChoice(state, p, t);
+                    if (branch != NONE) {
+                        token.setNextBranchChoice(target.getNode(topology.getSuccessor(location, branch)));
+                    }
+                    int cameFrom = getCameFrom(state, p, t);
+                    if (cameFrom != NONE) {
+                        token.recordVisit(topology.getPredecessor(location, cameFrom));
+                    }
+                    // 업힌 말은 노드에 올리지 않고 위치만 기록 (대표 말이 이동한 뒤와 같은 상태)
+                    if (getCarrier(state, p, t) == NONE) {
+                        node.enter(token);
+                    }
+                    positions.updateTokenPosition(token, node);
+                }
+            }
+        }
+
+        // 2. 업기 관계 복원
+        for (int p = 0; p < playerCount; p++) {
+            List<Token> tokens = players.get(p).getTokens();
+            for (int t = 0; t < tokenCounts[p]; t++) {
+                int carrier = getCarrier(state, p, t);
+                if (carrier != NONE) {
+                    tokens.get(carrier).addStackedToken(tokens.get(t));
+                }
+            }
+        }
+
+        // 3. 턴 정보 복원
+        int winner = getWinner(state);
+        gameState.restoreTurn(players.get(getCurrentPlayer(state)),
+                PHASES[read(state, phaseShift, phaseBits)],
+                winner == NONE ? null : players.get(winner));
+    }
+
+    private void checkShape(GameState gameState) {
+        List<Player> players = gameState.getPlayers();
+        if (gameState.getBoard().getTopology().getNodeCount() != topology.getNodeCount()) {
+            throw new IllegalArgumentException("보드 크기가 코덱과 다릅니다.");
+        }
+        if (players.size() != playerCount) {
+            throw new IllegalArgumentException("플레이어 수가 코덱과 다릅니다.");
+        }
+        for (int p = 0; p < playerCount; p++) {
+            if (players.get(p).getTokens().size() != tokenCounts[p]) {
+                throw new IllegalArgumentException("말 개수가 코덱과 다릅니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.List;
+
+//GameState 하나를 그대로 되돌릴 수 있는 스냅샷 (리플레이 탐색의 키프레임용)
+//GameStateCodec의 압축 상태에 코덱이 한 칸만 저장하는 빽도 기록(지나온 노드)을 말마다 전부 더해 저장한다.
+//같은 구성(보드 크기, 플레이어/말 수)의 GameState에만 복원할 수 있다.
+public final class GameStateKeyframe {
+    private final long[] state;
+    private final int[][] visits; // 플레이어 순서대로 이어 붙인 말마다의 지나온 노드 기록
+
+    private GameStateKeyframe(long[] state, int[][] visits) {
+        this.state = state;
+        this.visits = visits;
+    }
+
+    public static GameStateKeyframe capture(GameStateCodec codec, GameState gameState) {
+        List<Player> players = gameState.getPlayers();
+        int total = 0;
+        for (Player player : players) {
+            total += player.getTokens().size();
+        }
+        int[][] visits = new int[total][];
+        int index = 0;
+        for (Player player : players) {
+            for (Token token : player.getTokens()) {
+                visits[index++] = token.copyVisits();
+            }
+        }
+        return new GameStateKeyframe(codec.encode(gameState), visits);
+    }
+
+    public void restore(GameStateCodec codec, GameState gameState) {
+        codec.decode(state, gameState);
+        int index = 0;
+        for (Player player : gameState.getPlayers()) {
+            for (Token token : player.getTokens()) {
+                token.restoreVisits(visits[index++]);
+            }
+        }
+    }
+}
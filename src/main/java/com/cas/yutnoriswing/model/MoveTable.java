@@ -0,0 +1,146 @@
+package com.cas.yutnoriswing.model;
+
+//보드 생성 시 한 번 계산해두는 이동 테이블 (출발 노드 × 칸 수 × 분기 → 도착 노드)
+//이동할 때마다 그래프를 한 칸씩 따라가지 않고 테이블 조회 한 번으로 도착 노드를 구한다.
+final class MoveTable {
+    static final int MAX_STEPS = 5;  // 한 번에 조회할 수 있는 최대 칸 수 (모)
+    static final int FINISH = -1;    // 완주 (도착 노드 없음)
+    static final int UNCHANGED = -1; // 이동 후에도 토큰의 previousNode가 바뀌지 않음
+    static final int NONE = -1;      // 선택한 경로나 이전 노드가 없음
+
+    private final BoardTopology topology;
+    private final int[] slotOffsets;         // 노드별 테이블 시작 위치 (분기 수만큼 칸을 차지, 분기가 없으면 1칸)
+    private final int[] targets;             // 도착 노드 id (또는 FINISH)
+    private final int[] previousAfter;       // 이동 후 토큰의 previousNode id (또는 UNCHANGED)
+    private final int[] centerBranchByEntry; // 진입 방향(이전 노드 id, 마지막 칸은 알 수 없음) → Center 기본 분기
+    private final int centerId;
+
+    MoveTable(BoardTopology topology) {
+        this.topology = topology;
+        this.centerId = topology.getCenterId();
+
+        int nodeCount = topology.getNodeCount();
+        this.slotOffsets = new int[nodeCount + 1];
+        for (int id = 0; id < nodeCount; id++) {
+            slotOffsets[id + 1] = slotOffsets[id] + Math.max(1, topology.getSuccessorCount(id)) * MAX_STEPS;
+        }
+
+        this.centerBranchByEntry = buildCenterEntries();
+
+        this.targets = new int[slotOffsets[nodeCount]];
+        this.previousAfter = new int[slotOffsets[nodeCount]];
+        for (int id = 0; id < nodeCount; id++) {
+            int branches = Math.max(1, topology.getSuccessorCount(id));
+            for (int steps = 1; steps <= MAX_STEPS; steps++) {
+                for (int branch = 0; branch < branches; branch++) {
+                    walk(id, steps, branch, index(id, steps, branch));
+                }
+            }
+        }
+    }
+
+    // Center 기본 경로 (4각형: 들어온 방향의 반대편으로 직진, 그 외: 마지막 선택지, 진입 방향을 모르면 첫 번째 선택지)
+    private int[] buildCenterEntries() {
+        int nodeCount = topology.getNodeCount();
+        int outgoing = topology.getSuccessorCount(centerId);
+        int[] entries = new int[nodeCount + 1];
+
+        for (int id = 0; id < nodeCount; id++) {
+            entries[id] = Math.max(0, outgoing - 1);
+            if (topology.getSides() == 4 && topology.getKind(id) == NodeKind.TO_CENTER && topology.getPathPosition(id) == 2) {
+                // ToCenter{i}-2에서 들어온 경우 반대편 ToCenter로 나가고, 반대편이 나가는 길이 아니면 첫 번째 선택지
+                int straightSide = (topology.getSideIndex(id) + 2) % 4;
+                entries[id] = 0;
+                for (int k = 0; k < outgoing; k++) {
+                    if (topology.getSideIndex(topology.getSuccessor(centerId, k)) == straightSide) {
+                        entries[id] = k;
+                    }
+                }
+            }
+        }
+        entries[nodeCount] = 0;
+        return entries;
+    }
+
+    // 테이블을 채우기 위해 실제로 한 칸씩 이동해보는 메서드 (생성 시에만 사용)
+    private void walk(int from, int steps, int branch, int slot) {
+        int current = from;
+        int previous = from;
+        int tokenPrevious = UNCHANGED;
+
+        for (int step = 0; step < steps; step++) {
+            int count = topology.getSuccessorCount(current);
+            if (count == 0) {
+                current = FINISH; // 완주
+                break;
+            }
+
+            if (count > 1) {
+                if (step == 0) {
+                    // 출발 노드의 분기는 호출 시점에 결정된 분기를 사용
+                    previous = current;
+                    current = topology.getSuccessor(current, branch);
+                } else if (current == centerId) {
+                    // 지나가는 Center: 진입 방향에 따른 기본 경로 (이전 노드는 갱신하지 않음)
+                    current = topology.getSuccessor(current, centerBranchByEntry[entryIndex(tokenPrevious)]);
+                } else {
+                    // 지나가는 외곽 분기점: 항상 외곽 경로
+                    previous = current;
+                    current = topology.getSuccessor(current, 0);
+                }
+            } else {
+                int next = topology.getSuccessor(current, 0);
+                if (next == centerId) {
+                    tokenPrevious = current;
+                }
+                previous = current;
+                current = next;
+            }
+
+            if (current != centerId) {
+                tokenPrevious = previous;
+            }
+        }
+
+        targets[slot] = current;
+        previousAfter[slot] = tokenPrevious;
+    }
+
+    private int index(int from, int steps, int branch) {
+        return slotOffsets[from] + branch * MAX_STEPS + (steps - 1);
+    }
+
+    private int entryIndex(int previousId) {
+        return previousId >= 0 ? previousId : topology.getNodeCount();
+    }
+
+    // 출발 노드에서 사용할 분기 번호 결정 (선택한 경로 → Center 진입 방향 → 외곽 경로 순)
+    int resolveBranch(int from, int choiceId, int previousId) {
+        if (!topology.isBranch(from)) {
+            return 0;
+        }
+        if (choiceId != NONE) {
+            int chosen = topology.indexOfSuccessor(from, choiceId);
+            if (chosen >= 0) {
+                return chosen;
+            }
+        }
+        if (from == centerId) {
+            return centerBranchByEntry[entryIndex(previousId)];
+        }
+        return 0;
+    }
+
+    // 이전 노드가 Center 기본 분기에 주는 영향 (같은 값이면 Center에서 같은 길로 나감)
+    int centerEntryBranch(int previousId) {
+        return centerBranchByEntry[entryIndex(previousId)];
+    }
+
+    int target(int from, int steps, int branch) {
+        return targets[index(from, steps, branch)];
+    }
+
+    int previousAfter(int from, int steps, int branch) {
+        return previousAfter[index(from, steps, branch)];
+    }
+}
@@ -0,0 +1,136 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.List;
+
+//GameState.makeMove가 남기는 되돌림 기록 (unmakeMove가 이동 전 상태를 그대로 복원)
+//이동으로 바뀔 수 있는 말만 저장한다: 움직이는 말 묶음과 보드 위의 모든 말(잡히거나 업힐 수 있음).
+//말마다 상태, 위치(노드 id), 해시 위치, 업고 있는 말, previousNode, nextBranchChoice, 빽도 기록을 담고,
+//차례인 플레이어, 게임 단계, 승자, 국면 해시도 함께 담는다.
+//노드 목록 안의 말 순서는 복원하지 않는다 (다시 올리면서 순서가 바뀔 수 있음).
+//배열은 처음 쓸 때 게임의 말 수에 맞춰 만들고 재사용하므로 이후 기록에는 할당이 없다.
+final class MoveUndo {
+    private static final TokenState[] STATES = TokenState.values();
+    private static final int NO_CARRIER = -1;
+
+    private int count;
+    private int[] ids = new int[0];
+    private int[] states;
+    private int[] nodeIds;        // TokenPositionManager의 값 (노드 id 또는 READY/FINISHED/NO_POSITION)
+    private int[] slotLocations;  // 해시에 반영된 위치
+    private int[] carriers;       // 업고 있는 말의 번호 (대표 말이면 NO_CARRIER)
+    private int[] previousNodes;  // 보드 밖 노드나 null이면 -1
+    private int[] branchChoices;
+    private int[][] visits;
+    private int[] visitCounts;
+
+    private long positionHash;
+    private Player currentPlayer;
+    private GamePhase phase;
+    private Player winner;
+
+    // mover로 이동하기 직전의 상태를 기록
+    void save(GameState gameState, Token mover) {
+        TokenPositionManager positions = gameState.getTokenPositionManager();
+        ensureCapacity(positions.getTokenTotal());
+        Board board = gameState.getBoard();
+        count = 0;
+
+        // 보드 위의 말: 대표 말 다음에 업힌 말을 업힌 순서대로 (복원할 때 같은 순서로 다시 업음)
+        for (Player player : gameState.getPlayerList()) {
+            List<Token> tokens = player.getTokens();
+            for (int bits = player.getStateMask(TokenState.ACTIVE); bits != 0; bits &= bits - 1) {
+                Token token = tokens.get(Integer.numberOfTrailingZeros(bits));
+                if (token.isStacked()) {
+                    continue;
+                }
+                saveToken(token, NO_CARRIER, positions, board);
+                for (int i = 0; i < token.getStackedCount(); i++) {
+                    saveToken(token.getStackedToken(i), token.getId(), positions, board);
+                }
+            }
+        }
+        // 출발 전 말을 내보내는 경우
+        Token actual = mover.getTopMostToken();
+        if (actual.getState() != TokenState.ACTIVE) {
+            saveToken(actual, NO_CARRIER, positions, board);
+        }
+
+        positionHash = positions.getPositionHash();
+        currentPlayer = gameState.getCurrentPlayer();
+        phase = gameState.getPhase();
+        winner = gameState.getWinner();
+    }
+
+    private void saveToken(Token token, int carrier, TokenPositionManager positions, Board board) {
+        int id = token.getId();
+        ids[count] = id;
+        states[count] = token.getState().ordinal();
+        nodeIds[count] = positions.getNodeId(token);
+        slotLocations[count] = positions.getSlotLocation(id);
+        carriers[count] = carrier;
+        previousNodes[count] = nodeId(board, token.getPreviousNode());
+        branchChoices[count] = nodeId(board, token.getNextBranchChoice());
+        visitCounts[count] = token.copyVisits(visits[count]);
+        count++;
+    }
+
+    private static int nodeId(Board board, BoardNode node) {
+        return board.contains(node) ? node.getId() : -1;
+    }
+
+    // 기록한 상태로 되돌림 (이동 뒤 보드 위에 있거나 업힌 말은 모두 기록된 말)
+    void restore(GameState gameState) {
+        TokenPositionManager positions = gameState.getTokenPositionManager();
+        Board board = gameState.getBoard();
+
+        // 1. 노드와 업기 관계에서 떼어냄
+        for (int c = 0; c < count; c++) {
+            Token token = positions.getToken(ids[c]);
+            if (token.getNodeIndex() >= 0) {
+                BoardNode node = board.getNode(positions.getNodeId(token));
+                if (node != null) {
+                    node.leave(token);
+                }
+            }
+            token.clearStackedTokens();
+        }
+
+        // 2. 말마다 필드 복원
+        for (int c = 0; c < count; c++) {
+            Token token = positions.getToken(ids[c]);
+            token.setState(STATES[states[c]]);
+            positions.restorePosition(ids[c], nodeIds[c], slotLocations[c]);
+            token.setPreviousNode(board.getNode(previousNodes[c]));
+            token.setNextBranchChoice(board.getNode(branchChoices[c]));
+            token.restoreVisits(visits[c], visitCounts[c]);
+        }
+
+        // 3. 업기 관계와 노드 위치 복원
+        for (int c = 0; c < count; c++) {
+            Token token = positions.getToken(ids[c]);
+            if (carriers[c] != NO_CARRIER) {
+                positions.getToken(carriers[c]).addStackedToken(token);
+            } else if (nodeIds[c] >= 0) {
+                board.getNode(nodeIds[c]).enter(token);
+            }
+        }
+
+        positions.restorePositionHash(positionHash);
+        gameState.setTurnState(currentPlayer, phase, winner);
+    }
+
+    private void ensureCapacity(int tokens) {
+        if (ids.length >= tokens) {
+            return;
+        }
+        ids = new int[tokens];
+        states = new int[tokens];
+        nodeIds = new int[tokens];
+        slotLocations = new int[tokens];
+        carriers = new int[tokens];
+        previousNodes = new int[tokens];
+        branchChoices = new int[tokens];
+        visits = new int[tokens][Token.PATH_HISTORY_SIZE];
+        visitCounts = new int[tokens];
+    }
+}
@@ -0,0 +1,7 @@
+package com.cas.yutnoriswing.model;
+// 보드 노드의 종류 (이름 문자열 대신 종류로 판단하기 위한 배열)
+public enum NodeKind {
+    CENTER,     // 중앙
+    EDGE,       // 외곽 (꼭짓점 포함)
+    TO_CENTER   // 꼭짓점과 중앙을 잇는 지름길
+}
@@ -2,12 +2,20 @@ package com.cas.yutnoriswing.model;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 //플레이어의 정보가 담긴 클래스
+//말 상태별 비트 집합(비트 i = tokens.get(i))을 Token.setState가 바뀔 때마다 갱신하므로,
+//완주 판정과 상태별 말 목록 조회는 말을 훑지 않고 O(1)이다.
+//목록은 비트 집합마다 한 번 만든 읽기 전용 목록을 다시 돌려준다 (말이 최대 5개라 집합은 32가지).
 public class Player {
+    private static final int STATE_COUNT = TokenState.values().length;
+
     private String name;            //플레이어 이름
     private List<Token> tokens;     //보유 중인 말들
+    private int seat = -1;          //게임에서의 순서 (GameState가 정함, 게임에 등록되지 않으면 -1)
+    private final int[] stateMasks = new int[STATE_COUNT]; // 상태별 말 비트 집합
+    private int allMask;                                   // 모든 말
+    private List<Token>[] views;                           // 비트 집합 → 그 말들의 읽기 전용 목록 (처음 요청할 때 만듦)
 
     public Player(String name, int tokenCount) {
         this.name = name;
@@ -22,8 +30,69 @@ public class Player {
         for (int i = 1; i <= tokenCount; i++) {
             String tokenName = name + "-" + i;
             Token token = new Token(tokenName,  this);
+            token.setSlot(tokens.size());
             tokens.add(token);
         }
+        allMask = (1 << tokens.size()) - 1;
+        stateMasks[TokenState.READY.ordinal()] = allMask;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        List<Token>[] cache = new List[allMask + 1];
+        views = cache;
+    }
+
+    //게임에서의 순서 (BoardNode의 점유 집합 비트 번호)
+    public int getSeat() {
+        return seat;
+    }
+
+    void setSeat(int seat) {
+        this.seat = seat;
+    }
+
+    // Token.setState에서 호출 (slot번째 말의 상태가 from → to)
+    void onStateChanged(int slot, TokenState from, TokenState to) {
+        stateMasks[from.ordinal()] &= ~(1 << slot);
+        stateMasks[to.ordinal()] |= 1 << slot;
+    }
+
+    // 비트 집합의 말들 (목록 순서)
+    private List<Token> view(int mask) {
+        List<Token> view = views[mask];
+        if (view == null) {
+            List<Token> members = new ArrayList<>(Integer.bitCount(mask));
+            for (int i = 0; i < tokens.size(); i++) {
+                if ((mask & (1 << i)) != 0) {
+                    members.add(tokens.get(i));
+                }
+            }
+            view = List.copyOf(members);
+            views[mask] = view;
+        }
+        return view;
+    }
+
+    //상태별 말 수
+    public int getTokenCount(TokenState state) {
+        return Integer.bitCount(stateMasks[state.ordinal()]);
+    }
+
+    //상태별 말 비트 집합 (비트 i = getTokens().get(i))
+    int getStateMask(TokenState state) {
+        return stateMasks[state.ordinal()];
+    }
+
+    // 윷 결과로 움직일 수 있는 말 집합 (빽도는 ACTIVE만, 그 외는 FINISHED 제외)
+    private int movableMask(int steps) {
+        return steps < 0 ? stateMasks[TokenState.ACTIVE.ordinal()] : allMask & ~stateMasks[TokenState.FINISHED.ordinal()];
+    }
+
+    //윷 결과로 움직일 수 있는 말들 (읽기 전용)
+    public List<Token> getMovableTokens(int steps) {
+        return view(movableMask(steps));
+    }
+
+    public boolean hasMovableToken(int steps) {
+        return movableMask(steps) != 0;
     }
 
     public String getName() {
@@ -36,47 +105,32 @@ public class Player {
 
     //모든 토큰이 FINISHED 상태인 지를 통해 승리 플레이어 결정
     public boolean hasFinished() {
-        for (Token token : tokens) {
-            if (token.getState() != TokenState.FINISHED) {
-                return false;
-            }
-        }
-        return true;
+        return stateMasks[TokenState.FINISHED.ordinal()] == allMask;
     }
     
-    //이동 가능한 토큰들을 반환 (FINISHED가 아닌 토큰들)
+    //이동 가능한 토큰들을 반환 (FINISHED가 아닌 토큰들, 읽기 전용)
     public List<Token> getMovableTokens() {
-        return tokens.stream()
-                .filter(token -> token.getState() != TokenState.FINISHED)
-                .collect(Collectors.toList());
+        return view(allMask & ~stateMasks[TokenState.FINISHED.ordinal()]);
     }
     
-    //빽도로 이동 가능한 토큰들을 반환 (ACTIVE 상태인 토큰들)
+    //빽도로 이동 가능한 토큰들을 반환 (ACTIVE 상태인 토큰들, 읽기 전용)
     public List<Token> getBackwardMovableTokens() {
-        return tokens.stream()
-                .filter(token -> token.getState() == TokenState.ACTIVE)
-                .collect(Collectors.toList());
+        return getActiveTokens();
     }
     
-    //대기 상태인 토큰들을 반환 (READY 상태인 토큰들)
+    //대기 상태인 토큰들을 반환 (READY 상태인 토큰들, 읽기 전용)
     public List<Token> getReadyTokens() {
-        return tokens.stream()
-                .filter(token -> token.getState() == TokenState.READY)
-                .collect(Collectors.toList());
+        return view(stateMasks[TokenState.READY.ordinal()]);
     }
     
-    //게임 중인 토큰들을 반환 (ACTIVE 상태인 토큰들)
+    //게임 중인 토큰들을 반환 (ACTIVE 상태인 토큰들, 읽기 전용)
     public List<Token> getActiveTokens() {
-        return tokens.stream()
-                .filter(token -> token.getState() == TokenState.ACTIVE)
-                .collect(Collectors.toList());
+        return view(stateMasks[TokenState.ACTIVE.ordinal()]);
     }
     
-    //완주한 토큰들을 반환 (FINISHED 상태인 토큰들)
+    //완주한 토큰들을 반환 (FINISHED 상태인 토큰들, 읽기 전용)
     public List<Token> getFinishedTokens() {
-        return tokens.stream()
-                .filter(token -> token.getState() == TokenState.FINISHED)
-                .collect(Collectors.toList());
+        return view(stateMasks[TokenState.FINISHED.ordinal()]);
     }
     
     //특정 이름의 토큰을 찾아 반환
@@ -0,0 +1,44 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.SplittableRandom;
+
+//SplittableRandom 기반 (long 하나로 10번씩 던짐)
+final class SplittableYutRandom implements YutRandom {
+    private static final int THROWS_PER_LONG = Long.SIZE / BITS_PER_THROW;
+
+    private final SplittableRandom random;
+    private final boolean backdo;
+
+    SplittableYutRandom(SplittableRandom random, boolean backdo) {
+        this.random = random;
+        this.backdo = backdo;
+    }
+
+    @Override
+    public int nextYut() {
+        return YutRandom.fromBits(random.nextInt(), backdo);
+    }
+
+    @Override
+    public void nextYuts(int[] results, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            long bits = random.nextLong();
+            for (int k = 0; k < THROWS_PER_LONG && i < end; k++, i++) {
+                results[i] = YutRandom.fromBits((int) bits, backdo);
+                bits >>>= BITS_PER_THROW;
+            }
+        }
+    }
+
+    @Override
+    public YutRandom split() {
+        return new SplittableYutRandom(random.split(), backdo);
+    }
+
+    @Override
+    public boolean hasBackdo() {
+        return backdo;
+    }
+}
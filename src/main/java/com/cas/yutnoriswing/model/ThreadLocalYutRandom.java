@@ -0,0 +1,30 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+//ThreadLocalRandom 기반 (상태가 없어 공유 인스턴스 하나로 충분)
+final class ThreadLocalYutRandom implements YutRandom {
+    static final ThreadLocalYutRandom STANDARD = new ThreadLocalYutRandom(false);
+    static final ThreadLocalYutRandom WITH_BACKDO = new ThreadLocalYutRandom(true);
+
+    private final boolean backdo;
+
+    private ThreadLocalYutRandom(boolean backdo) {
+        this.backdo = backdo;
+    }
+
+    @Override
+    public int nextYut() {
+        return YutRandom.fromBits(ThreadLocalRandom.current().nextInt(), backdo);
+    }
+
+    @Override
+    public YutRandom split() {
+        return this;
+    }
+
+    @Override
+    public boolean hasBackdo() {
+        return backdo;
+    }
+}
@@ -0,0 +1,165 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//한 턴의 윷 결과 묶음(윷/모면 계속 던짐)에 대한 정확한 확률표 (불변, 규칙마다 한 번만 계산해서 공유)
+//- 결과 묶음은 던진 순서와 상관없이 정렬된 결과로 구분 (예: 윷 → 개 와 같은 묶음은 [2, 4])
+//- 한 턴에 maxThrows번까지만 펼치고, 마지막 던지기가 윷/모라 더 던져야 하는 경우는 잘린(truncated) 묶음으로 남김
+//- 확률이 큰 순서로 정렬되어 있으며 합은 항상 1
+public final class ThrowDistribution {
+    public static final int MAX_THROWS_LIMIT = 16;
+    private static final int[] RESULTS = {-1, 1, 2, 3, 4, 5};
+
+    private static final Map<Long, ThrowDistribution> CACHE = new ConcurrentHashMap<>();
+
+    private final boolean backdo;
+    private final int maxThrows;
+    private final int[][] outcomes;       // 정렬된 결과 묶음
+    private final double[] probabilities;
+    private final boolean[] truncated;
+    private final Map<Long, Integer> indexByKey;
+    private final double truncatedProbability;
+
+    //규칙(빽도 여부)과 최대 던지기 수에 맞는 확률표 (한 번 계산하면 캐시)
+    public static ThrowDistribution of(boolean backdo, int maxThrows) {
+        if (maxThrows < 1 || maxThrows > MAX_THROWS_LIMIT) {
+            throw new IllegalArgumentException("최대 던지기 수는 1 ~ " + MAX_THROWS_LIMIT + "이어야 합니다: " + maxThrows);
+        }
+        long cacheKey = (backdo ? 1L << 32 : 0L) | maxThrows;
+        return CACHE.computeIfAbsent(cacheKey, k -> new ThrowDistribution(backdo, maxThrows));
+    }
+
+    private ThrowDistribution(boolean backdo, int maxThrows) {
+        this.backdo = backdo;
+        this.maxThrows = maxThrows;
+
+        // 지금까지 던진 결과 개수별로 (묶음 키 → 확률)을 펼쳐 나감
+        Map<Long, Double> finished = new HashMap<>();
+        Map<Long, Double> open = new HashMap<>();
+        open.put(key(new int[0]), 1.0);
+        Map<Long, int[]> multisets = new HashMap<>();
+        multisets.put(key(new int[0]), new int[0]);
+        for (int thrown = 0; thrown < maxThrows; thrown++) {
+            Map<Long, Double> next = new HashMap<>();
+            for (Map.Entry<Long, Double> entry : open.entrySet()) {
+                int[] sofar = multisets.get(entry.getKey());
+                for (int result : RESULTS) {
+                    double p = YutGameRules.getThrowProbability(result, backdo);
+                    if (p == 0) continue;
+                    int[] extended = Arrays.copyOf(sofar, sofar.length + 1);
+                    extended[sofar.length] = result;
+                    Arrays.sort(extended);
+                    long k = key(extended);
+                    multisets.putIfAbsent(k, extended);
+                    Map<Long, Double> target = result >= 4 ? next : finished;
+                    target.merge(k, entry.getValue() * p, Double::sum);
+                }
+            }
+            open = next;
+        }
+
+        // 확률이 큰 순서로 정렬 (같으면 키 순서로 고정)
+        List<Long> keys = new ArrayList<>(finished.keySet());
+        keys.addAll(open.keySet());
+        Map<Long, Double> openFinal = open;
+        keys.sort((a, b) -> {
+            double pa = finished.containsKey(a) ? finished.get(a) : openFinal.get(a);
+            double pb = finished.containsKey(b) ? finished.get(b) : openFinal.get(b);
+            int byProbability = Double.compare(pb, pa);
+            return byProbability != 0 ? byProbability : Long.compare(a, b);
+        });
+
+        int count = keys.size();
+        this.outcomes = new int[count][];
+        this.probabilities = new double[count];
+        this.truncated = new boolean[count];
+        Map<Long, Integer> index = new HashMap<>();
+        double cut = 0;
+        for (int i = 0; i < count; i++) {
+            long k = keys.get(i);
+            outcomes[i] = multisets.get(k);
+            truncated[i] = !finished.containsKey(k);
+            probabilities[i] = truncated[i] ? open.get(k) : finished.get(k);
+            if (truncated[i]) {
+                cut += probabilities[i];
+            }
+            index.put(k, i);
+        }
+        this.indexByKey = Collections.unmodifiableMap(index);
+        this.truncatedProbability = cut;
+    }
+
+    // 정렬된 결과 묶음 → 키 (결과마다 3비트, 최대 MAX_THROWS_LIMIT개)
+    private static long key(int[] sorted) {
+        long k = sorted.length;
+        for (int result : sorted) {
+            k = (k << 3) | (result + 2);
+        }
+        return k;
+    }
+
+    public boolean hasBackdo() {
+        return backdo;
+    }
+
+    public int getMaxThrows() {
+        return maxThrows;
+    }
+
+    public int size() {
+        return outcomes.length;
+    }
+
+    public double getProbability(int index) {
+        return probabilities[index];
+    }
+
+    //결과 묶음 (정렬됨, 복사본)
+    public int[] getOutcome(int index) {
+        return outcomes[index].clone();
+    }
+
+    public int getOutcomeLength(int index) {
+        return outcomes[index].length;
+    }
+
+    public int getResult(int index, int position) {
+        return outcomes[index][position];
+    }
+
+    //maxThrows에서 잘려 더 던져야 했던 묶음인지 (마지막 결과가 윷/모)
+    public boolean isTruncated(int index) {
+        return truncated[index];
+    }
+
+    //잘린 묶음들의 확률 합
+    public double getTruncatedProbability() {
+        return truncatedProbability;
+    }
+
+    //결과 묶음의 번호 (순서 상관없음, 없으면 -1)
+    public int indexOf(List<Integer> results) {
+        if (results.size() > maxThrows) {
+            return -1;
+        }
+        int[] sorted = new int[results.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = results.get(i);
+        }
+        Arrays.sort(sorted);
+        Integer index = indexByKey.get(key(sorted));
+        return index == null ? -1 : index;
+    }
+
+    //결과 묶음이 한 턴에 나올 확률 (표에 없으면 0)
+    public double probabilityOf(List<Integer> results) {
+        int index = indexOf(results);
+        return index < 0 ? 0.0 : probabilities[index];
+    }
+}
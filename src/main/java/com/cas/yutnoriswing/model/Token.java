@@ -5,20 +5,32 @@ import java.util.List;
 
 // 말의 상태를 나타내는 클래스
 public class Token {
+    static final int PATH_HISTORY_SIZE = 16; // 빽도로 되돌아갈 수 있는 최대 칸 수 (오래된 기록부터 덮어씀)
+    static final int NO_HISTORY = -1;
+
     private final String name;
     private final Player owner;
+    private int slot = -1;              // owner의 말 목록에서의 위치 (상태별 집합 갱신용, 목록에 없는 말은 -1)
+    private int id = -1;                // 게임 안에서의 연속 번호 (TokenPositionManager가 정함, 등록 전에는 -1)
+    private int nodeIndex = -1;         // 올라가 있는 노드의 말 목록에서의 위치 (BoardNode가 관리)
     private TokenState state;
-    private List<Token> stackedTokens;
+    private final List<Token> stackedTokens; // 대표 토큰일 때 업힌 토큰들 (업힌 토큰의 업힌 토큰까지 모두 평탄화해서 보관)
+    private Token carrier;                    // 이 토큰을 업고 있는 대표 토큰 (대표 토큰이면 null)
     private BoardNode nextBranchChoice; // 다음 이동 시 선택할 분기 경로
     private BoardNode previousNode;     // 이전 노드 (기본 이동 분기 선택용)
+    private final int[] pathHistory;    // 지나온 노드 id 기록 (링 버퍼, 빽도용)
+    private int historyTop;             // 다음에 기록할 위치
+    private int historySize;            // 기록된 노드 수
 
     public Token(String name, Player owner) {
         this.name = name;
         this.owner = owner;
         this.state = TokenState.READY;
         this.stackedTokens = new ArrayList<>();
+        this.carrier = null;
         this.nextBranchChoice = null;
         this.previousNode = null;
+        this.pathHistory = new int[PATH_HISTORY_SIZE];
     }
 
     // Getter 메서드
@@ -38,6 +50,20 @@ public class Token {
         return new ArrayList<>(stackedTokens);
     }
 
+    // 리스트 복사 없이 업힌 토큰을 순회하기 위한 메서드
+    public int getStackedCount() {
+        return stackedTokens.size();
+    }
+
+    public Token getStackedToken(int index) {
+        return stackedTokens.get(index);
+    }
+
+    // 다른 토큰에 업혀 있는지
+    public boolean isStacked() {
+        return carrier != null;
+    }
+
     public BoardNode getNextBranchChoice() {
         return nextBranchChoice;
     }
@@ -46,21 +72,75 @@ public class Token {
         return previousNode;
     }
 
+    // 상태가 바뀌면 owner의 상태별 말 집합도 갱신
     void setState(TokenState state) {
+        if (this.state == state) {
+            return;
+        }
+        if (slot >= 0) {
+            owner.onStateChanged(slot, this.state, state);
+        }
         this.state = state;
     }
 
+    void setSlot(int slot) {
+        this.slot = slot;
+    }
+
+    // owner의 말 목록에서의 위치 (목록에 없는 말은 -1)
+    int getSlot() {
+        return slot;
+    }
+
+    // 게임 안에서의 연속 번호 (플레이어 순서 × 말 순서, 게임에 등록되지 않았으면 -1)
+    public int getId() {
+        return id;
+    }
+
+    void setId(int id) {
+        this.id = id;
+    }
+
+    int getNodeIndex() {
+        return nodeIndex;
+    }
+
+    void setNodeIndex(int nodeIndex) {
+        this.nodeIndex = nodeIndex;
+    }
+
+    // 업기: token과 token에 업혀 있던 토큰들을 이 토큰이 속한 그룹의 대표 토큰 밑으로 합침
     void addStackedToken(Token token) {
-        if (!stackedTokens.contains(token)) {
-            stackedTokens.add(token);
+        Token root = getTopMostToken();
+        if (token == root || token.carrier == root) {
+            return; // 이미 같은 그룹
+        }
+        if (token.carrier != null) {
+            token.carrier.removeStackedToken(token);
         }
+
+        for (int i = 0; i < token.stackedTokens.size(); i++) {
+            Token member = token.stackedTokens.get(i);
+            member.carrier = root;
+            root.stackedTokens.add(member);
+        }
+        token.stackedTokens.clear();
+
+        token.carrier = root;
+        root.stackedTokens.add(token);
     }
 
     void removeStackedToken(Token token) {
-        stackedTokens.remove(token);
+        if (token.carrier == this) {
+            stackedTokens.remove(token);
+            token.carrier = null;
+        }
     }
 
     void clearStackedTokens() {
+        for (int i = 0; i < stackedTokens.size(); i++) {
+            stackedTokens.get(i).carrier = null;
+        }
         stackedTokens.clear();
     }
 
@@ -81,14 +161,66 @@ public class Token {
         this.previousNode = null;
     }
 
-    // 업힌 토큰들이 다 대표 토큰이 될 수 있게..
-    public Token getTopMostToken() {
-        for (Token tok : owner.getTokens()) {
-            if (tok.getStackedTokens().contains(this)) {
-                return tok.getTopMostToken();
-            }
+    // 지나온 노드를 기록 (가득 차면 가장 오래된 기록을 덮어씀)
+    void recordVisit(int nodeId) {
+        pathHistory[historyTop] = nodeId;
+        historyTop = (historyTop + 1) % PATH_HISTORY_SIZE;
+        if (historySize < PATH_HISTORY_SIZE) {
+            historySize++;
+        }
+    }
+
+    // 가장 최근에 지나온 노드를 꺼냄 (기록이 없으면 NO_HISTORY)
+    int popVisit() {
+        if (historySize == 0) {
+            return NO_HISTORY;
+        }
+        historyTop = (historyTop + PATH_HISTORY_SIZE - 1) % PATH_HISTORY_SIZE;
+        historySize--;
+        return pathHistory[historyTop];
+    }
+
+    // 가장 최근에 지나온 노드를 꺼내지 않고 확인 (기록이 없으면 NO_HISTORY)
+    int peekVisit() {
+        if (historySize == 0) {
+            return NO_HISTORY;
+        }
+        return pathHistory[(historyTop + PATH_HISTORY_SIZE - 1) % PATH_HISTORY_SIZE];
+    }
+
+    void clearVisits() {
+        historySize = 0;
+    }
+
+    // 지나온 노드 기록 전체 (오래된 것부터, 스냅샷 저장용)
+    int[] copyVisits() {
+        int[] visits = new int[historySize];
+        copyVisits(visits);
+        return visits;
+    }
+
+    // into에 오래된 것부터 복사하고 기록 수 반환 (into는 PATH_HISTORY_SIZE 이상)
+    int copyVisits(int[] into) {
+        for (int i = 0; i < historySize; i++) {
+            into[i] = pathHistory[(historyTop - historySize + i + PATH_HISTORY_SIZE) % PATH_HISTORY_SIZE];
+        }
+        return historySize;
+    }
+
+    void restoreVisits(int[] visits) {
+        restoreVisits(visits, visits.length);
+    }
+
+    void restoreVisits(int[] visits, int count) {
+        clearVisits();
+        for (int i = 0; i < count; i++) {
+            recordVisit(visits[i]);
         }
-        return this;
+    }
+
+    // 업힌 토큰들이 다 대표 토큰이 될 수 있게.. (그룹은 항상 한 단계로 평탄화되어 있어 바로 찾을 수 있음)
+    public Token getTopMostToken() {
+        return carrier != null ? carrier : this;
     }
 }
 
@@ -1,18 +1,115 @@
 package com.cas.yutnoriswing.model;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 //토큰의 위치(보드에 두거나, 보드에서 빼거나)를 관리하는 클래스
+//위치가 바뀔 때마다 Zobrist 국면 해시도 함께 갱신한다 (차례 키는 GameState에서 더함).
+//위치는 게임 안에서 말마다 붙는 연속 번호(Token.getId, 플레이어 순서 × 말 순서)로 찾는 노드 id 배열이라,
+//조회와 갱신에 해시 계산이나 맵 항목이 없다. BoardNode를 주고받는 메서드는 그 위에 얹은 겉면이다.
 public class TokenPositionManager {
-    private final Map<Token, BoardNode> tokenPositions;
+    public static final int NO_POSITION = -1; // 보드 위에 있지만 기록된 노드가 없음 (업힌 직후 등)
+    public static final int READY = -2;       // 출발 전
+    public static final int FINISHED = -3;    // 완주
+
     private final Board board;
+    private int[] positions = new int[0];       // 말 번호 → 노드 id 또는 위의 값
+    private Token[] tokensById = new Token[0];
+    private ZobristKeys zobristKeys;            // 플레이어 등록 전에는 null (해시 갱신 안 함)
+    private int[] slotLocations;                // 말 번호별 해시에 반영된 위치
+    private long positionHash;
 
     public TokenPositionManager(Board board) {
         this.board = board;
-        this.tokenPositions = new HashMap<>();
+    }
+
+    //말 번호와 플레이어 자리를 정하기 위해 게임의 플레이어 순서를 등록 (GameState 생성 시 호출)
+    void registerPlayers(List<Player> players) {
+        int count = 0;
+        for (int p = 0; p < players.size(); p++) {
+            players.get(p).setSeat(p);
+            for (Token token : players.get(p).getTokens()) {
+                token.setId(count++);
+            }
+        }
+        positions = new int[count];
+        Arrays.fill(positions, READY);
+        tokensById = new Token[count];
+        zobristKeys = new ZobristKeys(players.size(), count, board.getTopology().getNodeCount());
+        slotLocations = new int[count];
+        positionHash = 0L;
+        for (Player player : players) {
+            for (Token token : player.getTokens()) {
+                int id = token.getId();
+                tokensById[id] = token;
+                positions[id] = token.getState() == TokenState.FINISHED ? FINISHED : READY;
+                slotLocations[id] = ZobristKeys.locationOf(token, this);
+                positionHash ^= zobristKeys.tokenKey(id, slotLocations[id]);
+            }
+        }
+    }
+
+    // 해시에 반영된 토큰 위치를 바꿈 (이전 위치 키를 빼고 새 위치 키를 더함)
+    private void moveHashLocation(int id, int location) {
+        if (zobristKeys == null || slotLocations[id] == location) return;
+        positionHash ^= zobristKeys.tokenKey(id, slotLocations[id]) ^ zobristKeys.tokenKey(id, location);
+        slotLocations[id] = location;
+    }
+
+    // 이 게임에 등록된 말의 번호
+    private int idOf(Token token) {
+        int id = token.getId();
+        if (id < 0 || id >= positions.length) {
+            throw new IllegalArgumentException("이 게임에 등록되지 않은 말입니다: " + token.getName());
+        }
+        return id;
+    }
+
+    //등록된 말 수와 번호로 말 찾기
+    int getTokenTotal() {
+        return positions.length;
+    }
+
+    Token getToken(int id) {
+        return tokensById[id];
+    }
+
+    //해시에 반영된 위치 (MoveUndo 기록용)
+    int getSlotLocation(int id) {
+        return slotLocations[id];
+    }
+
+    //MoveUndo 복원용: 위치와 해시 위치를 그대로 되돌림 (해시 값은 restorePositionHash로)
+    void restorePosition(int id, int nodeId, int slotLocation) {
+        positions[id] = nodeId;
+        slotLocations[id] = slotLocation;
+    }
+
+    void restorePositionHash(long positionHash) {
+        this.positionHash = positionHash;
+    }
+
+    //잡혀서 출발 전으로 돌아간 토큰의 위치/해시 갱신
+    void markReady(Token token) {
+        int id = idOf(token);
+        positions[id] = READY;
+        moveHashLocation(id, ZobristKeys.READY);
+    }
+
+    //완주한 토큰의 위치/해시 갱신
+    void markFinished(Token token) {
+        int id = idOf(token);
+        positions[id] = FINISHED;
+        moveHashLocation(id, ZobristKeys.FINISHED);
+    }
+
+    //말 위치만 반영한 해시 (차례 키 제외)
+    public long getPositionHash() {
+        return positionHash;
+    }
+
+    public ZobristKeys getZobristKeys() {
+        return zobristKeys;
     }
 
     //토큰을 시작 위치에 배치
@@ -20,22 +117,43 @@ public class TokenPositionManager {
         BoardNode startNode = board.getStartNode();
         if (startNode != null && token.getState() == TokenState.READY) {
             token.setState(TokenState.ACTIVE);
+            token.clearVisits();
             startNode.enter(token);
-            tokenPositions.put(token, startNode);
+            int id = idOf(token);
+            positions[id] = startNode.getId();
+            moveHashLocation(id, ZobristKeys.nodeLocation(startNode.getId()));
         }
     }
 
-    //토큰의 현재 위치 반환
+    //토큰의 현재 위치 반환 (보드 위에 기록된 노드가 없으면 null)
     public BoardNode getTokenPosition(Token token) {
-        return tokenPositions.get(token);
+        int id = token.getId();
+        if (id < 0 || id >= positions.length) {
+            return null;
+        }
+        int nodeId = positions[id];
+        return nodeId >= 0 ? board.getNode(nodeId) : null;
+    }
+
+    //토큰의 현재 노드 id (없으면 NO_POSITION, READY, FINISHED)
+    public int getNodeId(Token token) {
+        return positions[idOf(token)];
     }
 
     //토큰 위치 업데이트
+    //위치를 비우는 경우(업기, 잡기, 완주)는 해시를 바꾸지 않음: 업힌 토큰은 대표 토큰과 같은 위치로 남고,
+    //잡기/완주는 markReady/markFinished로 반영
+    //비운 뒤의 값은 NO_POSITION (잡기/완주는 이어서 markReady/markFinished가 READY/FINISHED로 바꿈)
     public void updateTokenPosition(Token token, BoardNode newPosition) {
+        int id = idOf(token);
         if (newPosition == null) {
-            tokenPositions.remove(token);
+            positions[id] = NO_POSITION;
         } else {
-            tokenPositions.put(token, newPosition);
+            if (!board.contains(newPosition)) {
+                throw new IllegalArgumentException("이 보드의 노드가 아닙니다: " + newPosition.getName());
+            }
+            positions[id] = newPosition.getId();
+            moveHashLocation(id, ZobristKeys.nodeLocation(newPosition.getId()));
         }
     }
 
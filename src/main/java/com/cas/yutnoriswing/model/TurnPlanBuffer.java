@@ -0,0 +1,116 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.Arrays;
+
+//TurnPlanGenerator가 만든 턴 계획들을 담는 재사용 버퍼 (계획마다 List를 만들지 않고 int 배열에 이어 씀)
+//계획 하나는 윷 결과를 쓰는 순서대로의 이동(윷 결과, 움직일 말 묶음, 분기)들이다.
+//- 말 묶음은 현재 플레이어 말 목록에서 묶음 대표 말의 번호 (움직일 말이 없어 그냥 버린 결과는 NO_TOKEN)
+//- 분기는 출발 노드의 다음 노드 중 몇 번째로 갈지 (분기점이 아니거나 빽도면 NO_BRANCH)
+//계획 중간에 게임이 끝나면 남은 결과는 쓰지 않으므로 계획 길이가 결과 수보다 짧을 수 있다.
+//배열은 필요할 때만 늘리므로 같은 버퍼를 계속 쓰면 한동안 뒤로는 할당이 없다.
+public final class TurnPlanBuffer {
+    public static final int NO_TOKEN = -1;
+    public static final int NO_BRANCH = -1;
+
+    private static final int FIELDS = 3; // 이동 하나: 윷 결과, 말, 분기
+
+    private int[] moves = new int[FIELDS * 64];
+    private int[] offsets = new int[17]; // offsets[i] ~ offsets[i + 1]: i번째 계획의 이동 (이동 단위)
+    private int size;
+    private int maxPlans = Integer.MAX_VALUE;
+    private boolean truncated;
+
+    public void clear() {
+        size = 0;
+        truncated = false;
+        offsets[0] = 0;
+    }
+
+    //담을 최대 계획 수 (넘으면 더 만들지 않고 isTruncated가 true)
+    public void setMaxPlans(int maxPlans) {
+        if (maxPlans < 1) {
+            throw new IllegalArgumentException("최대 계획 수는 1 이상이어야 합니다: " + maxPlans);
+        }
+        this.maxPlans = maxPlans;
+    }
+
+    public int getMaxPlans() {
+        return maxPlans;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public int getLength(int plan) {
+        check(plan);
+        return offsets[plan + 1] - offsets[plan];
+    }
+
+    public int getSteps(int plan, int move) {
+        return moves[index(plan, move)];
+    }
+
+    public int getToken(int plan, int move) {
+        return moves[index(plan, move) + 1];
+    }
+
+    public int getBranch(int plan, int move) {
+        return moves[index(plan, move) + 2];
+    }
+
+    private int index(int plan, int move) {
+        if (move < 0 || move >= getLength(plan)) {
+            throw new IndexOutOfBoundsException("이동 번호가 범위를 벗어났습니다: " + move);
+        }
+        return (offsets[plan] + move) * FIELDS;
+    }
+
+    private void check(int plan) {
+        if (plan < 0 || plan >= size) {
+            throw new IndexOutOfBoundsException("계획 번호가 범위를 벗어났습니다: " + plan + " / " + size);
+        }
+    }
+
+    // 계획 하나를 추가 (가득 찼으면 false)
+    boolean add(int[] steps, int[] tokens, int[] branches, int length) {
+        if (size >= maxPlans) {
+            truncated = true;
+            return false;
+        }
+        if (size + 2 > offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        int start = offsets[size];
+        if ((start + length) * FIELDS > moves.length) {
+            moves = Arrays.copyOf(moves, Math.max(moves.length * 2, (start + length) * FIELDS));
+        }
+        for (int i = 0; i < length; i++) {
+            int at = (start + i) * FIELDS;
+            moves[at] = steps[i];
+            moves[at + 1] = tokens[i];
+            moves[at + 2] = branches[i];
+        }
+        size++;
+        offsets[size] = start + length;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int plan = 0; plan < size; plan++) {
+            sb.append(plan).append(':');
+            for (int move = 0; move < getLength(plan); move++) {
+                sb.append(" (").append(getSteps(plan, move)).append(", ").append(getToken(plan, move))
+                        .append(", ").append(getBranch(plan, move)).append(')');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,230 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+//현재 플레이어가 이번 턴의 윷 결과들(순서 없음)로 둘 수 있는 서로 다른 턴 계획을 모두 나열하는 클래스
+//계획 = 결과를 쓰는 순서 × 결과마다 움직일 말 묶음 × 분기점에서 갈 길 (TurnPlanBuffer 참고)
+//중복 제거:
+//- 같은 결과 값끼리는 순서를 바꿔도 같은 계획이므로 값마다 한 번만 고름
+//- 업힌 말은 대표 말과 함께 움직이므로 대표 말만 후보 (getMovableTokens는 묶음의 말을 모두 돌려줌)
+//- 출발 전 말은 어느 것을 내보내도 같으므로 첫 번째 말만 후보
+//입력 GameState는 바꾸지 않고, 같은 구성의 작업용 GameState에 한 번 복사한 뒤
+//GameState.makeMove/unmakeMove로 실제로 움직였다가 되돌리며 탐색한다.
+//되돌림 기록과 결과 버퍼를 재사용하므로, 같은 구성에서 반복해서 부르면 계획을 담을 List나 이동 결과 객체를 만들지 않는다.
+//한 스레드 전용
+public final class TurnPlanGenerator {
+    private static final int RESULT_KINDS = 7; // 빽도(-1) ~ 모(5) → 인덱스 steps + 1
+
+    private GameState scratch;
+    private List<Player> scratchPlayers;
+    private GameStateCodec codec;
+    private BoardTopology topology;
+    private int tokenTotal;
+
+    // 입력 상태를 옮기는 버퍼: 압축 상태 + 말마다의 빽도 기록 (코덱은 한 칸만 저장하므로 따로 보관)
+    private long[] state;
+    private int[][] visits = new int[0][];
+    private int[] visitCounts = new int[0];
+
+    // 만들고 있는 계획
+    private int[] planSteps = new int[0];
+    private int[] planTokens = new int[0];
+    private int[] planBranches = new int[0];
+    private final int[] counts = new int[RESULT_KINDS];
+    private int player;
+    private TurnPlanBuffer out;
+    private boolean full;
+
+    //results[0 ~ count-1]로 둘 수 있는 계획을 out에 채우고 계획 수 반환 (out은 먼저 비움)
+    public int generate(GameState gameState, int[] results, int count, TurnPlanBuffer out) {
+        prepare(gameState, count);
+        out.clear();
+        this.out = out;
+        this.full = false;
+        this.player = gameState.getPlayers().indexOf(gameState.getCurrentPlayer());
+
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < count; i++) {
+            int steps = results[i];
+            if (steps < -1 || steps > 5 || steps == 0) {
+                throw new IllegalArgumentException("윷 결과는 -1, 1~5이어야 합니다: " + steps);
+            }
+            counts[steps + 1]++;
+        }
+
+        codec.encode(gameState, state);
+        captureVisits(gameState.getPlayers());
+        restore();
+        search(0, count);
+        this.out = null;
+        return out.size();
+    }
+
+    public int generate(GameState gameState, List<Integer> results, TurnPlanBuffer out) {
+        int[] array = new int[results.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = results.get(i);
+        }
+        return generate(gameState, array, array.length, out);
+    }
+
+    // 구성이 바뀌었으면 작업용 GameState를 새로 만들고, 깊이별 버퍼를 결과 수에 맞게 늘림
+    private void prepare(GameState gameState, int count) {
+        if (scratch == null || !sameShape(gameState)) {
+            List<Player> players = gameState.getPlayers();
+            List<String> names = new ArrayList<>();
+            List<Integer> tokenCounts = new ArrayList<>();
+            tokenTotal = 0;
+            for (Player p : players) {
+                names.add(p.getName());
+                tokenCounts.add(p.getTokens().size());
+                tokenTotal += p.getTokens().size();
+            }
+            Board board = gameState.getBoard();
+            scratch = new GameState(board.getSides(), board.getRadius(), names, tokenCounts);
+            scratchPlayers = scratch.getPlayers();
+            codec = new GameStateCodec(scratch);
+            topology = scratch.getBoard().getTopology();
+            state = codec.newState();
+            visits = new int[tokenTotal][Token.PATH_HISTORY_SIZE];
+            visitCounts = new int[tokenTotal];
+        }
+        if (planSteps.length < count + 1) {
+            int depths = count + 1;
+            planSteps = new int[depths];
+            planTokens = new int[depths];
+            planBranches = new int[depths];
+        }
+    }
+
+    private boolean sameShape(GameState gameState) {
+        if (gameState.getBoard().getSides() != scratch.getBoard().getSides()) {
+            return false;
+        }
+        List<Player> players = gameState.getPlayers();
+        if (players.size() != scratchPlayers.size()) {
+            return false;
+        }
+        for (int p = 0; p < players.size(); p++) {
+            if (players.get(p).getTokens().size() != scratchPlayers.get(p).getTokens().size()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // depth개 결과를 쓴 상태에서 남은 remaining개 결과로 계획을 이어 감
+    private void search(int depth, int remaining) {
+        if (remaining == 0) {
+            emit(depth);
+            return;
+        }
+        for (int kind = 0; kind < RESULT_KINDS && !full; kind++) {
+            if (counts[kind] == 0) {
+                continue;
+            }
+            int steps = kind - 1;
+            counts[kind]--;
+
+            boolean moved = false;
+            boolean readyTried = false;
+            List<Token> tokens = scratchPlayers.get(player).getTokens();
+            for (int t = 0; t < tokens.size() && !full; t++) {
+                Token token = tokens.get(t);
+                if (!isCandidate(token, steps, readyTried)) {
+                    continue;
+                }
+                if (token.getState() == TokenState.READY) {
+                    readyTried = true;
+                }
+                moved = true;
+
+                int nodeId = positionOf(token);
+                if (steps > 0 && nodeId >= 0 && topology.isBranch(nodeId)) {
+                    BoardNode savedChoice = token.getNextBranchChoice();
+                    for (int branch = 0; branch < topology.getSuccessorCount(nodeId) && !full; branch++) {
+                        token.setNextBranchChoice(scratch.getBoard().getNode(topology.getSuccessor(nodeId, branch)));
+                        moveAndContinue(depth, remaining, token, t, steps, branch);
+                    }
+                    token.setNextBranchChoice(savedChoice);
+                } else {
+                    moveAndContinue(depth, remaining, token, t, steps, TurnPlanBuffer.NO_BRANCH);
+                }
+            }
+
+            // 움직일 말이 없으면 이 결과는 버림 (상태는 그대로)
+            if (!moved) {
+                setMove(depth, steps, TurnPlanBuffer.NO_TOKEN, TurnPlanBuffer.NO_BRANCH);
+                search(depth + 1, remaining - 1);
+            }
+            counts[kind]++;
+        }
+    }
+
+    // 움직여 보고 남은 결과로 이어 간 뒤 되돌림
+    private void moveAndContinue(int depth, int remaining, Token token, int tokenIndex, int steps, int branch) {
+        setMove(depth, steps, tokenIndex, branch);
+        int status = scratch.makeMove(token, steps);
+        if (YutGameRules.isSuccess(status)) {
+            if (scratchPlayers.get(player).hasFinished()) {
+                emit(depth + 1); // 승리하면 남은 결과는 쓰지 않음
+            } else {
+                search(depth + 1, remaining - 1);
+            }
+        }
+        scratch.unmakeMove();
+    }
+
+    // 업힌 말은 제외, 출발 전 말은 하나만, 빽도는 보드 위의 말만
+    private static boolean isCandidate(Token token, int steps, boolean readyTried) {
+        if (token.getTopMostToken() != token) {
+            return false;
+        }
+        TokenState state = token.getState();
+        if (state == TokenState.ACTIVE) {
+            return true;
+        }
+        return state == TokenState.READY && steps > 0 && !readyTried;
+    }
+
+    private int positionOf(Token token) {
+        BoardNode node = scratch.getTokenPositionManager().getTokenPosition(token);
+        return node != null && scratch.getBoard().contains(node) ? node.getId() : -1;
+    }
+
+    private void setMove(int depth, int steps, int token, int branch) {
+        planSteps[depth] = steps;
+        planTokens[depth] = token;
+        planBranches[depth] = branch;
+    }
+
+    private void emit(int length) {
+        if (!out.add(planSteps, planTokens, planBranches, length)) {
+            full = true;
+        }
+    }
+
+    // 작업용 GameState를 입력 상태로
+    private void restore() {
+        codec.decode(state, scratch);
+        int index = 0;
+        for (Player p : scratchPlayers) {
+            for (Token token : p.getTokens()) {
+                token.restoreVisits(visits[index], visitCounts[index]);
+                index++;
+            }
+        }
+    }
+
+    private void captureVisits(List<Player> players) {
+        int index = 0;
+        for (Player p : players) {
+            for (Token token : p.getTokens()) {
+                visitCounts[index] = token.copyVisits(visits[index]);
+                index++;
+            }
+        }
+    }
+}
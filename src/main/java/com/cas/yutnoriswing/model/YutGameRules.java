@@ -2,19 +2,57 @@ package com.cas.yutnoriswing.model;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import java.util.function.Function;
 
 //윷 던지기 로직(옻놀이 규칙)을 처리하는 클래스
 public class YutGameRules {
     private static boolean testMode = false;
-    private static final Random random = new Random();
+    private static volatile YutRandom yutRandom = YutRandom.threadLocal(false); // 기본 던지기(빽도 없음) 난수원
+
+    // 난수 비트 → 윷 결과 변환표 (YutRandom.BITS_PER_THROW 비트: 윷가락 4비트 + 빽도 판정 2비트)
+    private static final int BITS_MASK = (1 << YutRandom.BITS_PER_THROW) - 1;
+    private static final int[] STANDARD_RESULTS = new int[BITS_MASK + 1];
+    private static final int[] BACKDO_RESULTS = new int[BITS_MASK + 1];
+
+    // 이동 상태 비트 (applyMove의 반환값, 결과 객체와 메시지 없이 결과만 전달)
+    public static final int MOVE_SUCCESS = 1;
+    public static final int MOVE_CAUGHT = 1 << 1;
+    public static final int MOVE_FINISHED = 1 << 2;
+    public static final int MOVE_STACKED = 1 << 3;
+    // 실패 이유 (MOVE_SUCCESS가 없을 때 4~7번 비트)
+    public static final int FAIL_NOT_ACTIVE = 1 << 4;
+    public static final int FAIL_NO_POSITION = 2 << 4;
+    public static final int FAIL_GAME_ENDED = 3 << 4;
+    public static final int FAIL_BACKDO_READY = 4 << 4;
+    private static final int FAIL_MASK = 0xF << 4;
+
+    static {
+        for (int bits = 0; bits <= BITS_MASK; bits++) {
+            int backCount = Integer.bitCount(bits & 0xF); // 뒤집힌 윷가락 수
+            STANDARD_RESULTS[bits] = 5 - backCount;        // 모, 윷, 걸, 개, 도
+            switch (backCount) {
+                case 0: BACKDO_RESULTS[bits] = 5; break;                          // 모
+                case 1: BACKDO_RESULTS[bits] = (bits >>> 4) == 0 ? -1 : 1; break; // 빽도 (25%) 또는 도
+                default: BACKDO_RESULTS[bits] = backCount; break;                 // 개, 걸, 윷
+            }
+        }
+    }
 
     public static void setTestMode(boolean mode) {
         testMode = mode;
     }
 
+    //기본 던지기(throwYut, throwSingleYut)의 난수원 설정 (시드를 주면 재현 가능)
+    public static void setYutRandom(YutRandom random) {
+        yutRandom = random;
+    }
+
+    public static YutRandom getYutRandom() {
+        return yutRandom;
+    }
+
     //윷 던지기 결과를 담는 클래스
     public static class YutThrowResult {
         private final List<Integer> results;
@@ -49,6 +87,30 @@ public class YutGameRules {
         public String getMessage() { return message; }
     }
 
+    public static boolean isSuccess(int status) { return (status & MOVE_SUCCESS) != 0; }
+    public static boolean isCaught(int status) { return (status & MOVE_CAUGHT) != 0; }
+    public static boolean isFinished(int status) { return (status & MOVE_FINISHED) != 0; }
+    public static boolean isStacked(int status) { return (status & MOVE_STACKED) != 0; }
+
+    //상태 비트에 맞는 안내 메시지 (화면에 보여줄 때만 호출)
+    public static String describeMove(int status) {
+        if (isSuccess(status)) {
+            if (isFinished(status)) return "말이 완주했습니다!";
+            return isCaught(status) ? "상대방 말을 잡았습니다!" : "";
+        }
+        return switch (status & FAIL_MASK) {
+            case FAIL_NOT_ACTIVE -> "토큰이 활성 상태가 아닙니다.";
+            case FAIL_NO_POSITION -> "토큰의 현재 위치를 찾을 수 없습니다.";
+            case FAIL_GAME_ENDED -> "게임이 종료되었습니다.";
+            case FAIL_BACKDO_READY -> "대기 중인 말은 빽도로 이동할 수 없습니다.";
+            default -> "이동할 수 없습니다.";
+        };
+    }
+
+    public static MoveResult toMoveResult(int status) {
+        return new MoveResult(isSuccess(status), isCaught(status), isFinished(status), describeMove(status));
+    }
+
     //순서 재배열 요청(컨트롤러에 요청)을 담는 클래스
     public static class ReorderRequest {
         private final List<Integer> originalResults;
@@ -68,36 +130,12 @@ public class YutGameRules {
         }
     }
 
-    //기본 윷 던지기 (테스트 모드면 테스트 모드로 실행)
+    //기본 윷 던지기 (테스트 모드면 테스트 모드로 실행, 빽도 포함 분포)
     public static int throwOneYut() {
         if (testMode) {
             return 1;
         }
-
-        //각각 윷이 나올 확률을 계산
-        Random rand = new Random();
-        int backCount = 0;
-        for (int i = 0; i < 4; i++) {
-            if (rand.nextBoolean()) {
-                backCount++;
-            }
-        }
-
-        if (backCount == 1) {
-            if (rand.nextInt(4) == 0) {
-                return -1;  // 빽도 (25% 확률)
-            } else {
-                return 1;   // 도 (75% 확률)
-            }
-        }
-
-        switch (backCount) {
-            case 0: return 5;   // 모
-            case 2: return 2;   // 개
-            case 3: return 3;   // 걸
-            case 4: return 4;   // 윷
-            default: return 0;  // 에러값
-        }
+        return YutRandom.threadLocal(true).nextYut();
     }
 
     //테스트 모드
@@ -107,10 +145,14 @@ public class YutGameRules {
 
     // 단일 윷 던지기 (연속 던지기 없음)
     public static YutThrowResult throwSingleYut() {
+        return throwSingleYut(yutRandom);
+    }
+
+    public static YutThrowResult throwSingleYut(YutRandom source) {
         List<Integer> results = new ArrayList<>();
         List<String> messages = new ArrayList<>();
         
-        int result = getYutResult();
+        int result = getYutResult(source);
         results.add(result);
         
         String yutName = getYutName(result);
@@ -121,6 +163,10 @@ public class YutGameRules {
 
     // 윷 던지기 결과 생성 (윷, 모면 계속 생성)
     public static YutThrowResult throwYut() {
+        return throwYut(yutRandom);
+    }
+
+    public static YutThrowResult throwYut(YutRandom source) {
         List<Integer> results = new ArrayList<>();
         List<String> messages = new ArrayList<>();
         
@@ -128,7 +174,7 @@ public class YutGameRules {
         boolean continueThrow = true;
         
         while (continueThrow) {
-            int result = getYutResult();
+            int result = getYutResult(source);
             results.add(result);
             
             String yutName = getYutName(result);
@@ -152,31 +198,44 @@ public class YutGameRules {
     }
 
     // 윷 던지기 결과 검증
-    private static int getYutResult() {
+    private static int getYutResult(YutRandom source) {
         if (testMode) {
             return 1;
         }
         
         // 실제 윷 던지기
-        int backCount = 0;
-        for (int i = 0; i < 4; i++) {
-            if (random.nextBoolean()) {
-                backCount++;
+        return source.nextYut();
+    }
+
+    // 주어진 난수 생성기로 윷 한 번 던지기 (테스트 모드 무시, 시뮬레이션처럼 스레드마다 난수를 따로 쓸 때 사용)
+    public static int rollYut(RandomGenerator random) {
+        return YutRandom.roll(random, false);
+    }
+
+    // 난수 비트 하위 YutRandom.BITS_PER_THROW개를 윷 결과로 변환 (backdo면 throwOneYut 분포, 아니면 rollYut 분포)
+    static int yutFromBits(int bits, boolean backdo) {
+        return backdo ? BACKDO_RESULTS[bits & BITS_MASK] : STANDARD_RESULTS[bits & BITS_MASK];
+    }
+
+    // rollYut이 해당 결과를 낼 확률 (윷가락 4개가 각각 1/2로 뒤집힘: 도 1/16, 개 4/16, 걸 6/16, 윷 4/16, 모 1/16)
+    public static double getRollProbability(int steps) {
+        return getThrowProbability(steps, false);
+    }
+
+    // 윷 한 번 던지기에서 해당 결과가 나올 정확한 확률 (변환표에서 그 결과가 되는 비트 조합 수 / 전체 조합 수)
+    public static double getThrowProbability(int steps, boolean backdo) {
+        int[] table = backdo ? BACKDO_RESULTS : STANDARD_RESULTS;
+        int count = 0;
+        for (int result : table) {
+            if (result == steps) {
+                count++;
             }
         }
-        
-        switch (backCount) {
-            case 0: return 5; // 모
-            case 1: return 4; // 윷
-            case 2: return 3; // 걸
-            case 3: return 2; // 개
-            case 4: return 1; // 도
-            default: return 1;
-        }
+        return (double) count / table.length;
     }
 
     // 윷 결과 이름 변환 (숫자->단어)
-    private static String getYutName(int steps) {
+    public static String getYutName(int steps) {
         return switch (steps) {
             case -1 -> "빽도";
             case 1 -> "도";
@@ -190,26 +249,28 @@ public class YutGameRules {
 
     // 말 이동 관련 메서드들
     public static MoveResult moveToken(Token token, int steps, TokenPositionManager tokenManager, Function<List<BoardNode>, BoardNode> branchSelector) {
+        return toMoveResult(applyMove(token, steps, tokenManager));
+    }
+
+    //전진 이동 후 상태 비트 반환 (힙 할당 없음, 분기는 대표 토큰의 nextBranchChoice)
+    public static int applyMove(Token token, int steps, TokenPositionManager tokenManager) {
         // 실제 이동할 대표 토큰 찾기 (업힌 토큰이라면 그를 업고 있는 대표 토큰) - 실제는 다 같이 이동
         Token actualToken = token.getTopMostToken();
         
         if (actualToken.getState() != TokenState.ACTIVE) {
-            return new MoveResult(false, false, false, "토큰이 활성 상태가 아닙니다.");
+            return FAIL_NOT_ACTIVE;
         }
 
         // 이동 먼저 확인 후
         BoardNode currentNode = tokenManager.getTokenPosition(actualToken);
-        BoardNode targetNode = calculateTargetNode(actualToken, steps, steps, tokenManager, branchSelector);
+        BoardNode targetNode = calculateTargetNode(actualToken, currentNode, steps, tokenManager.getBoard());
         
         if (targetNode == null) {
             // 완주 처리
             finishToken(actualToken, tokenManager);
-            return new MoveResult(true, false, true, "말이 완주했습니다!");
+            return MOVE_SUCCESS | MOVE_FINISHED;
         }
 
-        // 업힌 토큰들 가져오기
-        List<Token> stackedTokens = new ArrayList<>(actualToken.getStackedTokens());
-
         // 대표 토큰 이동
         if (currentNode != null) {
             currentNode.leave(actualToken);
@@ -218,183 +279,171 @@ public class YutGameRules {
         tokenManager.updateTokenPosition(actualToken, targetNode);
 
         // 업힌 토큰들 다같이 위치 업데이트
-        for (Token stackedToken : stackedTokens) {
-            tokenManager.updateTokenPosition(stackedToken, targetNode);
-        }
+        updateStackedPositions(actualToken, targetNode, tokenManager);
 
         // 잡기 및 업기 처리 (대표 토큰으로만 처리)
-        boolean caught = handleCaptureAndStacking(actualToken, targetNode, tokenManager);
-
-        return new MoveResult(true, caught, false, caught ? "상대방 말을 잡았습니다!" : "");
+        return MOVE_SUCCESS | handleCaptureAndStacking(actualToken, targetNode, tokenManager);
     }
 
     //빽도 메서드 전진과 동일
     public static MoveResult moveTokenBackward(Token token, int steps, TokenPositionManager tokenManager) {
+        return toMoveResult(applyMoveBackward(token, steps, tokenManager));
+    }
+
+    //빽도 이동 후 상태 비트 반환 (힙 할당 없음)
+    public static int applyMoveBackward(Token token, int steps, TokenPositionManager tokenManager) {
         Token actualToken = token.getTopMostToken();
         
         if (actualToken.getState() != TokenState.ACTIVE) {
-            return new MoveResult(false, false, false, "토큰이 활성 상태가 아닙니다.");
+            return FAIL_NOT_ACTIVE;
         }
 
-        List<Token> stackedTokens = new ArrayList<>(actualToken.getStackedTokens());
-
         // 현재 위치에서 steps 만큼 뒤로 이동 (결국은 1로 고정)
         BoardNode currentNode = tokenManager.getTokenPosition(actualToken);
         if (currentNode == null) {
-            return new MoveResult(false, false, false, "토큰의 현재 위치를 찾을 수 없습니다.");
+            return FAIL_NO_POSITION;
         }
 
         currentNode.leave(actualToken);
 
         // steps 만큼 뒤로 이동 (기록된 이전노드로)
+        Board board = tokenManager.getBoard();
         BoardNode targetNode = currentNode;
-        for (int i = 0; i < steps && targetNode != null; i++) {
-            BoardNode previousNode = tokenManager.getBoard().findPreviousNode(targetNode);
+        for (int i = 0; i < steps; i++) {
+            BoardNode previousNode = findCameFrom(actualToken, targetNode, board);
             if (previousNode != null) {
                 targetNode = previousNode;
             } else {
-                targetNode = tokenManager.getBoard().getStartNode();
+                targetNode = board.getStartNode();
                 break;
             }
         }
 
-        if (targetNode == null) {
-            targetNode = tokenManager.getBoard().getStartNode();
-        }
-
         targetNode.enter(actualToken);
         tokenManager.updateTokenPosition(actualToken, targetNode);
 
-        for (Token stackedToken : stackedTokens) {
-            tokenManager.updateTokenPosition(stackedToken, targetNode);
-        }
+        updateStackedPositions(actualToken, targetNode, tokenManager);
 
-        boolean caught = handleCaptureAndStacking(actualToken, targetNode, tokenManager);
-
-        return new MoveResult(true, caught, false, caught ? "상대방 말을 잡았습니다!" : "");
+        return MOVE_SUCCESS | handleCaptureAndStacking(actualToken, targetNode, tokenManager);
     }
 
-    //분기 노드인 지 확인하고 가야 할 길 선택
-    private static BoardNode calculateTargetNode(Token token, int steps, int originalSteps, TokenPositionManager tokenManager, Function<List<BoardNode>, BoardNode> branchSelector) {
-        BoardNode current = tokenManager.getTokenPosition(token);
-        BoardNode previous = current; // 이전 노드 추적용
-        
-        while (steps > 0 && current != null) {
-            List<BoardNode> nextNodes = current.getNextNodes();
-            if (nextNodes.isEmpty()) {
-                return null; // 완주
+    //이동 테이블에서 도착 노드를 조회 (분기 선택과 이전 노드 정보도 함께 갱신, 완주 시 null)
+    private static BoardNode calculateTargetNode(Token token, BoardNode current, int steps, Board board) {
+        if (!board.contains(current)) {
+            return null;
+        }
+
+        MoveTable table = board.getMoveTable();
+        BoardTopology topology = board.getTopology();
+        int currentId = current.getId();
+        int remaining = steps;
+        boolean first = true;
+        while (remaining > 0 && currentId != MoveTable.FINISH) {
+            int chunk = Math.min(remaining, MoveTable.MAX_STEPS);
+
+            // 출발 노드가 분기점이면 미리 선택한 경로, 없으면 기본 경로(Center는 들어온 방향 기준)
+            int choiceId = first ? nodeId(board, token.getNextBranchChoice()) : MoveTable.NONE;
+            int branch = table.resolveBranch(currentId, choiceId, nodeId(board, token.getPreviousNode()));
+            if (choiceId != MoveTable.NONE && topology.isBranch(currentId) && topology.getSuccessor(currentId, branch) == choiceId) {
+                token.clearNextBranchChoice(); // 사용 후 제거
             }
-            
-            if (nextNodes.size() > 1) {
-                // 분기점으로 이동하는 경우
-                // 모든 분기 선택은 Controller에서 처리하므로 여기서는 저장된 선택이나 기본 경로를 사용
-                BoardNode preSelectedPath = token.getNextBranchChoice();
-                if (preSelectedPath != null && nextNodes.contains(preSelectedPath)) {
-                    // 이전에 선택한 경로로 이동
-                    previous = current;
-                    current = preSelectedPath;
-                    token.clearNextBranchChoice(); // 사용 후 제거
-                } else {
-                    // 현재 노드가 Center인지 확인 (센터와 외곽 노드는 분기 방식이 다름)
-                    if (current.getName().equals("Center")) {
-                        // Center에서 나가는 분기점 (보드 타입에 따라 유구사항대로 기본 경로 결정)
-                        // Center일 때는 이전 노드를 업데이트하지 않고 기존 previousNode 사용
-                        BoardNode defaultPath = calculateCenterDefaultPath(token, nextNodes, tokenManager);
-                        if (defaultPath != null) {
-                            current = defaultPath;
-                        } else {
-                            current = nextNodes.get(0);
-                        }
-                    } else {
-                        // 외곽 : 항상 첫 번째 옵션(외곽 경로) 선택
-                        previous = current;
-                        current = nextNodes.get(0);
-                    }
-                }
-            } else {
-                // 일반 노드로 이동
-                // Center로 이동하는 경우 미리 previousNode 설정
-                if (nextNodes.get(0).getName().equals("Center")) {
-                    token.setPreviousNode(current);
-                }
-                previous = current; // 이전 노드 업데이트
-                current = nextNodes.get(0);
+
+            int previousId = table.previousAfter(currentId, chunk, branch);
+            if (previousId != MoveTable.UNCHANGED) {
+                token.setPreviousNode(board.getNode(previousId));
             }
-            
-            // Center가 아닌 경우에만 도착한 노드에 이전 노드 정보 설정
-            if (!current.getName().equals("Center")) {
-                token.setPreviousNode(previous);
+
+            // 빽도를 위해 지나온 노드 기록 (k칸 이동 결과는 chunk칸 이동 경로의 k번째 노드와 같음)
+            token.recordVisit(currentId);
+            for (int k = 1; k < chunk; k++) {
+                int passed = table.target(currentId, k, branch);
+                if (passed == MoveTable.FINISH) {
+                    break;
+                }
+                token.recordVisit(passed);
             }
-            
-            steps--;
+            currentId = table.target(currentId, chunk, branch);
+
+            remaining -= chunk;
+            first = false;
         }
-        
-        return current;
+
+        return board.getNode(currentId);
     }
 
-    // Center에서 보드 타입에 따른 기본 경로 계산
-    private static BoardNode calculateCenterDefaultPath(Token token, List<BoardNode> nextNodes, TokenPositionManager tokenManager) {
-        BoardNode previousNode = token.getPreviousNode();
-        if (previousNode == null || nextNodes.isEmpty()) {
-            return nextNodes.get(0);
+    //토큰이 실제로 지나온 이전 노드 (기록이 없거나 맞지 않으면 보드의 기본 이전 노드)
+    private static BoardNode findCameFrom(Token token, BoardNode current, Board board) {
+        int visited = token.popVisit();
+        if (visited != Token.NO_HISTORY && board.contains(current)
+                && board.getTopology().indexOfSuccessor(visited, current.getId()) >= 0) {
+            return board.getNode(visited);
         }
+        // 기록이 현재 위치와 이어지지 않으면 (직접 배치 등) 기록을 버리고 보드 기준으로 찾음
+        token.clearVisits();
+        return board.findPreviousNode(current);
+    }
 
-        // 보드 크기에 따른 처리
-        int boardSides = tokenManager.getBoard().getSides();
-        
-        if (boardSides == 4) {
-            // 4각형: 직진 로직 - 들어온 방향의 반대편으로 나가기
-            String previousName = previousNode.getName();
-            
-            if (previousName.startsWith("ToCenter") && previousName.endsWith("-2")) {
-                // ToCenter{숫자}-2에서 들어온 경우, 반대편 ToCenter로 나가기
-                int incomingIndex = Integer.parseInt(previousName.substring(8, 9)); // "ToCenter2-2"에서 "2" 추출
-                int outgoingIndex = (incomingIndex + 2) % 4; // 4각형에서 직진은 +2
-                
-                String targetPrefix = "ToCenter" + outgoingIndex;
-                return nextNodes.stream()
-                    .filter(node -> node.getName().startsWith(targetPrefix))
-                    .findFirst()
-                    .orElse(nextNodes.get(0));
-            }
-        }
-        
-        // 5각형, 6각형: 기존 로직 (마지막 선택지)
-        return nextNodes.get(nextNodes.size() - 1);
+    private static int nodeId(Board board, BoardNode node) {
+        return board.contains(node) ? node.getId() : MoveTable.NONE;
     }
 
-    private static boolean handleCaptureAndStacking(Token token, BoardNode node, TokenPositionManager tokenManager) {
-        boolean caught = false;
-        List<Token> tokensOnNode = new ArrayList<>(node.getTokens());
+    // 잡기/업기 처리 후 MOVE_CAUGHT, MOVE_STACKED 비트 반환
+    //잡을 말/업을 말이 있는지는 노드의 점유 집합으로 먼저 확인하고, 있을 때만 목록을 제자리에서 정리
+    //(지운 칸에는 마지막 말이 옮겨 오므로 인덱스를 올리지 않음)
+    private static int handleCaptureAndStacking(Token token, BoardNode node, TokenPositionManager tokenManager) {
+        int status = 0;
+        List<Token> tokensOnNode = node.getTokens();
         
         // 잡기 처리 - 상대방 토큰들 제거
-        for (Token t : tokensOnNode) {
-            if (t != token && t.getOwner() != token.getOwner()) {
-                resetToken(t, tokenManager);
-                caught = true;
+        if (node.hasOpponentOf(token)) {
+            int i = 0;
+            while (i < tokensOnNode.size()) {
+                Token t = tokensOnNode.get(i);
+                if (t.getOwner() != token.getOwner()) {
+                    resetToken(t, tokenManager);
+                    status |= MOVE_CAUGHT;
+                } else {
+                    i++;
+                }
             }
         }
         
         // 업기 처리 - 같은 팀 토큰들을 업기
-        for (Token t : tokensOnNode) {
-            if (t != token && t.getOwner() == token.getOwner()) {
-                // 업힌 토큰을 노드에서 제거
-                node.leave(t);
-                tokenManager.updateTokenPosition(t, null);
-                // 대표 토큰에 업기
-                token.addStackedToken(t);
+        if (node.hasTeammateOf(token)) {
+            int i = 0;
+            while (i < tokensOnNode.size()) {
+                Token t = tokensOnNode.get(i);
+                if (t != token && t.getOwner() == token.getOwner()) {
+                    // 업힌 토큰을 노드에서 제거
+                    node.leave(t);
+                    tokenManager.updateTokenPosition(t, null);
+                    t.clearVisits();
+                    // 대표 토큰에 업기
+                    token.addStackedToken(t);
+                    status |= MOVE_STACKED;
+                } else {
+                    i++;
+                }
             }
         }
 
-        return caught;
+        return status;
+    }
+
+    private static void updateStackedPositions(Token carrier, BoardNode targetNode, TokenPositionManager tokenManager) {
+        for (int i = 0; i < carrier.getStackedCount(); i++) {
+            tokenManager.updateTokenPosition(carrier.getStackedToken(i), targetNode);
+        }
     }
 
     private static void resetToken(Token token, TokenPositionManager tokenManager) {
-        // 업힌 토큰들도 함께 초기화
-        for (Token stacked : token.getStackedTokens()) {
+        // 업힌 토큰들도 함께 초기화 (그룹이 평탄화되어 있어 업힌 토큰의 업힌 토큰까지 모두 포함)
+        for (int i = 0; i < token.getStackedCount(); i++) {
+            Token stacked = token.getStackedToken(i);
             tokenManager.updateTokenPosition(stacked, null);
+            tokenManager.markReady(stacked);
             stacked.setState(TokenState.READY);
-            stacked.clearStackedTokens();
+            stacked.clearVisits();
         }
         
         // 대표 토큰 초기화
@@ -403,8 +452,10 @@ public class YutGameRules {
             currentNode.leave(token);
         }
         tokenManager.updateTokenPosition(token, null);
+        tokenManager.markReady(token);
         token.setState(TokenState.READY);
         token.clearStackedTokens();
+        token.clearVisits();
     }
 
     private static void finishToken(Token token, TokenPositionManager tokenManager) {
@@ -413,11 +464,21 @@ public class YutGameRules {
             currentNode.leave(token);
         }
         tokenManager.updateTokenPosition(token, null);
+        tokenManager.markFinished(token);
         token.setState(TokenState.FINISHED);
+        token.clearVisits();
         
         // 업힌 토큰들도 완주 처리
-        for (Token stacked : token.getStackedTokens()) {
-            finishToken(stacked, tokenManager);
+        for (int i = 0; i < token.getStackedCount(); i++) {
+            Token stacked = token.getStackedToken(i);
+            BoardNode stackedNode = tokenManager.getTokenPosition(stacked);
+            if (stackedNode != null) {
+                stackedNode.leave(stacked);
+            }
+            tokenManager.updateTokenPosition(stacked, null);
+            tokenManager.markFinished(stacked);
+            stacked.setState(TokenState.FINISHED);
+            stacked.clearVisits();
         }
         token.clearStackedTokens();
     }
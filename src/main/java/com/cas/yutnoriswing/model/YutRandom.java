@@ -0,0 +1,61 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+//윷 던지기 난수원 SPI
+//윷가락 4개(각 1/2)를 한 번에 비트로 뽑아 결과로 바꾸며, 분포는 두 가지:
+//- 기본(빽도 없음): 도 1/16, 개 4/16, 걸 6/16, 윷 4/16, 모 1/16 (YutGameRules.rollYut과 같음)
+//- 빽도 포함: 빽도 1/16, 도 3/16, 개 6/16, 걸 4/16, 윷 1/16, 모 1/16 (YutGameRules.throwOneYut과 같음)
+public interface YutRandom {
+    int BITS_PER_THROW = 6; // 윷가락 4비트 + 빽도 판정 2비트
+
+    //윷 한 번 던지기
+    int nextYut();
+
+    //결과를 results[offset ~ offset + length - 1]에 한꺼번에 채우기
+    default void nextYuts(int[] results, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            results[i] = nextYut();
+        }
+    }
+
+    //한 턴 던지기 (윷/모면 계속 던짐, results가 차면 멈춤), 던진 횟수 반환
+    default int nextTurn(int[] results) {
+        int count = 0;
+        while (count < results.length) {
+            int result = nextYut();
+            results[count++] = result;
+            if (result < 4) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    //다른 스레드에서 쓸 독립된 난수원 (같은 시드면 나누는 순서도 재현됨)
+    YutRandom split();
+
+    //빽도가 나오는 분포인지
+    boolean hasBackdo();
+
+    //시드로 재현 가능한 난수원 (SplittableRandom, 한 스레드 전용)
+    static YutRandom seeded(long seed, boolean backdo) {
+        return new SplittableYutRandom(new SplittableRandom(seed), backdo);
+    }
+
+    //스레드마다 ThreadLocalRandom을 쓰는 난수원 (재현 불가, 여러 스레드가 경합 없이 공유 가능)
+    static YutRandom threadLocal(boolean backdo) {
+        return backdo ? ThreadLocalYutRandom.WITH_BACKDO : ThreadLocalYutRandom.STANDARD;
+    }
+
+    //주어진 난수 생성기로 윷 한 번 던지기
+    static int roll(RandomGenerator random, boolean backdo) {
+        return fromBits(random.nextInt(), backdo);
+    }
+
+    //난수 비트 하위 BITS_PER_THROW개를 윷 결과로 변환
+    static int fromBits(int bits, boolean backdo) {
+        return YutGameRules.yutFromBits(bits, backdo);
+    }
+}
@@ -0,0 +1,83 @@
+package com.cas.yutnoriswing.model;
+
+import java.util.List;
+
+//국면 해시용 Zobrist 키 (말 × 위치, 차례인 플레이어마다 무작위 64비트 값)
+//국면 해시는 각 말의 (말, 위치) 키와 차례 키를 XOR한 값이라, 말 하나가 움직일 때 키 두 개만 XOR하면 갱신된다.
+//키는 고정 시드로 만들어서 같은 구성(플레이어 수, 말 개수, 보드 크기)의 게임끼리는 같은 국면이 같은 해시를 가진다.
+public final class ZobristKeys {
+    public static final int READY = 0;     // 위치: 출발 전
+    public static final int FINISHED = 1;  // 위치: 완주
+    private static final int LOCATION_OFFSET = 2; // 노드 id 앞의 두 값 (대기, 완주)
+    private static final long SEED = 0x59_75_74_4E_6F_72_69L;
+
+    private final int locationCount;
+    private final long[] tokenKeys; // [슬롯 * locationCount + 위치]
+    private final long[] sideKeys;  // [플레이어 번호]
+
+    public ZobristKeys(int playerCount, int tokenSlots, int nodeCount) {
+        this.locationCount = nodeCount + LOCATION_OFFSET;
+        this.tokenKeys = new long[tokenSlots * locationCount];
+        this.sideKeys = new long[playerCount];
+
+        long state = SEED;
+        for (int p = 0; p < playerCount; p++) {
+            state += 0x9E3779B97F4A7C15L;
+            sideKeys[p] = mix(state);
+        }
+        for (int i = 0; i < tokenKeys.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            tokenKeys[i] = mix(state);
+        }
+    }
+
+    // SplitMix64 출력 함수
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    //노드 id를 키 테이블의 위치 값으로 변환
+    public static int nodeLocation(int nodeId) {
+        return nodeId + LOCATION_OFFSET;
+    }
+
+    public long tokenKey(int slot, int location) {
+        return tokenKeys[slot * locationCount + location];
+    }
+
+    public long sideKey(int player) {
+        return sideKeys[player];
+    }
+
+    //게임 상태에서 해시를 처음부터 계산 (증분 해시 검증, 외부에서 만든 상태용)
+    //업힌 말은 대표 말과 같은 위치로 계산한다.
+    public long hashOf(GameState gameState) {
+        List<Player> players = gameState.getPlayers();
+        TokenPositionManager positions = gameState.getTokenPositionManager();
+        long hash = 0L;
+        int slot = 0;
+        for (Player player : players) {
+            for (Token token : player.getTokens()) {
+                hash ^= tokenKey(slot++, locationOf(token, positions));
+            }
+        }
+        int current = players.indexOf(gameState.getCurrentPlayer());
+        if (current >= 0) {
+            hash ^= sideKey(current);
+        }
+        return hash;
+    }
+
+    static int locationOf(Token token, TokenPositionManager positions) {
+        if (token.getState() == TokenState.READY) {
+            return READY;
+        }
+        if (token.getState() == TokenState.FINISHED) {
+            return FINISHED;
+        }
+        BoardNode node = positions.getTokenPosition(token.getTopMostToken());
+        return node != null && node.getId() >= 0 ? nodeLocation(node.getId()) : READY;
+    }
+}
@@ -1,9 +1,8 @@
 package com.cas.yutnoriswing.view;
 
 import com.cas.yutnoriswing.model.BoardNode;
-import com.cas.yutnoriswing.model.Player;
-import com.cas.yutnoriswing.model.Token;
-import com.cas.yutnoriswing.model.TokenState;
+import com.cas.yutnoriswing.model.GameSnapshot;
+import com.cas.yutnoriswing.model.NodeKind;
 
 import javax.swing.*;
 import java.awt.*;
@@ -11,9 +10,12 @@ import java.awt.geom.Ellipse2D;
 import java.awt.geom.Line2D;
 import java.util.List;
 
+//보드와 말을 그리는 패널
+//노드 좌표/연결은 바뀌지 않는 보드 구조에서, 말은 컨트롤러가 넘겨준 GameSnapshot에서 읽는다.
+//스냅샷은 불변이라 어느 스레드에서 refresh를 불러도 된다 (그리기는 EDT에서 가장 최근 스냅샷으로).
 public class BoardView extends JPanel {
     private final List<BoardNode> nodes;
-    private final List<Player> players;
+    private volatile GameSnapshot snapshot;
     private final Color[] playerColors = {
             Color.RED, Color.BLUE, Color.GREEN, Color.MAGENTA
     };
@@ -25,13 +27,13 @@ public class BoardView extends JPanel {
     private static final int SPACING = 120;
     private static final int OFFSET = 10;
 
-    public BoardView(List<BoardNode> nodes, List<Player> players) {
+    public BoardView(List<BoardNode> nodes, GameSnapshot snapshot) {
         this.nodes = nodes;
-        this.players = players;
+        this.snapshot = snapshot;
         
         // 시작 노드 찾기 (Edge 0-0)
         this.startNode = nodes.stream()
-                .filter(node -> node.getName().matches("Edge\\d+-0"))
+                .filter(node -> node.getKind() == NodeKind.EDGE && node.getPathPosition() == 0)
                 .findFirst()
                 .orElse(null);
         
@@ -40,7 +42,8 @@ public class BoardView extends JPanel {
         setBackground(Color.WHITE);
     }
 
-    public void refresh() {
+    public void refresh(GameSnapshot snapshot) {
+        this.snapshot = snapshot;
         repaint();
     }
 
@@ -88,9 +91,9 @@ public class BoardView extends JPanel {
                     //해당 비율 조정하면서 분기 방향 글자 원에 안 씹히게 조절 가능..
                     int midX = (2 * x1 + 4 * x2) / 6;
                     int midY = (2 * y1 + 3 * y2) / 5;
-                    String label = next.getName().contains("Edge")
+                    String label = next.getKind() == NodeKind.EDGE
                             ? "1"
-                            : next.getName().replace("ToCenter", "");
+                            : next.getSideIndex() + "-" + next.getPathPosition();
                     g2d.setFont(new Font("Arial", Font.BOLD, 18));
                     g2d.setColor(Color.RED);
                     g2d.drawString(label, midX, midY);
@@ -114,9 +117,9 @@ public class BoardView extends JPanel {
             int out = 56;
             int radius = 36;
             // 중요한 노드들 (Center, 모서리 시작점, 모서리 끝점)은 이중 원으로 표시
-            boolean isImportantNode = node.getName().equals("Center") || 
-                                    node.getName().matches("Edge\\d+-0") || 
-                                    node.getName().matches("Edge\\d+-5");
+            boolean isImportantNode = node.getKind() == NodeKind.CENTER ||
+                                    (node.getKind() == NodeKind.EDGE &&
+                                     (node.getPathPosition() == 0 || node.getPathPosition() == 5));
             
             if (isImportantNode) {
                 int outX = x - out / 2;
@@ -163,18 +166,16 @@ public class BoardView extends JPanel {
             
         }
 
-        // 말 표시
+        // 말 표시 (살아 있는 모델 대신 불변 스냅샷을 읽으므로 게임이 진행되는 중에도 일관된 화면)
+        GameSnapshot current = snapshot;
+        if (current == null) return;
         for (BoardNode node : nodes) {
-            List<Token> tokens = node.getTokens();
-            List<Token> activeTokens = tokens.stream()
-                    .filter(t -> t.getState() == TokenState.ACTIVE)
-                    .toList();
+            int occupants = current.getOccupantMask(node.getId());
+            if (occupants == 0) continue;
 
-            if (activeTokens.isEmpty()) continue;
-
-            Token top = activeTokens.get(0);
-            Player owner = top.getOwner();
-            int playerIndex = players.indexOf(owner);
+            int playerIndex = Integer.numberOfTrailingZeros(occupants);
+            GameSnapshot.PlayerSnapshot owner = current.getPlayer(playerIndex);
+            int tokensHere = owner.getTokenMaskAt(node.getId());
             Color color = playerColors[playerIndex % playerColors.length];
 
             int cx = (int) (node.getX() * SPACING + OFFSET - 10);
@@ -187,18 +188,22 @@ public class BoardView extends JPanel {
             g2d.draw(new Ellipse2D.Double(cx, cy, 20, 20));
 
             // 대표 토큰과 업힌 토큰들의 이름을 모두 표시
-            String baseName = top.getName().split("-")[0];
+            String baseName = owner.getName();
             List<String> allIndices = new java.util.ArrayList<>();
             
-            // 노드에 실제로 있는 토큰들의 인덱스 추가
-            for (Token t : activeTokens) {
-                allIndices.add(t.getName().split("-")[1]);
+            // 대표 토큰들의 인덱스 추가
+            for (int bits = tokensHere; bits != 0; bits &= bits - 1) {
+                int t = Integer.numberOfTrailingZeros(bits);
+                if (owner.getCarrier(t) == GameSnapshot.NO_CARRIER) {
+                    allIndices.add(owner.getTokenName(t).split("-")[1]);
+                }
             }
             
             // 업힌 토큰들의 인덱스도 추가
-            for (Token t : activeTokens) {
-                for (Token stacked : t.getStackedTokens()) {
-                    allIndices.add(stacked.getName().split("-")[1]);
+            for (int bits = tokensHere; bits != 0; bits &= bits - 1) {
+                int t = Integer.numberOfTrailingZeros(bits);
+                if (owner.getCarrier(t) != GameSnapshot.NO_CARRIER) {
+                    allIndices.add(owner.getTokenName(t).split("-")[1]);
                 }
             }
 
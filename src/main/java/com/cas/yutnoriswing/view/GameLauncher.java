@@ -1,13 +1,29 @@
 package com.cas.yutnoriswing.view;
 
+import com.cas.yutnoriswing.ai.ComputerPlayer;
+import com.cas.yutnoriswing.ai.ExpectimaxPlayer;
+import com.cas.yutnoriswing.ai.MctsPlayer;
+import com.cas.yutnoriswing.ai.ThrowOrderOptimizer;
+import com.cas.yutnoriswing.ai.WinProbabilityEstimator;
 import com.cas.yutnoriswing.controller.GameController;
+import com.cas.yutnoriswing.controller.ReplayController;
+import com.cas.yutnoriswing.log.GameLogReader;
+import com.cas.yutnoriswing.log.GameLogWriter;
+import com.cas.yutnoriswing.log.GameReplay;
+import com.cas.yutnoriswing.model.Player;
 import com.cas.yutnoriswing.model.YutGameRules;
 import com.cas.yutnoriswing.model.GameState;
 
 import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 //게임을 시작하며 사용자가 게임 관련 초기설정을 하는 class
@@ -19,8 +35,15 @@ public class GameLauncher {
      * 3. 플레이어 수
      * 4. 플레이어가 사용할 말 개수
      * 5. 플레이어 이름
+     * 6. 컴퓨터가 둘 플레이어
      */
     public void start() {
+        // 기록이 있으면 새 게임과 기록 다시 보기 중 선택
+        if (Files.exists(Paths.get(GAME_LOG_FILE)) && chooseReplay()) {
+            startReplay();
+            return;
+        }
+
         // 보드 커스터마이징하기
         int sides = boardCustom();
 
@@ -59,15 +82,34 @@ public class GameLauncher {
             }
         }
 
+        // 컴퓨터가 둘 플레이어 선택
+        Map<String, ComputerPlayer> computerPlayers = getComputerPlayers(playerNames);
+
         // GameState 생성 (이때, Board와 Player들이 자동으로 생성됨)
         GameState gameState = new GameState(sides, 2.0f, playerNames, tokenCounts);
 
+        // 게임 기록 시작 (기록 파일을 열 수 없으면 기록 없이 진행)
+        GameLogWriter log = getGameLog();
+        if (log != null) {
+            log.attach(gameState);
+        }
+
         // 게임 화면 생성
-        InGameView inGameView = new InGameView(gameState.getBoard().getNodes(), gameState.getPlayers());
+        InGameView inGameView = new InGameView(gameState.getBoard().getNodes(), gameState.snapshot());
 
         // 게임 컨트롤러 생성
         GameController controller = new GameController(gameState, inGameView);
         
+        for (Player player : gameState.getPlayers()) {
+            ComputerPlayer computerPlayer = computerPlayers.get(player.getName());
+            if (computerPlayer != null) {
+                controller.setComputerPlayer(player, computerPlayer);
+            }
+        }
+
+        // 승리 확률 표시 (백그라운드 스레드에서 추정)
+        controller.setWinProbabilityEstimator(WinProbabilityEstimator.forUi());
+        
         // Controller와 View 연결
         inGameView.setOnRollYut(() -> controller.rollingYut());
         
@@ -90,6 +132,18 @@ public class GameLauncher {
     // 현재 Frame
     private JFrame currentFrame;
 
+    // 모든 게임을 이어 쓰는 기록 파일 (처음 게임을 시작할 때 엶)
+    private static final String GAME_LOG_FILE = "yutnori-games.ylog";
+    private GameLogWriter gameLog;
+    private boolean gameLogFailed;
+
+    // 컴퓨터 플레이어가 한 수를 고르는 시간
+    private static final long COMPUTER_THINK_MILLIS = 1000;
+
+    // 컴퓨터 탐색 방식 선택지와 기대최대 탐색의 최대 깊이 (말 이동 횟수)
+    private static final String[] COMPUTER_KINDS = {"MCTS", "기대최대 탐색", "윷 순서 최적화"};
+    private static final int EXPECTIMAX_DEPTH = 4;
+
     // 게임 재시작 처리
     private void restartApplication() {
         if (currentFrame != null) {
@@ -100,9 +154,83 @@ public class GameLauncher {
 
     // 게임 종료 처리
     private void exitApplication() {
+        if (gameLog != null) {
+            try {
+                gameLog.close();
+            } catch (IOException e) {
+                System.err.println("게임 기록을 닫지 못했습니다: " + e.getMessage());
+            }
+        }
         System.exit(0);
     }
 
+    // 새 게임(false) / 기록 다시 보기(true)
+    private boolean chooseReplay() {
+        String[] options = {"새 게임", "기록 다시 보기"};
+        int result = JOptionPane.showOptionDialog(null, "무엇을 하시겠습니까?", "윷놀이",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, options, options[0]);
+        if (result == JOptionPane.CLOSED_OPTION) System.exit(0);
+        return result == 1;
+    }
+
+    // 기록 파일에서 게임 하나를 골라 다시 보기 화면을 띄움
+    private void startReplay() {
+        List<GameReplay> games = new ArrayList<>();
+        try (GameLogReader reader = GameLogReader.open(Paths.get(GAME_LOG_FILE))) {
+            while (reader.hasNextGame()) {
+                games.add(reader.nextGame());
+            }
+        } catch (IOException | IllegalStateException e) {
+            showError("게임 기록을 읽을 수 없습니다: " + e.getMessage());
+            start();
+            return;
+        }
+        if (games.isEmpty()) {
+            showError("기록된 게임이 없습니다.");
+            start();
+            return;
+        }
+
+        // 최근 게임이 위로 오게 표시
+        String[] labels = new String[games.size()];
+        for (int i = 0; i < games.size(); i++) {
+            GameReplay game = games.get(games.size() - 1 - i);
+            labels[i] = (games.size() - i) + "번째 게임: " + String.join(", ", game.getPlayerNames())
+                    + " (" + game.getSides() + "각형, 레코드 " + game.getEventCount() + "개)";
+        }
+        String selected = (String) JOptionPane.showInputDialog(null, "다시 볼 게임을 선택하세요.", "기록 다시 보기",
+                JOptionPane.QUESTION_MESSAGE, null, labels, labels[0]);
+        if (selected == null) {
+            start();
+            return;
+        }
+        GameReplay replay = games.get(games.size() - 1 - Arrays.asList(labels).indexOf(selected));
+
+        InGameView inGameView = new InGameView(replay.getState().getBoard().getNodes(), replay.getState().snapshot());
+        new ReplayController(replay, inGameView);
+
+        JFrame frame = new JFrame("윷놀이 - 기록 다시 보기");
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.add(inGameView.getRoot());
+        frame.setSize(1000, 850);
+        frame.setLocationRelativeTo(null);
+        frame.setVisible(true);
+        this.currentFrame = frame;
+    }
+
+    // 게임 기록 파일 (차례가 바뀔 때마다 파일에 씀, 열 수 없으면 null)
+    private GameLogWriter getGameLog() {
+        if (gameLog == null && !gameLogFailed) {
+            try {
+                gameLog = new GameLogWriter(Paths.get(GAME_LOG_FILE), true);
+            } catch (IOException e) {
+                gameLogFailed = true;
+                System.err.println("게임 기록 파일을 열 수 없어 기록하지 않습니다: " + e.getMessage());
+            }
+        }
+        return gameLog;
+    }
+
     //사용자에게 n각형 커스터마이징을 입력받는 메서드
     private int boardCustom() {
         while (true) {
@@ -168,6 +296,44 @@ public class GameLauncher {
         }
     }
 
+    //컴퓨터가 둘 플레이어를 체크박스로, 탐색 방식을 콤보박스로 선택받는 메서드 (아무도 선택하지 않으면 모두 사람)
+    private Map<String, ComputerPlayer> getComputerPlayers(List<String> playerNames) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.add(new JLabel("컴퓨터가 플레이할 플레이어를 선택하세요."));
+        List<JCheckBox> checkBoxes = new ArrayList<>();
+        for (String name : playerNames) {
+            JCheckBox checkBox = new JCheckBox(name);
+            checkBoxes.add(checkBox);
+            panel.add(checkBox);
+        }
+        panel.add(new JLabel("탐색 방식"));
+        JComboBox<String> kindBox = new JComboBox<>(COMPUTER_KINDS);
+        kindBox.setAlignmentX(0.0f);
+        panel.add(kindBox);
+
+        int result = JOptionPane.showConfirmDialog(null, panel, "컴퓨터 플레이어 설정",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE);
+        if (result != JOptionPane.OK_OPTION) System.exit(0);
+
+        Map<String, ComputerPlayer> selected = new HashMap<>();
+        for (JCheckBox checkBox : checkBoxes) {
+            if (checkBox.isSelected()) {
+                selected.put(checkBox.getText(), createComputerPlayer(kindBox.getSelectedIndex()));
+            }
+        }
+        return selected;
+    }
+
+    //탐색 방식 번호에 맞는 컴퓨터 플레이어 생성 (0: MCTS, 1: 기대최대 탐색, 2: 윷 순서 최적화)
+    private ComputerPlayer createComputerPlayer(int kind) {
+        return switch (kind) {
+            case 1 -> new ExpectimaxPlayer(EXPECTIMAX_DEPTH, COMPUTER_THINK_MILLIS);
+            case 2 -> new ThrowOrderOptimizer();
+            default -> MctsPlayer.withTimeLimit(COMPUTER_THINK_MILLIS);
+        };
+    }
+
     //기타 오류 메세지를 출력하는 메서드
     private void showError(String message) {
         JOptionPane.showMessageDialog(null, message, "오류", JOptionPane.ERROR_MESSAGE);
@@ -7,11 +7,12 @@ import java.awt.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.IntConsumer;
 
 public class InGameView {
     //mainPanel에 보이는 요소들 - 보드, 플레이어, 플레이어 말 상태창
     private final BoardView boardView;
-    private final List<Player> players;
+    private GameSnapshot snapshot; // 상태패널에 보여 줄 상태 (EDT에서만 바꿈)
     private final JPanel statusPanel;
     private final JPanel mainPanel;
 
@@ -23,10 +24,27 @@ public class InGameView {
     //onRollYut(윷을 던지는) 변수 선언
     private Runnable onRollYut;
 
+    // 플레이어별 승리 확률 표시 (추정 결과가 없으면 null)
+    private final List<JLabel> winProbabilityLabels = new ArrayList<>();
+    private double[] winProbabilities;
+    private long winProbabilityGames;
+
+    // 아래쪽 버튼 영역 (리플레이 모드에서는 재생 컨트롤로 바뀜)
+    private JPanel bottomPanel;
+    private JButton rollButton;
+
+    // 리플레이 모드 컨트롤
+    private JSlider replaySlider;
+    private JButton replayPlayButton;
+    private JLabel replayLabel;
+    private IntConsumer onReplaySeek;
+    private Runnable onReplayPlayToggle;
+    private boolean updatingReplay; // 코드에서 슬라이더를 옮길 때는 onReplaySeek를 부르지 않음
+
     // InGameView 생성자
-    public InGameView(List<BoardNode> board, List<Player> players) {
-        this.players = players;
-        this.boardView = new BoardView(board, players);
+    public InGameView(List<BoardNode> board, GameSnapshot snapshot) {
+        this.snapshot = snapshot;
+        this.boardView = new BoardView(board, snapshot);
 
         //상태패널 생성
         this.statusPanel = new JPanel();
@@ -78,11 +96,11 @@ public class InGameView {
         mainPanel.add(statusPanel, BorderLayout.EAST);
         
         // 윷 던지기 버튼을 아래쪽에 배치
-        JButton rollButton = new JButton("윷 던지기");
+        rollButton = new JButton("윷 던지기");
         rollButton.setPreferredSize(new Dimension(200, 50));
         rollButton.setFont(new Font("맑은 고딕", Font.BOLD, 16));
         
-        JPanel bottomPanel = new JPanel(new FlowLayout());
+        bottomPanel = new JPanel(new FlowLayout());
         bottomPanel.add(rollButton);
         mainPanel.add(bottomPanel, BorderLayout.SOUTH);
         
@@ -96,9 +114,79 @@ public class InGameView {
         return mainPanel;
     }
 
-    //말 이동 변경을 컨트롤러가 알려주면 view에서 갱신해주는 메서드
-    public void refresh() {
-        boardView.refresh();
+    //리플레이 모드: 윷 던지기 버튼 대신 처음/이전/재생/다음/끝 버튼과 레코드 위치 슬라이더를 보여줌
+    public void showReplayControls(int eventCount) {
+        bottomPanel.removeAll();
+        bottomPanel.setLayout(new BorderLayout());
+
+        replaySlider = new JSlider(0, eventCount, 0);
+        replaySlider.addChangeListener(e -> {
+            if (!updatingReplay && onReplaySeek != null) {
+                onReplaySeek.accept(replaySlider.getValue());
+            }
+        });
+
+        JButton firstButton = new JButton("처음");
+        JButton previousButton = new JButton("◀ 이전");
+        replayPlayButton = new JButton("재생");
+        JButton nextButton = new JButton("다음 ▶");
+        JButton lastButton = new JButton("끝");
+        firstButton.addActionListener(e -> seekReplay(0));
+        previousButton.addActionListener(e -> seekReplay(replaySlider.getValue() - 1));
+        nextButton.addActionListener(e -> seekReplay(replaySlider.getValue() + 1));
+        lastButton.addActionListener(e -> seekReplay(replaySlider.getMaximum()));
+        replayPlayButton.addActionListener(e -> {
+            if (onReplayPlayToggle != null) onReplayPlayToggle.run();
+        });
+
+        JPanel buttons = new JPanel(new FlowLayout());
+        buttons.add(firstButton);
+        buttons.add(previousButton);
+        buttons.add(replayPlayButton);
+        buttons.add(nextButton);
+        buttons.add(lastButton);
+
+        replayLabel = new JLabel(" ", SwingConstants.CENTER);
+        replayLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 13));
+
+        bottomPanel.add(replayLabel, BorderLayout.NORTH);
+        bottomPanel.add(replaySlider, BorderLayout.CENTER);
+        bottomPanel.add(buttons, BorderLayout.SOUTH);
+        mainPanel.revalidate();
+        mainPanel.repaint();
+    }
+
+    private void seekReplay(int target) {
+        if (onReplaySeek != null && target >= 0 && target <= replaySlider.getMaximum()) {
+            onReplaySeek.accept(target);
+        }
+    }
+
+    public void setOnReplaySeek(IntConsumer onReplaySeek) {
+        this.onReplaySeek = onReplaySeek;
+    }
+
+    public void setOnReplayPlayToggle(Runnable onReplayPlayToggle) {
+        this.onReplayPlayToggle = onReplayPlayToggle;
+    }
+
+    //리플레이 위치 표시 갱신 (슬라이더, 마지막 레코드 설명, 재생/일시정지 버튼)
+    public void updateReplayPosition(int eventIndex, String description, boolean playing) {
+        updatingReplay = true;
+        try {
+            replaySlider.setValue(eventIndex);
+        } finally {
+            updatingReplay = false;
+        }
+        replayLabel.setText("레코드 " + eventIndex + " / " + replaySlider.getMaximum()
+                + (description.isEmpty() ? "" : " - " + description));
+        replayPlayButton.setText(playing ? "일시정지" : "재생");
+    }
+
+    //말 이동 변경을 컨트롤러가 알려주면 view에서 갱신해주는 메서드 (모델 대신 넘겨받은 스냅샷을 그림)
+    public void refresh(GameSnapshot snapshot) {
+        this.snapshot = snapshot;
+        boardView.refresh(snapshot);
         buildStatusPanel();
         mainPanel.revalidate();
         mainPanel.repaint();
@@ -112,6 +200,18 @@ public class InGameView {
         return JOptionPane.showInputDialog(mainPanel, message, title, JOptionPane.QUESTION_MESSAGE);
     }
 
+    //추천 순서를 버튼 한 번으로 고르거나 직접 입력 (취소하면 null)
+    public String requestReorderInput(String message, String title, String suggestion) {
+        Object[] options = {"추천 순서 사용", "직접 입력", "취소"};
+        int choice = JOptionPane.showOptionDialog(mainPanel, message + "\n추천 순서: " + suggestion, title,
+                JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, options, options[0]);
+        return switch (choice) {
+            case 0 -> suggestion;
+            case 1 -> requestInput(message, title);
+            default -> null;
+        };
+    }
+
     public void showError(String message) {
         JOptionPane.showMessageDialog(mainPanel, message, "입력 오류", JOptionPane.ERROR_MESSAGE);
     }
@@ -216,12 +316,12 @@ public class InGameView {
         BoardNode first = options.get(0);
         BoardNode last = options.get(options.size() - 1);
 
-        String firstLabel = first.getName().contains("Edge")
+        String firstLabel = first.getKind() == NodeKind.EDGE
                 ? "1"
-                : first.getName().replace("ToCenter", "");
-        String lastLabel = last.getName().contains("Edge")
+                : first.getSideIndex() + "-" + first.getPathPosition();
+        String lastLabel = last.getKind() == NodeKind.EDGE
                 ? "1"
-                : last.getName().replace("ToCenter", "");
+                : last.getSideIndex() + "-" + last.getPathPosition();
 
         String[] choices = {firstLabel, lastLabel};
         String result = (String) JOptionPane.showInputDialog(
@@ -240,28 +340,35 @@ public class InGameView {
 
     private void buildStatusPanel() {
         statusPanel.removeAll();
+        winProbabilityLabels.clear();
 
         //플레이어 수만큼 반복해서
-        for (int i = 0; i < players.size(); i++) {
-            //각 플레이어의 객체 가져오기
-            Player player = players.get(i);
+        for (int i = 0; i < snapshot.getPlayerCount(); i++) {
+            //각 플레이어의 상태 가져오기
+            GameSnapshot.PlayerSnapshot player = snapshot.getPlayer(i);
 
             JLabel playerLabel = new JLabel("<< " + player.getName() + " >>");
             playerLabel.setFont(new Font("맑은 고딕", Font.BOLD, 14));
             playerLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
             statusPanel.add(playerLabel);
+
+            JLabel winLabel = new JLabel(winProbabilityText(i));
+            winLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+            winLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+            winProbabilityLabels.add(winLabel);
+            statusPanel.add(winLabel);
             
             //플레이어 토큰 수만큼 반복하여
-            for (Token token : player.getTokens()) {
+            for (int t = 0; t < player.getTokenCount(); t++) {
                 //토큰 상태가져와서 보여주기
-                if (token.getState() == TokenState.READY) {
+                if (player.getState(t) == TokenState.READY) {
                     JPanel tokenPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
 
                     JPanel colorPanel = new JPanel();
                     colorPanel.setBackground(playerColors[i % playerColors.length]);
                     colorPanel.setPreferredSize(new Dimension(10, 10));
                     
-                    JLabel tokenLabel = new JLabel(token.getName());
+                    JLabel tokenLabel = new JLabel(player.getTokenName(t));
                     tokenLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
                     
                     tokenPanel.add(colorPanel);
@@ -271,7 +378,7 @@ public class InGameView {
             }
 
             //플레이어 구분선
-            if (i < players.size() - 1) {
+            if (i < snapshot.getPlayerCount() - 1) {
                 statusPanel.add(Box.createVerticalStrut(10));
                 statusPanel.add(new JSeparator());
                 statusPanel.add(Box.createVerticalStrut(10));
@@ -282,6 +389,22 @@ public class InGameView {
         statusPanel.repaint();
     }
 
+    //승리 확률 갱신 (EDT에서 호출, 상태패널을 다시 만들지 않고 글자만 바꿈)
+    public void showWinProbabilities(double[] probabilities, long games) {
+        this.winProbabilities = probabilities.clone();
+        this.winProbabilityGames = games;
+        for (int i = 0; i < winProbabilityLabels.size(); i++) {
+            winProbabilityLabels.get(i).setText(winProbabilityText(i));
+        }
+    }
+
+    private String winProbabilityText(int playerIndex) {
+        if (winProbabilities == null || playerIndex >= winProbabilities.length) {
+            return "승리 확률: -";
+        }
+        return String.format("승리 확률: %.1f%% (%d판)", winProbabilities[playerIndex] * 100, winProbabilityGames);
+    }
+
     public GameEndChoice getGameEndChoice(String message) {
         int result = JOptionPane.showConfirmDialog(
             mainPanel,
@@ -296,4 +419,9 @@ public class InGameView {
     public void setOnRollYut(Runnable handler) {
         this.onRollYut = handler;
     }
+
+    //윷 던지기 버튼 사용 여부 (컴퓨터가 계산하는 동안 막음)
+    public void setRollEnabled(boolean enabled) {
+        rollButton.setEnabled(enabled);
+    }
 } 
\ No newline at end of file
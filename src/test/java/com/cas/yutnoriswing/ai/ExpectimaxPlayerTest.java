@@ -0,0 +1,62 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.Token;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+@DisplayName("ExpectimaxPlayer 클래스 테스트")
+class ExpectimaxPlayerTest {
+
+    // 내 말 Edge0-1, 상대 말 Edge0-3인 국면 (내 차례)
+    private GameState newCapturePosition() {
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(2, 2));
+        gameState.startGame();
+        gameState.moveToken(gameState.getPlayers().get(0).getTokens().get(0), 1, null);
+        gameState.nextTurn();
+        gameState.moveToken(gameState.getPlayers().get(1).getTokens().get(0), 3, null);
+        gameState.nextTurn();
+        return gameState;
+    }
+
+    @Test
+    @DisplayName("Star1/Star2 가지치기를 해도 순수 기대최대 탐색과 같은 값을 내는지 테스트")
+    void testPruning_SameValueAsPlainExpectimax() {
+        // Given
+        GameState gameState = newCapturePosition();
+        List<Integer> remaining = Arrays.asList(4, 2);
+        ExpectimaxPlayer pruned = new ExpectimaxPlayer(3, 0, true, 1 << 16);
+        ExpectimaxPlayer plain = new ExpectimaxPlayer(3, 0, false, 1 << 16);
+
+        // When
+        pruned.chooseMove(gameState, remaining, false);
+        plain.chooseMove(gameState, remaining, false);
+
+        // Then
+        assertEquals(3, pruned.getLastDepth());
+        assertEquals(plain.getLastValue(), pruned.getLastValue(), 1e-5);
+        assertTrue(pruned.getLastNodes() < plain.getLastNodes());
+    }
+
+    @Test
+    @DisplayName("상대 말을 잡을 수 있으면 잡는 수를 고르는지 테스트")
+    void testChooseMove_PrefersCapture() {
+        // Given
+        GameState gameState = newCapturePosition();
+        Token mine = gameState.getPlayers().get(0).getTokens().get(0);
+        ExpectimaxPlayer player = new ExpectimaxPlayer(3, 0);
+
+        // When
+        ComputerPlayer.Move move = player.chooseMove(gameState, Arrays.asList(2), false);
+
+        // Then
+        assertEquals(2, move.getSteps());
+        assertSame(mine, move.getToken());
+    }
+}
@@ -0,0 +1,77 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.BoardNode;
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.Token;
+import com.cas.yutnoriswing.model.TokenState;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+@DisplayName("MctsPlayer 클래스 테스트")
+class MctsPlayerTest {
+
+    private GameState newGame() {
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(2, 2));
+        gameState.startGame();
+        return gameState;
+    }
+
+    @Test
+    @DisplayName("남은 윷 결과 중 하나로 움직일 수 있는 수를 고르는지 테스트")
+    void testChooseMove_ReturnsLegalMove() {
+        // Given
+        GameState gameState = newGame();
+        MctsPlayer player = new MctsPlayer(0, 500, 2, 1, 1);
+
+        // When
+        ComputerPlayer.Move move = player.chooseMove(gameState, Arrays.asList(4, 2), false);
+
+        // Then
+        assertNotNull(move);
+        assertTrue(move.getSteps() == 4 || move.getSteps() == 2);
+        assertSame(gameState.getCurrentPlayer(), move.getToken().getOwner());
+        assertEquals(500, player.getLastIterations());
+    }
+
+    @Test
+    @DisplayName("상대 말을 잡을 수 있으면 잡는 수를 고르는지 테스트")
+    void testChooseMove_PrefersCapture() {
+        // Given: 내 말은 Edge0-1, 상대 말은 Edge0-3 (개로 잡을 수 있음)
+        GameState gameState = newGame();
+        List<Token> mine = gameState.getPlayers().get(0).getTokens();
+        List<Token> theirs = gameState.getPlayers().get(1).getTokens();
+        gameState.moveToken(mine.get(0), 1, null);
+        gameState.nextTurn();
+        gameState.moveToken(theirs.get(0), 3, null);
+        gameState.nextTurn();
+        MctsPlayer player = new MctsPlayer(0, 3000, 2, 2, 7);
+
+        // When
+        ComputerPlayer.Move move = player.chooseMove(gameState, Arrays.asList(2), false);
+
+        // Then
+        assertEquals(2, move.getSteps());
+        assertSame(mine.get(0), move.getToken());
+    }
+
+    @Test
+    @DisplayName("움직일 수 있는 말이 없으면 null 테스트")
+    void testChooseMove_NoMovableToken() {
+        // Given: 모든 말이 대기 중일 때 빽도
+        GameState gameState = newGame();
+        MctsPlayer player = new MctsPlayer(0, 100, 1, 1, 1);
+
+        // When
+        ComputerPlayer.Move move = player.chooseMove(gameState, Arrays.asList(-1), false);
+
+        // Then
+        assertNull(move);
+        assertEquals(TokenState.READY, gameState.getCurrentPlayer().getTokens().get(0).getState());
+    }
+}
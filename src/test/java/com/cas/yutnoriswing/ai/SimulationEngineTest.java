@@ -0,0 +1,71 @@
+package com.cas.yutnoriswing.ai;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+@DisplayName("SimulationEngine 클래스 테스트")
+class SimulationEngineTest {
+
+    private GameSimulator newSimulator() {
+        return new GameSimulator(4, Arrays.asList(4, 4, 3),
+                Arrays.asList(AutoPlayer.simple(), AutoPlayer.random(), AutoPlayer.simple()), 10_000);
+    }
+
+    @Test
+    @DisplayName("자동 플레이어끼리 한 판을 끝까지 진행하는지 테스트")
+    void testPlay_GameFinishes() {
+        // Given
+        GameSimulator simulator = newSimulator();
+
+        // When
+        GameSimulator.Result result = simulator.play(new SplittableRandom(1));
+
+        // Then
+        assertNotEquals(GameSimulator.NO_WINNER, result.getWinner());
+        assertTrue(result.getTurns() > 0);
+        assertTrue(result.getMoves() >= result.getTurns() / 3);
+    }
+
+    @Test
+    @DisplayName("여러 판을 병렬로 진행하고 결과를 모으는지 테스트")
+    void testRun_AggregatesAllGames() {
+        // Given
+        SimulationEngine engine = new SimulationEngine(newSimulator());
+
+        // When
+        SimulationStats stats = engine.run(500, 42);
+
+        // Then
+        assertEquals(500, stats.getGames());
+        assertEquals(500, stats.getWins(0) + stats.getWins(1) + stats.getWins(2) + stats.getUnfinished());
+        assertTrue(stats.getAverageTurns() > 0);
+        assertTrue(stats.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    @DisplayName("같은 시드면 스레드 수와 상관없이 같은 결과가 나오는지 테스트")
+    void testRun_SameSeedSameResult() {
+        // Given
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+
+        // When
+        SimulationStats first = new SimulationEngine(newSimulator(), single).run(300, 7);
+        SimulationStats second = new SimulationEngine(newSimulator(), parallel).run(300, 7);
+        single.shutdown();
+        parallel.shutdown();
+
+        // Then
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(first.getWins(seat), second.getWins(seat));
+            assertEquals(first.getCaptures(seat), second.getCaptures(seat));
+        }
+        assertEquals(first.getAverageTurns(), second.getAverageTurns());
+    }
+}
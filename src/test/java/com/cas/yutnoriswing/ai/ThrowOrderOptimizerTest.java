@@ -0,0 +1,106 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.BoardNode;
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.Token;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@DisplayName("ThrowOrderOptimizer 클래스 테스트")
+class ThrowOrderOptimizerTest {
+
+    @Test
+    @DisplayName("말이 모두 대기 중이면 빽도를 먼저 버리고 걸을 쓰는 순서를 고르는지 테스트")
+    void testOptimize_DiscardBackdoFirst() {
+        // Given: 걸 다음에 빽도를 쓰면 나간 말이 한 칸 물러남
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(2, 2));
+        ThrowOrderOptimizer optimizer = new ThrowOrderOptimizer();
+
+        // When
+        ThrowOrderOptimizer.Plan plan = optimizer.optimize(gameState, Arrays.asList(3, -1));
+        ComputerPlayer.Move move = optimizer.chooseMove(gameState, Arrays.asList(3, -1), false);
+
+        // Then
+        assertEquals(Arrays.asList(-1, 3), plan.getOrder());
+        assertEquals("-1,3", plan.describeOrder());
+        assertTrue(plan.isComplete());
+        assertEquals(3, move.getSteps(), "버리는 결과는 두지 않고 걸로 이동");
+    }
+
+    @Test
+    @DisplayName("노드 수 제한에 걸려도 모든 결과를 담은 순서를 돌려주고, 끝까지 탐색한 값보다 좋지 않은지 테스트")
+    void testOptimize_NodeLimit() {
+        // Given: 두 플레이어 모두 말이 보드 위에 있는 국면과 긴 윷/모 묶음
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(4, 4));
+        List<Token> mine = gameState.getPlayers().get(0).getTokens();
+        List<Token> theirs = gameState.getPlayers().get(1).getTokens();
+        gameState.moveToken(mine.get(0), 3, null);
+        gameState.moveToken(mine.get(1), 7, null);
+        gameState.nextTurn();
+        gameState.moveToken(theirs.get(0), 5, null);
+        gameState.moveToken(theirs.get(1), 9, null);
+        gameState.nextTurn();
+        List<Integer> results = Arrays.asList(5, 4, 5, 4, 3);
+
+        // When
+        ThrowOrderOptimizer.Plan limited = new ThrowOrderOptimizer(1).optimize(gameState, results);
+        ThrowOrderOptimizer.Plan full = new ThrowOrderOptimizer(Integer.MAX_VALUE).optimize(gameState, results);
+
+        // Then
+        List<Integer> sorted = new ArrayList<>(limited.getOrder());
+        Collections.sort(sorted);
+        assertEquals(Arrays.asList(3, 4, 4, 5, 5), sorted);
+        assertFalse(limited.isComplete());
+        assertTrue(full.isComplete());
+        assertTrue(full.getValue() >= limited.getValue());
+    }
+
+    @Test
+    @DisplayName("업힌 말 묶음이 함께 나아가는 값을 상한이 빠뜨려 최선의 순서를 잘라내지 않는지 테스트")
+    void testOptimize_StackedGroupNotPruned() {
+        // Given: 말 3개가 Edge3-1에 업혀 있고 1개는 Edge2-5에 있음
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(4, 2));
+        List<Token> mine = gameState.getPlayers().get(0).getTokens();
+        for (int t = 0; t < 3; t++) {
+            moveAlongEdge(gameState, mine.get(t), 16);
+        }
+        moveAlongEdge(gameState, mine.get(3), 15);
+        assertEquals(3, mine.get(2).getTopMostToken().getStackedCount() + 1);
+        List<Integer> results = Arrays.asList(1, 4);
+
+        // When
+        ThrowOrderOptimizer.Plan plan = new ThrowOrderOptimizer().optimize(gameState, results);
+        ThrowOrderOptimizer.Plan full = new ThrowOrderOptimizer(Integer.MAX_VALUE).optimize(gameState, results);
+
+        // Then: 끝까지 탐색한 최선과 같은 순서와 값
+        assertTrue(plan.isComplete());
+        assertEquals("1,4", plan.describeOrder());
+        assertEquals(full.getValue(), plan.getValue(), 1e-9);
+    }
+
+    // 외곽을 따라 steps칸 (분기점에서는 외곽 쪽을 고름)
+    private static void moveAlongEdge(GameState gameState, Token token, int steps) {
+        while (steps > 0) {
+            Token actual = token.getTopMostToken();
+            BoardNode at = gameState.getTokenPositionManager().getTokenPosition(actual);
+            if (at != null && at.getNextNodes().size() > 1) {
+                for (BoardNode next : at.getNextNodes()) {
+                    if (next.getName().startsWith("Edge")) {
+                        actual.setNextBranchChoice(next);
+                    }
+                }
+            }
+            int move = Math.min(steps, 1);
+            gameState.applyMove(token, move);
+            steps -= move;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.cas.yutnoriswing.ai;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+@DisplayName("TournamentRunner 클래스 테스트")
+class TournamentRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private TournamentRunner newRunner() {
+        List<AutoPlayer> bots = Arrays.asList(AutoPlayer.simple(), AutoPlayer.random(),
+                new AutoPlayer("던진순서", TokenPolicy.largestStack(), BranchPolicy.shortcut(), ThrowOrderPolicy.asThrown()));
+        return new TournamentRunner(bots, Arrays.asList(4), Arrays.asList(2, 3), Arrays.asList(2), 20, 10_000);
+    }
+
+    @Test
+    @DisplayName("모든 봇 조합과 자리 돌리기를 진행하고 결과 파일에 대진마다 한 줄씩 기록하는지 테스트")
+    void testRun_PlaysAllPairingsAndRotations() throws IOException {
+        // Given: 2명 대진 3조합 × 2자리 + 3명 대진 1조합 × 3자리
+        TournamentRunner runner = newRunner();
+        Path file = tempDir.resolve("results.tsv");
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        // When
+        TournamentSummary summary = runner.run(file, 5, pool, null);
+        pool.shutdown();
+
+        // Then
+        assertEquals(9, runner.schedule(5).size());
+        assertEquals(9 * 20, summary.getGames());
+        long dataLines = Files.readAllLines(file, StandardCharsets.UTF_8).stream().filter(l -> !l.startsWith("#")).count();
+        assertEquals(9, dataLines);
+        // 봇마다 2명 대진 2조합 × 2자리 + 3명 대진 3자리에 앉음
+        for (int bot = 0; bot < 3; bot++) {
+            assertEquals((4 + 3) * 20, summary.getBotGames(bot));
+        }
+    }
+
+    @Test
+    @DisplayName("중간에 멈춘 결과 파일로 다시 실행하면 남은 대진만 진행하고 처음부터 한 것과 결과가 같은지 테스트")
+    void testRun_ResumesFromPartialFile() throws IOException {
+        // Given: 끝까지 진행한 파일에서 마지막 두 대진을 지우고 쓰다 만 줄을 붙임
+        TournamentRunner runner = newRunner();
+        Path full = tempDir.resolve("full.tsv");
+        ForkJoinPool pool = new ForkJoinPool(2);
+        TournamentSummary expected = runner.run(full, 5, pool, null);
+
+        List<String> lines = Files.readAllLines(full, StandardCharsets.UTF_8);
+        Path partial = tempDir.resolve("partial.tsv");
+        String kept = String.join("\n", lines.subList(0, lines.size() - 2)) + "\n" + lines.get(lines.size() - 1).substring(0, 4);
+        Files.write(partial, kept.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        TournamentSummary resumed = runner.run(partial, 5, pool, null);
+        pool.shutdown();
+
+        // Then
+        assertEquals(expected.getGames(), resumed.getGames());
+        for (int bot = 0; bot < 3; bot++) {
+            assertEquals(expected.getBotWins(bot), resumed.getBotWins(bot));
+        }
+        assertEquals(lines.size(), Files.readAllLines(partial, StandardCharsets.UTF_8).size());
+    }
+}
@@ -0,0 +1,100 @@
+package com.cas.yutnoriswing.ai;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@DisplayName("TranspositionTable 클래스 테스트")
+class TranspositionTableTest {
+
+    @Test
+    @DisplayName("저장한 값을 같은 해시로 다시 읽을 수 있는지 테스트")
+    void testStoreAndProbe() {
+        // Given
+        TranspositionTable table = new TranspositionTable(1000);
+
+        // When
+        table.store(0x1234_5678_9ABCL, 7, TranspositionTable.LOWER_BOUND, 0.625f, 42);
+        long data = table.probe(0x1234_5678_9ABCL);
+
+        // Then
+        assertEquals(1024, table.capacity());
+        assertNotEquals(TranspositionTable.MISS, data);
+        assertEquals(0.625f, TranspositionTable.valueOf(data));
+        assertEquals(7, TranspositionTable.depthOf(data));
+        assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.boundOf(data));
+        assertEquals(42, TranspositionTable.moveOf(data));
+        assertEquals(TranspositionTable.MISS, table.probe(0x1234_5678_9ABDL));
+    }
+
+    @Test
+    @DisplayName("같은 칸의 다른 국면은 더 깊이 탐색한 값을 유지하고, 새 탐색에서는 교체되는지 테스트")
+    void testReplaceByDepth() {
+        // Given: 같은 칸을 쓰는 두 해시 (칸 번호는 하위 비트로 결정)
+        TranspositionTable table = new TranspositionTable(16);
+        long deep = 0x0000_0001_0000_0003L;
+        long shallow = 0x0000_0002_0000_0000L;
+        table.store(deep, 5, TranspositionTable.EXACT, 1.0f, 1);
+
+        // When: 더 얕은 값은 무시됨
+        table.store(shallow, 2, TranspositionTable.EXACT, 0.0f, 2);
+
+        // Then
+        assertNotEquals(TranspositionTable.MISS, table.probe(deep));
+        assertEquals(TranspositionTable.MISS, table.probe(shallow));
+
+        // When: 새 탐색이 시작되면 이전 값은 교체 가능
+        table.newSearch();
+        table.store(shallow, 2, TranspositionTable.EXACT, 0.0f, 2);
+
+        // Then
+        assertEquals(TranspositionTable.MISS, table.probe(deep));
+        assertEquals(2, TranspositionTable.moveOf(table.probe(shallow)));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 쓰고 읽어도 다른 국면의 값이 섞여 나오지 않는지 테스트")
+    void testConcurrentAccess() throws InterruptedException {
+        // Given: 저장하는 값(평가값, 최선의 수)을 해시에서 계산할 수 있게 함
+        TranspositionTable table = new TranspositionTable(256);
+        List<Thread> threads = new ArrayList<>();
+        AtomicBoolean corrupted = new AtomicBoolean(false);
+
+        // When: 4개 스레드가 같은 국면들을 겹치게 쓰고 읽음
+        for (int t = 0; t < 4; t++) {
+            final int offset = t * 7;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 200_000; i++) {
+                    long hash = hashOf((i + offset) % 5000);
+                    table.store(hash, i & 7, TranspositionTable.EXACT, (float) (hash & 0xFF), (int) (hash >>> 50));
+                    long other = hashOf((i * 31 + offset) % 5000);
+                    long data = table.probe(other);
+                    if (data != TranspositionTable.MISS
+                            && (TranspositionTable.moveOf(data) != (int) (other >>> 50)
+                            || TranspositionTable.valueOf(data) != (float) (other & 0xFF))) {
+                        corrupted.set(true);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertFalse(corrupted.get());
+    }
+
+    private static long hashOf(int i) {
+        long z = (i + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,84 @@
+package com.cas.yutnoriswing.ai;
+
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.Token;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@DisplayName("WinProbabilityEstimator 클래스 테스트")
+class WinProbabilityEstimatorTest {
+
+    private GameState newGame() {
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(2, 2));
+        gameState.startGame();
+        return gameState;
+    }
+
+    // 추정을 시작하고 done = true인 최종 결과가 올 때까지 기다림
+    private WinProbabilityEstimator.Estimate estimateUntilDone(GameState gameState) throws InterruptedException {
+        WinProbabilityEstimator estimator = new WinProbabilityEstimator(2, 2000);
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicReference<WinProbabilityEstimator.Estimate> finalEstimate = new AtomicReference<>();
+            estimator.estimate(gameState, Collections.emptyList(), false, estimate -> {
+                if (estimate.isDone()) {
+                    finalEstimate.set(estimate);
+                    latch.countDown();
+                }
+            });
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+            assertTrue(estimator.isCurrent(finalEstimate.get()));
+            return finalEstimate.get();
+        } finally {
+            estimator.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("최종 결과의 승리 확률 합이 1이고 지정한 판 수만큼 진행하는지 테스트")
+    void testEstimate_ProbabilitiesSumToOne() throws InterruptedException {
+        // Given
+        GameState gameState = newGame();
+
+        // When
+        WinProbabilityEstimator.Estimate estimate = estimateUntilDone(gameState);
+
+        // Then
+        assertEquals(2, estimate.getPlayerCount());
+        assertTrue(estimate.getGames() >= 2000);
+        assertEquals(1.0, estimate.getWinProbability(0) + estimate.getWinProbability(1), 1e-9);
+    }
+
+    @Test
+    @DisplayName("거의 이긴 플레이어의 승리 확률이 높게 나오는지 테스트")
+    void testEstimate_LeadingPlayerFavored() throws InterruptedException {
+        // Given: 플레이어1의 말 하나는 완주, 하나는 결승 직전 / 플레이어2는 아직 출발 전
+        GameState gameState = newGame();
+        List<Token> mine = gameState.getPlayers().get(0).getTokens();
+        gameState.moveToken(mine.get(0), 5, null);
+        gameState.moveToken(mine.get(0), 5, null);
+        gameState.moveToken(mine.get(0), 5, null);
+        gameState.moveToken(mine.get(0), 5, null);
+        gameState.moveToken(mine.get(1), 5, null);
+        gameState.moveToken(mine.get(1), 5, null);
+        gameState.moveToken(mine.get(1), 5, null);
+        gameState.moveToken(mine.get(1), 4, null);
+        gameState.nextTurn();
+
+        // When
+        WinProbabilityEstimator.Estimate estimate = estimateUntilDone(gameState);
+
+        // Then
+        assertTrue(estimate.getWinProbability(0) > 0.8, "p = " + estimate.getWinProbability(0));
+    }
+}
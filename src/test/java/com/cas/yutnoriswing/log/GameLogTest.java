@@ -0,0 +1,137 @@
+package com.cas.yutnoriswing.log;
+
+import com.cas.yutnoriswing.ai.AutoPlayer;
+import com.cas.yutnoriswing.ai.GameSimulator;
+import com.cas.yutnoriswing.model.GameState;
+import com.cas.yutnoriswing.model.GameStateCodec;
+import com.cas.yutnoriswing.model.YutRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+@DisplayName("GameLogWriter / GameLogReader 테스트")
+class GameLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final GameSimulator simulator = new GameSimulator(5, Arrays.asList(3, 3, 3),
+            Arrays.asList(AutoPlayer.simple(), AutoPlayer.random(), AutoPlayer.simple()), 10_000);
+
+    // 여러 판을 기록하고 판마다 최종 상태(인코딩)를 반환
+    private List<long[]> writeGames(Path file, int games) throws IOException {
+        List<long[]> finalStates = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(3);
+        try (GameLogWriter writer = new GameLogWriter(file, false)) {
+            for (int i = 0; i < games; i++) {
+                GameState gameState = simulator.newGame();
+                writer.attach(gameState);
+                simulator.playFrom(gameState, new ArrayList<>(), false, random);
+                finalStates.add(new GameStateCodec(gameState).encode(gameState));
+            }
+        }
+        return finalStates;
+    }
+
+    @Test
+    @DisplayName("기록한 게임을 다시 두면 최종 상태가 원래 게임과 같은지 테스트")
+    void testReplay_RebuildsFinalState() throws IOException {
+        // Given
+        Path file = tempDir.resolve("games.ylog");
+        List<long[]> expected = writeGames(file, 50);
+
+        // When
+        List<long[]> replayed = new ArrayList<>();
+        try (GameLogReader reader = GameLogReader.open(file)) {
+            while (reader.hasNextGame()) {
+                GameState state = reader.nextGame().replayToEnd();
+                replayed.add(new GameStateCodec(state).encode(state));
+                assertTrue(state.isGameEnded());
+            }
+        }
+
+        // Then
+        assertEquals(expected.size(), replayed.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), replayed.get(i), "게임 " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("파일 끝이 잘린 기록도 마지막 온전한 레코드까지 다시 두는지 테스트")
+    void testReplay_TruncatedTail() throws IOException {
+        // Given: 마지막 판의 끝 몇 바이트를 잘라냄 (쓰는 중 비정상 종료)
+        Path file = tempDir.resolve("games.ylog");
+        writeGames(file, 3);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        // When
+        int games = 0;
+        GameState last = null;
+        try (GameLogReader reader = GameLogReader.open(file)) {
+            while (reader.hasNextGame()) {
+                last = reader.nextGame().replayToEnd();
+                games++;
+            }
+        }
+
+        // Then
+        assertEquals(3, games);
+        assertFalse(last.isGameEnded());
+    }
+
+    @Test
+    @DisplayName("임의의 위치로 앞뒤로 탐색해도 처음부터 차례로 둔 상태와 같은지 테스트")
+    void testSeek_MatchesSequentialReplay() throws IOException {
+        // Given: 빽도 포함 4명 × 말 5개 게임 한 판
+        GameSimulator longGame = new GameSimulator(4, Arrays.asList(5, 5, 5, 5),
+                Arrays.asList(AutoPlayer.simple(), AutoPlayer.random(), AutoPlayer.simple(), AutoPlayer.random()),
+                10_000, random -> YutRandom.roll(random, true));
+        Path file = tempDir.resolve("long.ylog");
+        try (GameLogWriter writer = new GameLogWriter(file, false)) {
+            GameState gameState = longGame.newGame();
+            writer.attach(gameState);
+            longGame.playFrom(gameState, new ArrayList<>(), false, new SplittableRandom(11));
+        }
+
+        List<long[]> sequential = new ArrayList<>();
+        GameReplay replay;
+        try (GameLogReader reader = GameLogReader.open(file)) {
+            GameReplay first = reader.nextGame();
+            GameStateCodec codec = new GameStateCodec(first.getState());
+            sequential.add(codec.encode(first.getState()));
+            while (first.step()) {
+                sequential.add(codec.encode(first.getState()));
+            }
+        }
+        try (GameLogReader reader = GameLogReader.open(file)) {
+            replay = reader.nextGame();
+        }
+        GameStateCodec codec = new GameStateCodec(replay.getState());
+
+        // When & Then
+        assertEquals(sequential.size() - 1, replay.getEventCount());
+        SplittableRandom random = new SplittableRandom(5);
+        for (int i = 0; i < 200; i++) {
+            int target = random.nextInt(replay.getEventCount() + 1);
+            replay.seek(target);
+            assertEquals(target, replay.getEventIndex());
+            assertArrayEquals(sequential.get(target), codec.encode(replay.getState()), "레코드 " + target);
+        }
+        assertTrue(replay.getKeyframeCount() > 1);
+    }
+}
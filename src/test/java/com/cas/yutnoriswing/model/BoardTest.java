@@ -154,4 +154,97 @@ class BoardTest {
                 node.getName() + " 노드는 처음에 빈 토큰 리스트를 가져야 함");
         }
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("분기점 판단 - 외곽 꼭짓점과 Center")
+    void testIsBranchNode() {
+        // 시작 노드와 일반 외곽 노드는 분기점이 아님
+        assertFalse(board4.isBranchNode(board4.getStartNode()));
+        assertFalse(board4.isBranchNode(board4.findNodeByName("Edge0-3")));
+
+        // 센터로 들어가는 꼭짓점과 Center는 분기점
+        assertTrue(board4.isBranchNode(board4.findNodeByName("Edge0-5")));
+        assertTrue(board4.isBranchNode(board4.findNodeByName("Center")));
+
+        // 보드에 속하지 않은 노드나 null은 분기점이 아님
+        assertFalse(board4.isBranchNode(null));
+        assertFalse(board4.isBranchNode(board5.findNodeByName("Edge0-5")));
+    }
+
+    @Test
+    @DisplayName("큰 보드에서도 이동 테이블로 완주까지 이동")
+    void testMoveTable_LargeBoard() {
+        // Given: 64각형 보드에서 시작 위치의 토큰
+        GameState gameState = new GameState(64, 2.0f, List.of("플레이어1"), List.of(2));
+        Token token = gameState.getPlayers().get(0).getTokens().get(0);
+        gameState.getTokenPositionManager().placeTokenAtStart(token);
+
+        // When: 외곽만 따라 끝까지 이동 (64변 × 5칸)
+        for (int i = 0; i < 64; i++) {
+            gameState.moveToken(token, 5, null);
+        }
+
+        // Then: 마지막 꼭짓점에 도착하고, 한 칸 더 가면 완주
+        assertEquals("Edge63-5", gameState.getTokenPositionManager().getTokenPosition(token).getName());
+        assertTrue(gameState.moveToken(token, 1, null).isFinished());
+        assertEquals(TokenState.FINISHED, token.getState());
+    }
+
+    @Test
+    @DisplayName("노드 종류/변 번호/위치 정보 확인")
+    void testNodeMetadata() {
+        BoardNode center = board4.findNodeByName("Center");
+        assertEquals(NodeKind.CENTER, center.getKind());
+
+        BoardNode corner = board4.findNodeByName("Edge0-5");
+        assertEquals(NodeKind.EDGE, corner.getKind());
+        assertEquals(0, corner.getSideIndex());
+        assertEquals(5, corner.getPathPosition());
+
+        BoardNode path = board4.findNodeByName("ToCenter3-2");
+        assertEquals(NodeKind.TO_CENTER, path.getKind());
+        assertEquals(3, path.getSideIndex());
+        assertEquals(2, path.getPathPosition());
+    }
+
+    @Test
+    @DisplayName("id 및 이름으로 노드 찾기 - 10각형 이상 보드")
+    void testNodeLookup_LargeBoard() {
+        // Given: 12각형 보드 (변 번호가 두 자리)
+        Board board12 = new Board(12, 2.0f);
+        BoardTopology topology = board12.getTopology();
+
+        // 모든 노드는 id로 다시 찾을 수 있어야 함
+        for (BoardNode node : board12.getNodes()) {
+            assertSame(node, board12.getNode(node.getId()));
+            assertSame(node, board12.findNodeByName(node.getName()));
+            assertEquals(node.getNextNodes().size(), topology.getSuccessorCount(node.getId()));
+        }
+
+        // 두 자리 변 번호의 지름길도 올바른 변 번호를 가져야 함
+        BoardNode path = board12.findNodeByName("ToCenter11-2");
+        assertEquals(11, path.getSideIndex());
+        assertNull(board12.findNodeByName("ToCenter12-2"));
+        assertNull(board12.getNode(topology.getNodeCount()));
+    }
+
+    @Test
+    @DisplayName("같은 구성의 보드 - 연결 구조는 공유하고 말 위치는 보드마다 따로")
+    void testSharedTopology() {
+        // Given
+        Board other = new Board(4, 2.0f);
+        Player player = new GameState(4, 2.0f, List.of("플레이어1"), List.of(2)).getPlayers().get(0);
+
+        // When
+        other.getStartNode().enter(player.getTokens().get(0));
+
+        // Then
+        assertSame(board4.getTopology(), other.getTopology());
+        assertSame(board4.getMoveTable(), other.getMoveTable());
+        assertNotSame(board5.getTopology(), board4.getTopology());
+        assertNotSame(new Board(4, 3.0f).getTopology(), board4.getTopology()); // 반지름이 다르면 좌표가 다름
+        assertNotSame(board4.getStartNode(), other.getStartNode());
+        assertTrue(board4.getStartNode().getTokens().isEmpty());
+        assertEquals(1, other.getStartNode().getTokens().size());
+    }
+}
@@ -0,0 +1,56 @@
+package com.cas.yutnoriswing.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+@DisplayName("GameSnapshot 클래스 테스트")
+class GameSnapshotTest {
+
+    @Test
+    @DisplayName("스냅샷 - 게임이 계속 바뀌어도 이전 스냅샷은 그대로, 바뀌지 않은 플레이어는 공유")
+    void testSnapshot_ImmutableWithSharing() {
+        // Given
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(2, 2));
+        List<Token> mine = gameState.getPlayers().get(0).getTokens();
+        Token theirs = gameState.getPlayers().get(1).getTokens().get(0);
+        GameSnapshot start = gameState.snapshot();
+
+        // When: 아무것도 바뀌지 않음
+        // Then: 같은 스냅샷
+        assertSame(start, gameState.snapshot());
+
+        // When: 플레이어1만 움직임
+        gameState.applyMove(mine.get(0), 2);
+        GameSnapshot moved = gameState.snapshot();
+
+        // Then: 이전 스냅샷은 그대로, 플레이어2 부분은 공유
+        assertEquals(GameSnapshot.READY, start.getPlayer(0).getLocation(0));
+        int nodeId = gameState.getBoard().findNodeByName("Edge0-2").getId();
+        assertEquals(nodeId, moved.getPlayer(0).getLocation(0));
+        assertNotSame(start.getPlayer(0), moved.getPlayer(0));
+        assertSame(start.getPlayer(1), moved.getPlayer(1));
+        assertEquals(start.getVersion() + 1, moved.getVersion());
+        assertEquals(0b01, moved.getOccupantMask(nodeId));
+
+        // When: 업기 후 상대가 잡음
+        gameState.applyMove(mine.get(1), 2);
+        GameSnapshot stacked = gameState.snapshot();
+        gameState.applyMove(theirs, 2);
+        GameSnapshot caught = gameState.snapshot();
+
+        // Then
+        assertEquals(1, stacked.getPlayer(0).getCarrier(0)); // 나중에 온 말이 대표
+        assertEquals(0b11, stacked.getPlayer(0).getTokenMaskAt(nodeId));
+        assertEquals(0b01, stacked.getOccupantMask(nodeId));
+        assertEquals(0b10, caught.getOccupantMask(nodeId));
+        assertEquals(TokenState.READY, caught.getPlayer(0).getState(0));
+        assertEquals(TokenState.ACTIVE, stacked.getPlayer(0).getState(0));
+        assertEquals(gameState.getPositionHash(), caught.getPositionHash());
+        assertSame(start.getPlayer(0).getTokenName(0), caught.getPlayer(0).getTokenName(0));
+    }
+}
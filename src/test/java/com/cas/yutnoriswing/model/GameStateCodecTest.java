@@ -0,0 +1,95 @@
+package com.cas.yutnoriswing.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+@DisplayName("GameStateCodec 클래스 테스트")
+class GameStateCodecTest {
+
+    @Test
+    @DisplayName("6각형 보드, 4명 × 말 5개 상태는 long 5개 이하로 압축 테스트")
+    void testWordCount() {
+        // Given
+        GameState gameState = new GameState(6, 2.0f,
+                Arrays.asList("A", "B", "C", "D"), Arrays.asList(5, 5, 5, 5));
+
+        // When
+        GameStateCodec codec = new GameStateCodec(gameState);
+
+        // Then
+        assertTrue(codec.getWordCount() <= 5, "long 5개 이하여야 함: " + codec.getWordCount());
+    }
+
+    @Test
+    @DisplayName("이동, 업기, 완주 후 인코딩 → 디코딩하면 같은 상태로 복원 테스트")
+    void testEncodeDecode_RoundTrip() {
+        // Given: 업힌 말, 완주한 말, 지름길로 들어간 말이 있는 게임
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(3, 2));
+        gameState.startGame();
+        List<Token> tokens1 = gameState.getPlayers().get(0).getTokens();
+        List<Token> tokens2 = gameState.getPlayers().get(1).getTokens();
+        gameState.moveToken(tokens1.get(0), 2, null);
+        gameState.moveToken(tokens1.get(1), 2, null);   // 업기
+        gameState.moveToken(tokens1.get(2), 5, null);   // 분기점 도착
+        tokens1.get(2).setNextBranchChoice(gameState.getBoard().findNodeByName("ToCenter1-1"));
+        gameState.moveToken(tokens1.get(2), 2, null);   // 지름길로 진입
+        gameState.moveToken(tokens2.get(0), 5, null);
+        gameState.moveToken(tokens2.get(0), 5, null);
+        gameState.moveToken(tokens2.get(0), 5, null);
+        gameState.moveToken(tokens2.get(0), 5, null);
+        gameState.moveToken(tokens2.get(0), 5, null);   // 완주
+        gameState.nextTurn();
+
+        GameStateCodec codec = new GameStateCodec(gameState);
+        long[] encoded = codec.encode(gameState);
+
+        // When: 새 게임에 복원
+        GameState restored = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(3, 2));
+        codec.decode(encoded, restored);
+
+        // Then
+        assertArrayEquals(encoded, codec.encode(restored));
+        List<Token> restored1 = restored.getPlayers().get(0).getTokens();
+        List<Token> restored2 = restored.getPlayers().get(1).getTokens();
+        TokenPositionManager positions = restored.getTokenPositionManager();
+        assertEquals(restored.getPlayers().get(1), restored.getCurrentPlayer());
+        assertSame(restored1.get(1), restored1.get(0).getTopMostToken());
+        assertEquals("Edge0-2", positions.getTokenPosition(restored1.get(1)).getName());
+        assertEquals("ToCenter1-2", positions.getTokenPosition(restored1.get(2)).getName());
+        assertEquals(TokenState.FINISHED, restored2.get(0).getState());
+        assertEquals(TokenState.READY, restored2.get(1).getState());
+
+        // 복원한 게임에서도 빽도가 지나온 길로 돌아가야 함
+        restored.moveToken(restored1.get(2), -1, null);
+        assertEquals("ToCenter1-1", positions.getTokenPosition(restored1.get(2)).getName());
+    }
+
+    @Test
+    @DisplayName("압축된 상태에서 위치와 현재 플레이어를 직접 읽고 쓰기 테스트")
+    void testPackedAccess() {
+        // Given
+        GameState gameState = new GameState(5, 2.0f, Arrays.asList("A", "B", "C"), Arrays.asList(2, 4, 3));
+        GameStateCodec codec = new GameStateCodec(gameState);
+        long[] state = codec.encode(gameState);
+        int nodeId = gameState.getBoard().findNodeByName("Center").getId();
+
+        // When
+        codec.setLocation(state, 1, 3, nodeId);
+        codec.setLocation(state, 2, 0, GameStateCodec.FINISHED);
+        codec.setCurrentPlayer(state, 2);
+
+        // Then
+        assertEquals(nodeId, codec.getLocation(state, 1, 3));
+        assertEquals(GameStateCodec.READY, codec.getLocation(state, 1, 2));
+        assertEquals(1, codec.getOccupant(state, nodeId));
+        assertEquals(1, codec.countFinished(state, 2));
+        assertFalse(codec.hasFinished(state, 2));
+        assertEquals(2, codec.getCurrentPlayer(state));
+        assertEquals(GameStateCodec.NONE, codec.getWinner(state));
+    }
+}
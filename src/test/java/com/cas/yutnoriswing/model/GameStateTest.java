@@ -0,0 +1,110 @@
+package com.cas.yutnoriswing.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+@DisplayName("GameState 클래스 테스트")
+class GameStateTest {
+
+    @Test
+    @DisplayName("makeMove/unmakeMove - 잡기, 업기, 완주, 분기 선택을 거친 뒤에도 이동 전 상태로 정확히 복원")
+    void testMakeUnmake_RestoresExactly() {
+        // Given: 여러 수를 둔 중반 국면
+        GameState gameState = new GameState(5, 2.0f, Arrays.asList("플레이어1", "플레이어2", "플레이어3"), Arrays.asList(3, 3, 3));
+        Random random = new Random(11);
+        int[] throwsPool = {-1, 1, 2, 3, 4, 5};
+
+        for (int round = 0; round < 300; round++) {
+            if (gameState.isGameEnded()) {
+                break;
+            }
+            // 보드 위 말에 분기 선택을 걸어 둠 (이동하면서 쓰고 지워지는 값도 복원되는지)
+            Token chooser = pick(gameState, random).getTopMostToken();
+            if (chooser.getState() == TokenState.ACTIVE) {
+                List<BoardNode> next = gameState.getTokenPositionManager().getTokenPosition(chooser).getNextNodes();
+                chooser.setNextBranchChoice(next.get(random.nextInt(next.size())));
+            }
+            String before = snapshot(gameState);
+            int depth = 1 + random.nextInt(4);
+
+            // When: 무작위로 여러 수를 두고 모두 되돌림
+            for (int d = 0; d < depth; d++) {
+                gameState.makeMove(pick(gameState, random), throwsPool[random.nextInt(throwsPool.length)]);
+                if (random.nextInt(3) == 0) {
+                    gameState.nextTurn();
+                }
+            }
+            for (int d = 0; d < depth; d++) {
+                gameState.unmakeMove();
+            }
+
+            // Then
+            assertEquals(before, snapshot(gameState), "round " + round);
+            assertEquals(0, gameState.getUndoDepth());
+
+            // 실제 게임 진행 (다음 라운드의 출발 국면)
+            Token token = pick(gameState, random);
+            gameState.applyMove(token, throwsPool[1 + random.nextInt(5)]);
+            gameState.checkVictory(token.getOwner());
+            gameState.nextTurn();
+        }
+        assertThrows(IllegalStateException.class, gameState::unmakeMove);
+    }
+
+    private static Token pick(GameState gameState, Random random) {
+        List<Token> tokens = gameState.getCurrentPlayer().getTokens();
+        return tokens.get(random.nextInt(tokens.size()));
+    }
+
+    // 복원 대상 필드를 모두 문자열로 (노드 목록은 순서와 상관없이 집합으로 비교)
+    private static String snapshot(GameState gameState) {
+        StringBuilder sb = new StringBuilder();
+        TokenPositionManager positions = gameState.getTokenPositionManager();
+        for (Player player : gameState.getPlayers()) {
+            sb.append(player.getName()).append(player.getReadyTokens()).append(player.getFinishedTokens()).append('\n');
+            for (Token token : player.getTokens()) {
+                BoardNode position = positions.getTokenPosition(token);
+                List<String> stacked = new ArrayList<>();
+                for (int i = 0; i < token.getStackedCount(); i++) {
+                    stacked.add(token.getStackedToken(i).getName());
+                }
+                int[] visits = new int[Token.PATH_HISTORY_SIZE];
+                int visitCount = token.copyVisits(visits);
+                sb.append(token.getName()).append(' ').append(token.getState())
+                        .append(" at=").append(position != null ? position.getName() : positions.getNodeId(token))
+                        .append(" carrier=").append(token.getTopMostToken().getName())
+                        .append(" stacked=").append(stacked)
+                        .append(" prev=").append(name(token.getPreviousNode()))
+                        .append(" branch=").append(name(token.getNextBranchChoice()))
+                        .append(" visits=").append(Arrays.toString(Arrays.copyOf(visits, visitCount)))
+                        .append('\n');
+            }
+        }
+        for (BoardNode node : gameState.getBoard().getNodes()) {
+            if (node.getOccupantMask() != 0) {
+                sb.append(node.getName()).append(" occupants=").append(node.getOccupantMask());
+                for (int seat = 0; seat < gameState.getPlayers().size(); seat++) {
+                    sb.append(' ').append(node.getTokenMask(seat));
+                }
+                sb.append(" size=").append(node.getTokens().size()).append('\n');
+            }
+        }
+        sb.append("turn=").append(gameState.getCurrentPlayer().getName())
+                .append(" ended=").append(gameState.isGameEnded())
+                .append(" winner=").append(gameState.getWinner())
+                .append(" hash=").append(gameState.getPositionHash())
+                .append(" check=").append(gameState.getTokenPositionManager().getZobristKeys().hashOf(gameState));
+        return sb.toString();
+    }
+
+    private static String name(BoardNode node) {
+        return node != null ? node.getName() : "-";
+    }
+}
@@ -219,4 +219,34 @@ class PlayerTest {
             assertEquals("홍길동-" + (i + 1), tokens.get(i).getName());
         }
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("상태별 말 수와 목록 - 상태가 바뀔 때마다 갱신")
+    void testStateCountsFollowSetState() {
+        // Given
+        List<Token> tokens = player.getTokens();
+        assertEquals(3, player.getTokenCount(TokenState.READY));
+
+        // When
+        tokens.get(0).setState(TokenState.ACTIVE);
+        tokens.get(2).setState(TokenState.FINISHED);
+
+        // Then
+        assertEquals(1, player.getTokenCount(TokenState.READY));
+        assertEquals(1, player.getTokenCount(TokenState.ACTIVE));
+        assertEquals(1, player.getTokenCount(TokenState.FINISHED));
+        assertEquals(List.of(tokens.get(0), tokens.get(1)), player.getMovableTokens(1));
+        assertEquals(List.of(tokens.get(0)), player.getMovableTokens(-1));
+        assertTrue(player.hasMovableToken(-1));
+        assertSame(player.getActiveTokens(), player.getBackwardMovableTokens()); // 같은 집합이면 같은 목록
+        assertThrows(UnsupportedOperationException.class, () -> player.getReadyTokens().clear());
+
+        // When: 되돌리면 이전 목록과 같아짐
+        player.resetAllTokens();
+
+        // Then
+        assertEquals(3, player.getTokenCount(TokenState.READY));
+        assertFalse(player.hasMovableToken(-1));
+        assertEquals(tokens, player.getReadyTokens());
+    }
+}
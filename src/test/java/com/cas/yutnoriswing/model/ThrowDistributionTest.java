@@ -0,0 +1,46 @@
+package com.cas.yutnoriswing.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+@DisplayName("ThrowDistribution 클래스 테스트")
+class ThrowDistributionTest {
+
+    @Test
+    @DisplayName("결과 묶음 확률의 합이 1이고 던진 순서와 상관없이 같은 묶음으로 조회되는지 테스트")
+    void testProbabilities_SumToOneAndOrderIndependent() {
+        // Given
+        ThrowDistribution distribution = ThrowDistribution.of(false, 3);
+
+        // When
+        double total = 0;
+        for (int i = 0; i < distribution.size(); i++) {
+            total += distribution.getProbability(i);
+        }
+
+        // Then: 도 1/16, 윷 → 개 = 4/16 * 4/16 (순서는 한 가지뿐), 윷 → 모 → 걸 + 모 → 윷 → 걸
+        assertEquals(1.0, total, 1e-12);
+        assertEquals(1.0 / 16, distribution.probabilityOf(Arrays.asList(1)), 1e-12);
+        assertEquals(16.0 / 256, distribution.probabilityOf(Arrays.asList(4, 2)), 1e-12);
+        assertEquals(2 * (4.0 / 16) * (1.0 / 16) * (6.0 / 16), distribution.probabilityOf(Arrays.asList(3, 5, 4)), 1e-12);
+        assertEquals(distribution.indexOf(Arrays.asList(5, 4, 3)), distribution.indexOf(Arrays.asList(3, 4, 5)));
+        assertEquals(Math.pow(5.0 / 16, 3), distribution.getTruncatedProbability(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("빽도 규칙에서는 빽도 묶음이 있고 같은 규칙의 표는 캐시되는지 테스트")
+    void testBackdo_AndCache() {
+        // Given & When
+        ThrowDistribution withBackdo = ThrowDistribution.of(true, 4);
+
+        // Then
+        assertEquals(1.0 / 16, withBackdo.probabilityOf(Arrays.asList(-1)), 1e-12);
+        assertEquals(0.0, ThrowDistribution.of(false, 4).probabilityOf(Arrays.asList(-1)));
+        assertSame(withBackdo, ThrowDistribution.of(true, 4));
+        assertTrue(withBackdo.getProbability(0) >= withBackdo.getProbability(withBackdo.size() - 1));
+    }
+}
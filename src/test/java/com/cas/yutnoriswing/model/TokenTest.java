@@ -194,6 +194,33 @@ class TokenTest {
         assertEquals(bottomToken, topToken.getTopMostToken());
     }
 
+    @Test
+    @DisplayName("업힌 말을 업을 때 그룹이 평탄화되는지 테스트")
+    void testAddStackedToken_MergesGroup() {
+        // Given: middleToken이 topToken을 업고 있음
+        Token bottomToken = owner.getTokens().get(0);
+        Token middleToken = owner.getTokens().get(1);
+        Token topToken = owner.getTokens().get(2);
+        middleToken.addStackedToken(topToken);
+
+        // When: bottomToken이 middleToken을 업음
+        bottomToken.addStackedToken(middleToken);
+
+        // Then: 모든 업힌 말이 bottomToken 밑으로 모임
+        assertEquals(2, bottomToken.getStackedCount());
+        assertTrue(bottomToken.getStackedTokens().containsAll(List.of(middleToken, topToken)));
+        assertTrue(middleToken.getStackedTokens().isEmpty());
+        assertTrue(topToken.isStacked());
+        assertEquals(bottomToken, topToken.getTopMostToken());
+
+        // When: 전체 해제
+        bottomToken.clearStackedTokens();
+
+        // Then: 각자가 다시 대표 말
+        assertFalse(middleToken.isStacked());
+        assertEquals(topToken, topToken.getTopMostToken());
+    }
+
     @Test
     @DisplayName("Token 불변 속성 테스트")
     void testTokenImmutableProperties() {
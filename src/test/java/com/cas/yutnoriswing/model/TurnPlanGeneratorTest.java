@@ -0,0 +1,62 @@
+package com.cas.yutnoriswing.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+@DisplayName("TurnPlanGenerator 클래스 테스트")
+class TurnPlanGeneratorTest {
+
+    @Test
+    @DisplayName("출발 전 말 2개로 개·윷을 받으면 순서 2가지 × 말 선택 2가지 = 계획 4개 테스트")
+    void testGenerate_OrdersAndTokens() {
+        // Given: 출발 전 말은 어느 것을 내보내도 같으므로 첫 결과에는 후보가 하나뿐
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(2, 2));
+        TurnPlanGenerator generator = new TurnPlanGenerator();
+        TurnPlanBuffer plans = new TurnPlanBuffer();
+
+        // When
+        int count = generator.generate(gameState, new int[]{4, 2}, 2, plans);
+
+        // Then
+        assertEquals(4, count, plans.toString());
+        for (int plan = 0; plan < count; plan++) {
+            assertEquals(2, plans.getLength(plan));
+            assertEquals(0, plans.getToken(plan, 0), "첫 이동은 첫 번째 말");
+        }
+        assertFalse(plans.isTruncated());
+    }
+
+    @Test
+    @DisplayName("분기점에 업힌 말 묶음은 대표 말 하나로 보고, 갈 길마다 계획을 만들며 원래 상태는 그대로 테스트")
+    void testGenerate_StackAtBranch() {
+        // Given: 두 말이 모두 첫 모서리(분기점)에 업혀 있음
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(2, 2));
+        List<Token> tokens = gameState.getPlayers().get(0).getTokens();
+        gameState.moveToken(tokens.get(0), 5, null);
+        gameState.moveToken(tokens.get(1), 5, null);
+        GameStateCodec codec = new GameStateCodec(gameState);
+        long[] before = codec.encode(gameState);
+        TurnPlanGenerator generator = new TurnPlanGenerator();
+        TurnPlanBuffer plans = new TurnPlanBuffer();
+
+        // When
+        int count = generator.generate(gameState, List.of(1), plans);
+
+        // Then: 말 묶음 1개 × 갈 길 2개
+        assertEquals(2, gameState.getMovableTokens(1).size());
+        assertEquals(2, count, plans.toString());
+        assertEquals(plans.getToken(0, 0), plans.getToken(1, 0));
+        assertNotEquals(plans.getBranch(0, 0), plans.getBranch(1, 0));
+        assertArrayEquals(before, codec.encode(gameState));
+
+        // 최대 계획 수를 넘으면 잘림
+        plans.setMaxPlans(1);
+        assertEquals(1, generator.generate(gameState, List.of(1), plans));
+        assertTrue(plans.isTruncated());
+    }
+}
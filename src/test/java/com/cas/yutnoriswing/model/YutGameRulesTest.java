@@ -266,4 +266,183 @@ class YutGameRulesTest {
         assertTrue(token1.getStackedTokens().contains(token2));
         assertNull(tokenManager.getTokenPosition(token2)); // 업힌 토큰은 위치가 null
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("applyMove 상태 비트 - 잡기/업기/완주/실패 이유와 필요할 때만 만드는 메시지")
+    void testApplyMove_StatusBits() {
+        // Given: 플레이어1 말 2개, 플레이어2 말 1개
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(2, 1));
+        List<Token> mine = gameState.getPlayers().get(0).getTokens();
+        Token theirs = gameState.getPlayers().get(1).getTokens().get(0);
+        gameState.applyMove(theirs, 2);
+
+        // When / Then: 잡기
+        int caught = gameState.applyMove(mine.get(0), 2);
+        assertTrue(YutGameRules.isSuccess(caught));
+        assertTrue(YutGameRules.isCaught(caught));
+        assertFalse(YutGameRules.isStacked(caught));
+        assertEquals("상대방 말을 잡았습니다!", YutGameRules.describeMove(caught));
+        assertEquals(TokenState.READY, theirs.getState());
+
+        // 업기
+        int stacked = gameState.applyMove(mine.get(1), 2);
+        assertEquals(YutGameRules.MOVE_SUCCESS | YutGameRules.MOVE_STACKED, stacked);
+        assertEquals("", YutGameRules.describeMove(stacked));
+
+        // 완주 (업힌 말과 함께)
+        int finished = gameState.applyMove(mine.get(0), 30);
+        assertTrue(YutGameRules.isFinished(finished));
+        assertEquals("말이 완주했습니다!", YutGameRules.toMoveResult(finished).getMessage());
+        assertEquals(TokenState.FINISHED, mine.get(1).getState());
+
+        // 실패: 대기 중인 말은 빽도 불가
+        int failed = gameState.applyMove(theirs, -1);
+        assertFalse(YutGameRules.isSuccess(failed));
+        assertEquals(YutGameRules.FAIL_BACKDO_READY, failed);
+        assertEquals("대기 중인 말은 빽도로 이동할 수 없습니다.", YutGameRules.describeMove(failed));
+    }
+
+    @Test
+    @DisplayName("여러 번 업힌 말이 잡히면 그룹 전체가 초기화")
+    void testMoveToken_CaptureResetsWholeStack() {
+        // Given: 플레이어2의 말 3개가 Edge0-2에서 차례로 업힘
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(2, 3));
+        Token attacker = gameState.getPlayers().get(0).getTokens().get(0);
+        List<Token> defenders = gameState.getPlayers().get(1).getTokens();
+        TokenPositionManager tokenManager = gameState.getTokenPositionManager();
+
+        gameState.moveToken(defenders.get(0), 2, null);
+        gameState.moveToken(defenders.get(1), 2, null);
+        gameState.moveToken(defenders.get(2), 2, null);
+        assertEquals(defenders.get(2), defenders.get(0).getTopMostToken());
+
+        // When: 플레이어1의 말이 같은 칸에 도착
+        YutGameRules.MoveResult result = gameState.moveToken(attacker, 2, null);
+
+        // Then: 업힌 말까지 모두 대기 상태로 돌아감
+        assertTrue(result.isCatched());
+        for (Token defender : defenders) {
+            assertEquals(TokenState.READY, defender.getState());
+            assertFalse(defender.isStacked());
+            assertNull(tokenManager.getTokenPosition(defender));
+        }
+    }
+
+    @Test
+    @DisplayName("빽도 - 합류 지점(Center)에서는 실제로 지나온 노드로 되돌아감")
+    void testMoveTokenBackward_FromCenterUsesHistory() {
+        // Given: 4각형 보드, 두 번째 꼭짓점(Edge1-5)에서 지름길로 Center까지 이동
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1"), Arrays.asList(1));
+        Token token = gameState.getPlayers().get(0).getTokens().get(0);
+        TokenPositionManager tokenManager = gameState.getTokenPositionManager();
+        Board board = gameState.getBoard();
+        tokenManager.placeTokenAtStart(token);
+
+        YutGameRules.moveToken(token, 5, tokenManager, null); // Edge0-5
+        YutGameRules.moveToken(token, 5, tokenManager, null); // Edge1-5
+        token.setNextBranchChoice(board.findNodeByName("ToCenter2-1"));
+        YutGameRules.moveToken(token, 3, tokenManager, null); // ToCenter2-1 → ToCenter2-2 → Center
+        assertEquals("Center", tokenManager.getTokenPosition(token).getName());
+
+        // When: 빽도
+        YutGameRules.moveTokenBackward(token, 1, tokenManager);
+
+        // Then: 보드의 첫 번째 이전 노드(ToCenter1-2)가 아니라 실제로 지나온 ToCenter2-2
+        assertEquals("ToCenter2-2", tokenManager.getTokenPosition(token).getName());
+
+        // 연속 빽도도 지나온 길을 그대로 되짚어감
+        YutGameRules.moveTokenBackward(token, 2, tokenManager);
+        assertEquals("Edge1-5", tokenManager.getTokenPosition(token).getName());
+    }
+
+    @Test
+    @DisplayName("빽도 - 지름길에서 나온 꼭짓점에서는 지름길로 되돌아감")
+    void testMoveTokenBackward_AfterShortcutExit() {
+        // Given: 4각형 보드, Center에서 ToCenter3 방향으로 나가 외곽 꼭짓점(Edge2-5)에 도착
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1"), Arrays.asList(1));
+        Token token = gameState.getPlayers().get(0).getTokens().get(0);
+        TokenPositionManager tokenManager = gameState.getTokenPositionManager();
+        Board board = gameState.getBoard();
+        tokenManager.placeTokenAtStart(token);
+
+        YutGameRules.moveToken(token, 5, tokenManager, null); // Edge0-5
+        token.setNextBranchChoice(board.findNodeByName("ToCenter1-1"));
+        YutGameRules.moveToken(token, 3, tokenManager, null); // Center
+        token.setNextBranchChoice(board.findNodeByName("ToCenter3-2"));
+        YutGameRules.moveToken(token, 3, tokenManager, null); // ToCenter3-2 → ToCenter3-1 → Edge2-5
+        assertEquals("Edge2-5", tokenManager.getTokenPosition(token).getName());
+
+        // When: 빽도
+        YutGameRules.moveTokenBackward(token, 1, tokenManager);
+
+        // Then: 외곽(Edge2-4)이 아니라 지나온 지름길(ToCenter3-1)로 돌아감
+        assertEquals("ToCenter3-1", tokenManager.getTokenPosition(token).getName());
+    }
+
+    @Test
+    @DisplayName("노드 점유 집합 - 이동, 잡기, 업기 후에도 노드의 말 목록과 일치")
+    void testNodeOccupancyMasks() {
+        // Given: 플레이어1 말 2개, 플레이어2 말 1개
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(2, 1));
+        List<Token> mine = gameState.getPlayers().get(0).getTokens();
+        Token theirs = gameState.getPlayers().get(1).getTokens().get(0);
+        TokenPositionManager tokenManager = gameState.getTokenPositionManager();
+        BoardNode node = gameState.getBoard().findNodeByName("Edge0-2");
+
+        // When: 상대 말이 먼저 도착
+        gameState.applyMove(theirs, 2);
+
+        // Then
+        assertEquals(0b10, node.getOccupantMask());
+        assertEquals(0b1, node.getTokenMask(1));
+
+        // When: 내 말이 잡고, 다른 내 말이 업힘
+        gameState.applyMove(mine.get(0), 2);
+        gameState.applyMove(mine.get(1), 2);
+
+        // Then: 노드에는 대표 말(두 번째 말)만 남음
+        assertEquals(0b01, node.getOccupantMask());
+        assertEquals(0b10, node.getTokenMask(0));
+        assertEquals(0, node.getTokenMask(1));
+        assertEquals(List.of(mine.get(1)), node.getTokens());
+
+        // When: 떠나면 비워짐
+        gameState.applyMove(mine.get(1), 1);
+
+        // Then
+        assertEquals(0, node.getOccupantMask());
+        assertTrue(node.getTokens().isEmpty());
+        assertEquals(0b10, tokenManager.getTokenPosition(mine.get(1)).getTokenMask(0)); // 업힌 말은 노드에 올리지 않음
+    }
+
+    @Test
+    @DisplayName("말 번호별 위치 - 출발 전, 보드 위, 잡힘, 완주가 노드 id 배열에 반영")
+    void testTokenPositionIds() {
+        // Given: 플레이어1 말 2개, 플레이어2 말 1개 → 말 번호 0, 1, 2
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(2, 1));
+        List<Token> mine = gameState.getPlayers().get(0).getTokens();
+        Token theirs = gameState.getPlayers().get(1).getTokens().get(0);
+        TokenPositionManager positions = gameState.getTokenPositionManager();
+        assertEquals(2, theirs.getId());
+        assertEquals(TokenPositionManager.READY, positions.getNodeId(theirs));
+        assertNull(positions.getTokenPosition(theirs));
+
+        // When: 상대 말이 나가고, 내 말이 잡음
+        gameState.applyMove(theirs, 2);
+        int nodeId = positions.getNodeId(theirs);
+        gameState.applyMove(mine.get(0), 2);
+
+        // Then
+        assertEquals(nodeId, positions.getNodeId(mine.get(0)));
+        assertSame(gameState.getBoard().getNode(nodeId), positions.getTokenPosition(mine.get(0)));
+        assertEquals(TokenPositionManager.READY, positions.getNodeId(theirs));
+
+        // When: 완주
+        gameState.applyMove(mine.get(0), 30);
+
+        // Then
+        assertEquals(TokenPositionManager.FINISHED, positions.getNodeId(mine.get(0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> positions.updateTokenPosition(new Token("외부말", mine.get(0).getOwner()), null));
+    }
+}
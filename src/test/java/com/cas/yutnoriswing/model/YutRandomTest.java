@@ -0,0 +1,75 @@
+package com.cas.yutnoriswing.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+@DisplayName("YutRandom 테스트")
+class YutRandomTest {
+
+    @Test
+    @DisplayName("같은 시드면 같은 결과, 나눈 난수원은 다른 결과를 내는지 테스트")
+    void testSeeded_Reproducible() {
+        // Given
+        YutRandom first = YutRandom.seeded(42, false);
+        YutRandom second = YutRandom.seeded(42, false);
+        int[] a = new int[100];
+        int[] b = new int[100];
+        int[] c = new int[100];
+
+        // When
+        first.nextYuts(a, 0, a.length);
+        second.nextYuts(b, 0, b.length);
+        first.split().nextYuts(c, 0, c.length);
+
+        // Then
+        assertArrayEquals(a, b);
+        assertFalse(Arrays.equals(a, c));
+    }
+
+    @Test
+    @DisplayName("한꺼번에 던진 결과가 rollYut 분포를 따르고 빽도 분포에서만 빽도가 나오는지 테스트")
+    void testNextYuts_Distribution() {
+        // Given
+        int n = 160_000;
+        int[] results = new int[n];
+        int[] backdoResults = new int[n];
+
+        // When
+        YutRandom.seeded(7, false).nextYuts(results, 0, n);
+        YutRandom.seeded(7, true).nextYuts(backdoResults, 0, n);
+
+        // Then: 각 결과의 빈도가 확률과 비슷해야 함
+        int[] counts = new int[6];
+        for (int result : results) {
+            assertTrue(result >= 1 && result <= 5, "빽도 없는 분포에서 나온 결과: " + result);
+            counts[result]++;
+        }
+        for (int steps = 1; steps <= 5; steps++) {
+            assertEquals(YutGameRules.getRollProbability(steps), (double) counts[steps] / n, 0.005);
+        }
+        long backdoCount = Arrays.stream(backdoResults).filter(r -> r == -1).count();
+        assertEquals(1.0 / 16, (double) backdoCount / n, 0.005);
+    }
+
+    @Test
+    @DisplayName("GameState에 시드 난수원을 설정하면 윷 던지기가 재현되는지 테스트")
+    void testGameStateThrowYut_Seeded() {
+        // Given
+        GameState first = new GameState(4, 2.0f, Arrays.asList("A", "B"), Arrays.asList(2, 2));
+        GameState second = new GameState(4, 2.0f, Arrays.asList("A", "B"), Arrays.asList(2, 2));
+        first.setYutRandom(YutRandom.seeded(3, false));
+        second.setYutRandom(YutRandom.seeded(3, false));
+
+        // When & Then
+        for (int i = 0; i < 20; i++) {
+            YutGameRules.YutThrowResult a = first.throwYut();
+            YutGameRules.YutThrowResult b = second.throwYut();
+            assertEquals(a.getResults(), b.getResults());
+            assertTrue(a.getResults().get(a.getResults().size() - 1) < 4);
+        }
+    }
+}
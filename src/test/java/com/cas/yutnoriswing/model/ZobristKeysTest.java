@@ -0,0 +1,64 @@
+package com.cas.yutnoriswing.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+@DisplayName("ZobristKeys 국면 해시 테스트")
+class ZobristKeysTest {
+
+    private GameState newGame() {
+        GameState gameState = new GameState(4, 2.0f, Arrays.asList("플레이어1", "플레이어2"), Arrays.asList(3, 2));
+        gameState.startGame();
+        return gameState;
+    }
+
+    @Test
+    @DisplayName("이동, 업기, 잡기, 완주 후 증분 해시가 처음부터 계산한 해시와 같은지 테스트")
+    void testIncrementalHash_MatchesFullHash() {
+        // Given
+        GameState gameState = newGame();
+        ZobristKeys keys = gameState.getTokenPositionManager().getZobristKeys();
+        List<Token> tokens1 = gameState.getPlayers().get(0).getTokens();
+        List<Token> tokens2 = gameState.getPlayers().get(1).getTokens();
+        int[][] moves = {
+                {0, 0, 2}, {0, 1, 2},          // 업기
+                {1, 0, 1}, {1, 0, 1},          // 업힌 말 잡기
+                {0, 2, 5}, {0, 2, 5}, {0, 2, 5}, {0, 2, 5}, {0, 2, 5}, // 완주
+                {1, 1, 3}, {1, 1, -1}          // 빽도
+        };
+
+        for (int[] move : moves) {
+            // When
+            List<Token> tokens = move[0] == 0 ? tokens1 : tokens2;
+            gameState.moveToken(tokens.get(move[1]), move[2], null);
+            gameState.nextTurn();
+
+            // Then
+            assertEquals(keys.hashOf(gameState), gameState.getPositionHash());
+        }
+        assertEquals(TokenState.READY, tokens1.get(0).getState());
+        assertEquals(TokenState.FINISHED, tokens1.get(2).getState());
+    }
+
+    @Test
+    @DisplayName("던진 결과 순서를 바꿔도 같은 국면이면 같은 해시, 차례가 다르면 다른 해시 테스트")
+    void testSamePosition_SameHash() {
+        // Given: 같은 결과(개, 도)를 다른 순서로 사용한 두 게임
+        GameState first = newGame();
+        GameState second = newGame();
+        first.moveToken(first.getPlayers().get(0).getTokens().get(0), 2, null);
+        first.moveToken(first.getPlayers().get(0).getTokens().get(1), 1, null);
+        second.moveToken(second.getPlayers().get(0).getTokens().get(1), 1, null);
+        second.moveToken(second.getPlayers().get(0).getTokens().get(0), 2, null);
+
+        // When & Then
+        assertEquals(first.getPositionHash(), second.getPositionHash());
+        second.nextTurn();
+        assertNotEquals(first.getPositionHash(), second.getPositionHash());
+    }
+}